@@ -0,0 +1,37 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class TaskControllerBenchmark {
+
+    private TaskController controller;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        controller = new TaskController(null, null);
+        task = Task.builder()
+                .id(new TaskId(UUID.randomUUID()))
+                .userId(new UserId(UUID.randomUUID()))
+                .listId(new ListId(UUID.randomUUID()))
+                .title("Comprar pão")
+                .description("Padaria da esquina, antes das 8h")
+                .completed(true)
+                .dueDate(LocalDate.of(2025, 3, 14))
+                .build();
+    }
+
+    @Benchmark
+    public TaskDTO mapToDTO() {
+        return controller.mapToDTO(task);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Task port throughput of the {@code memory} profile against the JPA adapter on an in-memory H2,
+ * both on {@value #USERS} users with {@value #TASKS_PER_USER} tasks each. The heap retained per
+ * task after loading, H2's rows and caches included, is printed once per fork. The user lookup
+ * costs one {@code findById} on top of {@code findAllByUserId}.
+ */
+@State(Scope.Benchmark)
+public class RepositoryAdapterBenchmark {
+
+    private static final int USERS = 100;
+    private static final int TASKS_PER_USER = 100;
+
+    @Param({"memory", "jpa"})
+    public String adapter;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepositoryPort tasks;
+    private final long[] taskIds = new long[USERS * TASKS_PER_USER * 2];
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StartTasklist.class)
+                .profiles(adapter.equals("memory") ? new String[]{"memory"} : new String[0])
+                .run("--spring.datasource.url=jdbc:h2:mem:bench-" + adapter + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--server.port=0",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--logging.level.root=warn",
+                        "--logging.level.br.com.jtech.tasklist=warn");
+        tasks = context.getBean(TaskRepositoryPort.class);
+        var lists = context.getBean(TaskListRepositoryPort.class);
+        long before = usedHeap();
+        for (int u = 0; u < USERS; u++) {
+            UserId userId = new UserId(UUID.randomUUID());
+            ListId listId = lists.save(TaskList.builder().userId(userId).name("Lista").build()).getId();
+            for (int t = 0; t < TASKS_PER_USER; t++) {
+                var id = tasks.save(Task.builder().userId(userId).listId(listId)
+                        .title("Tarefa " + t).description("Descrição da tarefa " + t).build()).getId().value();
+                int at = (u * TASKS_PER_USER + t) * 2;
+                taskIds[at] = id.getMostSignificantBits();
+                taskIds[at + 1] = id.getLeastSignificantBits();
+            }
+        }
+        long perTask = (usedHeap() - before) / (USERS * TASKS_PER_USER);
+        System.out.printf("%n::: %s: ~%d bytes of heap per task%n", adapter, perTask);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private TaskId anyId() {
+        int at = ThreadLocalRandom.current().nextInt(USERS * TASKS_PER_USER) * 2;
+        return new TaskId(new UUID(taskIds[at], taskIds[at + 1]));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Task> findById() {
+        return tasks.findById(anyId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Task> findAllByUserId() {
+        return tasks.findAllByUserId(tasks.findById(anyId()).orElseThrow().getUserId());
+    }
+
+    @Benchmark
+    public Task update() {
+        Task task = tasks.findById(anyId()).orElseThrow();
+        task.setCompleted(!task.isCompleted());
+        return tasks.update(task);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class TaskRepositoryBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int LISTS = 20;
+
+    /** A task as mapped when ids were strings: every id of every row formatted on the read path. */
+    record StringIdTask(String id, String userId, String listId, String title, String description,
+                        boolean completed, LocalDate dueDate) {
+    }
+
+    private TaskRepository repository;
+    private TaskEntity entity;
+    private Task task;
+    private List<TaskEntity> resultSet;
+
+    @Setup
+    public void setUp() {
+        repository = new TaskRepository(null, null);
+        entity = TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .listId(UUID.randomUUID())
+                .title("Comprar pão")
+                .description("Padaria da esquina, antes das 8h")
+                .completed(false)
+                .dueDate(LocalDate.of(2025, 3, 14))
+                .build();
+        task = repository.toDomain(entity);
+        UUID userId = UUID.randomUUID();
+        List<UUID> listIds = new ArrayList<>();
+        for (int i = 0; i < LISTS; i++) {
+            listIds.add(UUID.randomUUID());
+        }
+        resultSet = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            resultSet.add(TaskEntity.builder()
+                    .id(UUID.randomUUID())
+                    .userId(userId)
+                    .listId(listIds.get(i % LISTS))
+                    .title("Tarefa " + i)
+                    .completed(i % 3 == 0)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Task toDomain() {
+        return repository.toDomain(entity);
+    }
+
+    @Benchmark
+    public TaskEntity toEntity() {
+        return repository.toEntity(task);
+    }
+
+    /** One user's 10k rows mapped to string ids, as the read path did before the typed ids. */
+    @Benchmark
+    public List<StringIdTask> toDomainStringIds() {
+        List<StringIdTask> tasks = new ArrayList<>(resultSet.size());
+        for (TaskEntity e : resultSet) {
+            tasks.add(new StringIdTask(e.getId().toString(), e.getUserId().toString(), e.getListId().toString(),
+                    e.getTitle(), e.getDescription(), e.isCompleted(), e.getDueDate()));
+        }
+        return tasks;
+    }
+
+    /** The same rows mapped to typed ids, which wrap the entity's UUIDs without formatting them. */
+    @Benchmark
+    public List<Task> toDomainTypedIds() {
+        return repository.toDomain(resultSet);
+    }
+
+    /** String ids down to the response DTOs, which only copy the already formatted ids. */
+    @Benchmark
+    public List<TaskDTO> toResponseStringIds() {
+        List<StringIdTask> tasks = toDomainStringIds();
+        List<TaskDTO> dtos = new ArrayList<>(tasks.size());
+        for (StringIdTask t : tasks) {
+            dtos.add(new TaskDTO(t.id(), t.title(), t.description(), t.dueDate() != null ? t.dueDate().toString() : null,
+                    t.completed(), t.userId(), t.listId()));
+        }
+        return dtos;
+    }
+
+    /** Typed ids down to the response DTOs, where each id is formatted at the edge. */
+    @Benchmark
+    public List<TaskDTO> toResponseTypedIds() {
+        List<Task> tasks = toDomainTypedIds();
+        List<TaskDTO> dtos = new ArrayList<>(tasks.size());
+        for (Task t : tasks) {
+            dtos.add(TaskDTO.of(t));
+        }
+        return dtos;
+    }
+}
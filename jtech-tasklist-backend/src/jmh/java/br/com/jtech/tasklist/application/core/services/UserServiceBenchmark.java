@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    @Param({"maria.silva@jtech.com.br", "invalid-email@"})
+    public String email;
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return UserService.isValidEmail(email);
+    }
+}
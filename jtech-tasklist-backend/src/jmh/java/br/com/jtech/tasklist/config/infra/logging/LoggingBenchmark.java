@@ -0,0 +1,96 @@
+package br.com.jtech.tasklist.config.infra.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.util.FileSize;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Cost on the calling thread of one log statement. {@code sync} is the previous setup (pattern
+ * layout, file appender flushing every event); {@code async} is the logback-spring.xml pipeline
+ * (batching async appender in front of a buffered JSON file appender).
+ */
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async"})
+    public String pipeline;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path dir;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("logging-bench");
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        var file = new FileAppender<ILoggingEvent>();
+        file.setContext(context);
+        file.setFile(dir.resolve("tasklist.log").toString());
+        if (pipeline.equals("sync")) {
+            var encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t --- %-40.40logger{39} : %m%n");
+            encoder.start();
+            file.setEncoder(encoder);
+        } else {
+            var encoder = new JsonEncoder();
+            encoder.setContext(context);
+            encoder.setWithSequenceNumber(false);
+            encoder.setWithNanoseconds(false);
+            encoder.setWithContext(false);
+            encoder.setWithMessage(false);
+            encoder.setWithArguments(false);
+            encoder.setWithFormattedMessage(true);
+            encoder.start();
+            file.setEncoder(encoder);
+            file.setImmediateFlush(false);
+            file.setBufferSize(FileSize.valueOf("64KB"));
+        }
+        file.start();
+        logger = context.getLogger("br.com.jtech.tasklist.bench");
+        logger.setLevel(Level.DEBUG);
+        logger.setAdditive(false);
+        if (pipeline.equals("sync")) {
+            logger.addAppender(file);
+        } else {
+            var async = new BatchingAsyncAppender();
+            async.setContext(context);
+            async.setName("async");
+            async.addAppender(file);
+            async.start();
+            logger.addAppender(async);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void info() {
+        logger.info("Task {} toggled by user {}", "c0a80101-0000-0000-0000-000000000001", "user-1");
+    }
+
+    @Benchmark
+    public void debug() {
+        logger.debug("Loaded {} tasks for list {}", 42, "c0a80101-0000-0000-0000-000000000002");
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.Optional;
+
+/**
+ * Per-call cost of the port metrics decorator: {@code metered - plainProxy} is the price of the
+ * timer and result-size updates, {@code metered - direct} the full overhead seen by callers.
+ */
+@State(Scope.Benchmark)
+public class MeteredInvocationBenchmark {
+
+    public interface Lookup {
+        Optional<String> find(String id);
+    }
+
+    public static class InMemoryLookup implements Lookup {
+        @Override
+        public Optional<String> find(String id) {
+            return Optional.of(id);
+        }
+    }
+
+    private Lookup direct;
+    private Lookup plainProxy;
+    private Lookup metered;
+
+    @Setup
+    public void setUp() {
+        direct = new InMemoryLookup();
+        var plain = new ProxyFactory(new InMemoryLookup());
+        plain.addInterface(Lookup.class);
+        plainProxy = (Lookup) plain.getProxy();
+        var registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        var factory = new ProxyFactory(new InMemoryLookup());
+        factory.addInterface(Lookup.class);
+        factory.addAdvice(new MeteredInvocationInterceptor("Lookup", () -> registry));
+        metered = (Lookup) factory.getProxy();
+    }
+
+    @Benchmark
+    public Optional<String> direct() {
+        return direct.find("id");
+    }
+
+    @Benchmark
+    public Optional<String> plainProxy() {
+        return plainProxy.find("id");
+    }
+
+    @Benchmark
+    public Optional<String> metered() {
+        return metered.find("id");
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encode/decode cost of a 1000-task response as JSON, Smile and CBOR, all built from
+ * {@link Jsons#configure}. Payload sizes are printed once per fork.
+ */
+@State(Scope.Benchmark)
+public class BinaryEncodingBenchmark {
+
+    private static final TypeReference<List<TaskDTO>> TASKS = new TypeReference<>() { };
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private List<TaskDTO> tasks;
+    private byte[] payload;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        String userId = UUID.randomUUID().toString();
+        String listId = UUID.randomUUID().toString();
+        tasks = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(new TaskDTO(UUID.randomUUID().toString(), "Tarefa " + i, "Descrição da tarefa " + i,
+                    "2025-03-" + (10 + i % 18), i % 3 == 0, userId, listId));
+        }
+        ObjectMapper mapper = switch (format) {
+            case "smile" -> Jsons.configure(Jackson2ObjectMapperBuilder.smile()).build();
+            case "cbor" -> Jsons.configure(Jackson2ObjectMapperBuilder.cbor()).build();
+            default -> Jsons.getMapper();
+        };
+        writer = mapper.writerFor(mapper.constructType(TASKS.getType()));
+        reader = mapper.readerFor(mapper.constructType(TASKS.getType()));
+        payload = writer.writeValueAsBytes(tasks);
+        System.out.println(format + " payload: " + payload.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDTO> decode() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class GenIdBenchmark {
+
+    @Benchmark
+    public String newId() {
+        return GenId.newId();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class JsonsBenchmark {
+
+    private TaskDTO dto;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        dto = new TaskDTO(UUID.randomUUID().toString(), "Comprar pão", "Padaria da esquina, antes das 8h",
+                "2025-03-14", false, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        json = Jsons.toJsonString(dto);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return Jsons.toJsonString(dto);
+    }
+
+    @Benchmark
+    public TaskDTO parseJsonString() {
+        return Jsons.parseJsonString(json, TaskDTO.class);
+    }
+}
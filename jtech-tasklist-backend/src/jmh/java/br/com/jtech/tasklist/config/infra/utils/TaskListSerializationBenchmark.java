@@ -0,0 +1,60 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A 1000-task response: Spring's default mapper vs the shared tuned mapper.
+ */
+@State(Scope.Benchmark)
+public class TaskListSerializationBenchmark {
+
+    private static final TypeReference<List<TaskDTO>> TASKS = new TypeReference<>() { };
+
+    private List<TaskDTO> tasks;
+    private byte[] json;
+    private ObjectMapper defaultMapper;
+    private ObjectMapper tunedMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        String userId = UUID.randomUUID().toString();
+        String listId = UUID.randomUUID().toString();
+        tasks = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            tasks.add(new TaskDTO(UUID.randomUUID().toString(), "Tarefa " + i, "Descrição da tarefa " + i,
+                    "2025-03-" + (10 + i % 18), i % 3 == 0, userId, listId));
+        }
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        tunedMapper = Jsons.getMapper();
+        json = tunedMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] writeDefaultMapper() throws IOException {
+        return defaultMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] writeTunedMapper() throws IOException {
+        return tunedMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDTO> readDefaultMapper() throws IOException {
+        return defaultMapper.readValue(json, TASKS);
+    }
+
+    @Benchmark
+    public List<TaskDTO> readTunedMapper() throws IOException {
+        return tunedMapper.readValue(json, TASKS);
+    }
+}
@@ -0,0 +1,263 @@
+package br.com.jtech.tasklist.loadtest;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.loadtest.LoadTestConfig.Operation;
+import br.com.jtech.tasklist.loadtest.TasklistClient.Session;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: boots the application on an in-memory H2 database, seeds synthetic
+ * users, lists and tasks through the HTTP API, replays a weighted mix of requests and writes
+ * per-endpoint HDR histograms ({@code *.hgrm}) and a {@code summary.json} to the output folder.
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--rate=300 --duration=60s --concurrency=64"
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestConfig config;
+    private final TasklistClient client;
+    private final List<UserState> users = new ArrayList<>();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Operation[] wheel;
+
+    LoadTest(LoadTestConfig config, TasklistClient client) {
+        this.config = config;
+        this.client = client;
+        List<Operation> slots = new ArrayList<>();
+        config.mix().forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(op);
+            }
+        });
+        this.wheel = slots.toArray(Operation[]::new);
+        for (Operation op : Operation.values()) {
+            recorders.put(op, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(op, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        var config = LoadTestConfig.parse(args);
+        Files.createDirectories(config.output());
+        ConfigurableApplicationContext context = new SpringApplication(StartTasklist.class).run(
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--logging.level.root=warn",
+                "--logging.level.br.com.jtech.tasklist=warn",
+                "--logging.file.name=" + config.output().resolve("application.log"));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var test = new LoadTest(config, new TasklistClient("http://127.0.0.1:" + port));
+            test.seed();
+            test.run();
+        } finally {
+            context.close();
+        }
+    }
+
+    void seed() throws IOException, InterruptedException {
+        var random = new Random(config.seed());
+        for (int u = 0; u < config.users(); u++) {
+            String email = "load" + u + "@jtech.com.br";
+            client.register("Load User " + u, email, "secret" + u);
+            var state = new UserState(client.login(email, "secret" + u));
+            for (int l = 0; l < config.listsPerUser(); l++) {
+                String listId = client.createList(state.session, "Lista " + l);
+                state.lists.add(listId);
+                for (int t = 0; t < config.tasksPerList(); t++) {
+                    String taskId = client.createTask(state.session, listId, "Tarefa " + l + "-" + t + "-" + random.nextInt(1_000_000));
+                    state.tasks.add(taskId);
+                }
+            }
+            users.add(state);
+        }
+        System.out.printf("Seeded %d users, %d lists, %d tasks%n", users.size(),
+                users.size() * config.listsPerUser(), users.size() * config.listsPerUser() * config.tasksPerList());
+    }
+
+    void run() throws Exception {
+        drive(config.warmup().toNanos());
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        long started = System.nanoTime();
+        drive(config.duration().toNanos());
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        report(elapsedSeconds);
+    }
+
+    private void drive(long durationNanos) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        long end = System.nanoTime() + durationNanos;
+        if (config.rate() > 0) {
+            long interval = (long) (1e9 / config.rate());
+            long next = System.nanoTime();
+            while (next < end) {
+                long intended = next;
+                workers.execute(() -> execute(intended));
+                next += interval;
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+        } else {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        execute(System.nanoTime());
+                    }
+                });
+            }
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void execute(long intendedStart) {
+        var random = ThreadLocalRandom.current();
+        Operation op = wheel[random.nextInt(wheel.length)];
+        UserState user = users.get(random.nextInt(users.size()));
+        try {
+            switch (op) {
+                case LOGIN -> user.session = client.login(user.session.email(), user.session.password());
+                case REFRESH -> user.session = client.refresh(user.session);
+                case LIST_LISTS -> client.listLists(user.session);
+                case LIST_TASKS -> client.listTasks(user.session, user.randomList(random));
+                case CREATE_TASK -> user.addTask(client.createTask(user.session, user.randomList(random),
+                        "Nova " + user.sequence.incrementAndGet() + "-" + random.nextInt(1_000_000)));
+                case TOGGLE_TASK -> {
+                    String taskId = user.randomTask(random, false);
+                    if (taskId != null) {
+                        client.toggleTask(user.session, taskId, random.nextBoolean());
+                    }
+                }
+                case DELETE_TASK -> {
+                    String taskId = user.randomTask(random, true);
+                    if (taskId != null) {
+                        client.deleteTask(user.session, taskId);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            errors.get(op).increment();
+        }
+        long micros = (System.nanoTime() - intendedStart) / 1_000;
+        recorders.get(op).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private void report(double elapsedSeconds) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        System.out.printf("%n%-12s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation op : Operation.values()) {
+            Histogram histogram = recorders.get(op).getIntervalHistogram();
+            long errorCount = errors.get(op).sum();
+            total.add(histogram);
+            totalErrors += errorCount;
+            endpoints.put(op.name().toLowerCase(), summarize(histogram, errorCount, elapsedSeconds));
+            print(op.name().toLowerCase(), histogram, errorCount, elapsedSeconds);
+            try (var out = new PrintStream(Files.newOutputStream(config.output().resolve(op.name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        print("total", total, totalErrors, elapsedSeconds);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", java.time.Instant.now().toString());
+        summary.put("config", Map.of(
+                "users", config.users(), "listsPerUser", config.listsPerUser(), "tasksPerList", config.tasksPerList(),
+                "concurrency", config.concurrency(), "rate", config.rate(), "durationSeconds", config.duration().toSeconds(),
+                "mix", config.mix()));
+        summary.put("total", summarize(total, totalErrors, elapsedSeconds));
+        summary.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.output().resolve("summary.json").toFile(), summary);
+        System.out.println("Results written to " + config.output().toAbsolutePath());
+    }
+
+    private Map<String, Object> summarize(Histogram h, long errorCount, double elapsedSeconds) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", h.getTotalCount());
+        m.put("errors", errorCount);
+        m.put("throughputPerSecond", h.getTotalCount() / elapsedSeconds);
+        m.put("meanMs", h.getMean() / 1000.0);
+        m.put("p50Ms", h.getValueAtPercentile(50) / 1000.0);
+        m.put("p95Ms", h.getValueAtPercentile(95) / 1000.0);
+        m.put("p99Ms", h.getValueAtPercentile(99) / 1000.0);
+        m.put("p999Ms", h.getValueAtPercentile(99.9) / 1000.0);
+        m.put("maxMs", h.getMaxValue() / 1000.0);
+        return m;
+    }
+
+    private void print(String name, Histogram h, long errorCount, double elapsedSeconds) {
+        System.out.printf("%-12s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, h.getTotalCount(), errorCount,
+                h.getTotalCount() / elapsedSeconds, h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(95) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0, h.getMaxValue() / 1000.0);
+    }
+
+    private static final class UserState {
+        private volatile Session session;
+        private final List<String> lists = new ArrayList<>();
+        private final List<String> tasks = new ArrayList<>();
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private UserState(Session session) {
+            this.session = session;
+        }
+
+        private String randomList(ThreadLocalRandom random) {
+            return lists.get(random.nextInt(lists.size()));
+        }
+
+        private synchronized void addTask(String id) {
+            tasks.add(id);
+        }
+
+        private synchronized String randomTask(ThreadLocalRandom random, boolean remove) {
+            if (tasks.isEmpty()) {
+                return null;
+            }
+            int i = random.nextInt(tasks.size());
+            if (!remove) {
+                return tasks.get(i);
+            }
+            String last = tasks.remove(tasks.size() - 1);
+            return i == tasks.size() ? last : tasks.set(i, last);
+        }
+    }
+}
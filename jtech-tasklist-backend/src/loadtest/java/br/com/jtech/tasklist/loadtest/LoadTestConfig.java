@@ -0,0 +1,64 @@
+package br.com.jtech.tasklist.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code --key=value} arguments. A {@code rate} of zero runs
+ * closed-loop (every worker fires as soon as its previous request returns); any positive
+ * rate runs open-loop and measures latency from each request's intended start time.
+ */
+public record LoadTestConfig(
+        int users,
+        int listsPerUser,
+        int tasksPerList,
+        int concurrency,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        Path output,
+        Map<Operation, Integer> mix
+) {
+
+    public enum Operation {
+        LOGIN, REFRESH, LIST_LISTS, LIST_TASKS, CREATE_TASK, TOGGLE_TASK, DELETE_TASK
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        mix.put(Operation.LOGIN, 2);
+        mix.put(Operation.REFRESH, 3);
+        mix.put(Operation.LIST_LISTS, 20);
+        mix.put(Operation.LIST_TASKS, 40);
+        mix.put(Operation.CREATE_TASK, 15);
+        mix.put(Operation.TOGGLE_TASK, 15);
+        mix.put(Operation.DELETE_TASK, 5);
+        if (values.containsKey("mix")) {
+            for (String part : values.get("mix").split(",")) {
+                String[] kv = part.split(":");
+                mix.put(Operation.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+            }
+        }
+        return new LoadTestConfig(
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Integer.parseInt(values.getOrDefault("lists", "5")),
+                Integer.parseInt(values.getOrDefault("tasks", "50")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Double.parseDouble(values.getOrDefault("rate", "500")),
+                Duration.parse("PT" + values.getOrDefault("warmup", "10s").toUpperCase()),
+                Duration.parse("PT" + values.getOrDefault("duration", "60s").toUpperCase()),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("out", "build/loadtest")),
+                mix);
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.jtech.tasklist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin blocking client over the public HTTP API, used both to seed data and to drive the workload.
+ */
+public class TasklistClient {
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public TasklistClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public record Session(String userId, String email, String password, String token, String refreshToken) {
+
+        Session withToken(String newToken) {
+            return new Session(userId, email, password, newToken, refreshToken);
+        }
+    }
+
+    public String register(String name, String email, String password) throws IOException, InterruptedException {
+        return send(post("/auth/register", Map.of("name", name, "email", email, "password", password), null)).get("id").asText();
+    }
+
+    public Session login(String email, String password) throws IOException, InterruptedException {
+        JsonNode body = send(post("/auth/login", Map.of("email", email, "password", password), null));
+        return new Session(body.get("user").get("id").asText(), email, password,
+                body.get("token").asText(), body.get("refreshToken").asText());
+    }
+
+    public Session refresh(Session session) throws IOException, InterruptedException {
+        JsonNode body = send(post("/auth/refresh-token", Map.of("refreshToken", session.refreshToken()), null));
+        return session.withToken(body.get("token").asText());
+    }
+
+    public JsonNode listLists(Session session) throws IOException, InterruptedException {
+        return send(authorized(HttpRequest.newBuilder(uri("/tasklists")).GET(), session));
+    }
+
+    public String createList(Session session, String name) throws IOException, InterruptedException {
+        return send(post("/tasklists", Map.of("name", name, "userId", session.userId()), session)).get("id").asText();
+    }
+
+    public JsonNode listTasks(Session session, String listId) throws IOException, InterruptedException {
+        return send(authorized(HttpRequest.newBuilder(uri("/tasks/list/" + listId)).GET(), session));
+    }
+
+    public String createTask(Session session, String listId, String title) throws IOException, InterruptedException {
+        return send(post("/tasks", Map.of("title", title, "description", "Gerada pelo teste de carga",
+                "userId", session.userId(), "listId", listId), session)).get("id").asText();
+    }
+
+    public void toggleTask(Session session, String taskId, boolean completed) throws IOException, InterruptedException {
+        send(authorized(HttpRequest.newBuilder(uri("/tasks/" + taskId))
+                .method("PATCH", body(Map.of("completed", completed))), session));
+    }
+
+    public void deleteTask(Session session, String taskId) throws IOException, InterruptedException {
+        send(authorized(HttpRequest.newBuilder(uri("/tasks/" + taskId)).DELETE(), session));
+    }
+
+    private HttpRequest.Builder post(String path, Object payload, Session session) throws IOException {
+        var builder = HttpRequest.newBuilder(uri(path)).POST(body(payload));
+        return session != null ? authorized(builder, session) : builder.header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder, Session session) {
+        return builder.header("Authorization", "Bearer " + session.token())
+                .header("X-User-Id", session.userId())
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(payload));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private JsonNode send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(builder.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IOException("HTTP " + response.statusCode() + " " + response.uri());
+        }
+        return response.body().length == 0 ? mapper.nullNode() : mapper.readTree(response.body());
+    }
+}
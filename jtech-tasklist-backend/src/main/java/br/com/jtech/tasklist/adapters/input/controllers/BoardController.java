@@ -0,0 +1,35 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.dtos.BoardListDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import br.com.jtech.tasklist.application.core.domains.BoardList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.BoardService;
+import br.com.jtech.tasklist.config.infra.sql.StatementBudget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/board")
+@RequiredArgsConstructor
+public class BoardController {
+
+    private final BoardService service;
+
+    @GetMapping
+    @StatementBudget(3)
+    public ResponseEntity<List<BoardListDTO>> getBoard(@RequestParam(defaultValue = "20") int tasksPerList,
+                                                       @RequestHeader("X-User-Id") UserId userId) {
+        return ResponseEntity.ok(service.getBoard(userId, tasksPerList).stream().map(this::mapToDTO).collect(Collectors.toList()));
+    }
+
+    protected BoardListDTO mapToDTO(BoardList list) {
+        var summary = list.getSummary();
+        return new BoardListDTO(summary.getListId().toString(), summary.getName(), summary.getTotal(), summary.getCompleted(), summary.getOverdue(),
+                list.getTasks().stream().map(TaskDTO::of).collect(Collectors.toList()));
+    }
+}
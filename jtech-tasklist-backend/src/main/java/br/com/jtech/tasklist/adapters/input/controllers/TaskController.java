@@ -1,13 +1,26 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskIdsDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskMultiGetDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskQueryParams;
+import br.com.jtech.tasklist.adapters.input.dtos.TitleSuggestionDTO;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.TitleSuggestionService;
+import br.com.jtech.tasklist.config.infra.sql.StatementBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -16,9 +29,11 @@ import java.util.stream.Collectors;
 public class TaskController {
 
     private final TaskService service;
+    private final TitleSuggestionService titleSuggestions;
 
     @PostMapping
-    public ResponseEntity<TaskDTO> create(@RequestBody Task task, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(4)
+    public ResponseEntity<TaskDTO> create(@RequestBody Task task, @RequestHeader("X-User-Id") UserId userId) {
         if (!task.getUserId().equals(userId)) {
             return ResponseEntity.status(403).build(); // Forbidden
         }
@@ -26,42 +41,102 @@ public class TaskController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> getById(@PathVariable String id, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(1)
+    public ResponseEntity<TaskDTO> getById(@PathVariable TaskId id, @RequestHeader("X-User-Id") UserId userId) {
         return service.getById(id, userId)
                 .map(this::mapToDTO)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping(value = "/{id}", params = "includeArchived")
+    @StatementBudget(2)
+    public ResponseEntity<TaskDTO> getByIdIncludingArchived(@PathVariable TaskId id, @RequestParam boolean includeArchived,
+                                                            @RequestHeader("X-User-Id") UserId userId) {
+        return service.getById(id, userId, includeArchived)
+                .map(this::mapToDTO)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/_mget")
+    @StatementBudget(1)
+    public ResponseEntity<TaskMultiGetDTO> getByIds(@RequestBody TaskIdsDTO request, @RequestHeader("X-User-Id") UserId userId) {
+        List<Task> found = service.getByIds(request.getIds(), userId);
+        Set<TaskId> foundIds = found.stream().map(Task::getId).collect(Collectors.toSet());
+        List<TaskId> missing = request.getIds().stream().distinct().filter(id -> !foundIds.contains(id)).toList();
+        return ResponseEntity.ok(new TaskMultiGetDTO(found.stream().map(this::mapToDTO).collect(Collectors.toList()), missing));
+    }
+
+    @GetMapping("/suggestions")
+    @StatementBudget(1)
+    public ResponseEntity<List<TitleSuggestionDTO>> suggestTitles(@RequestParam(defaultValue = "") String prefix,
+                                                                  @RequestParam(required = false) ListId listId,
+                                                                  @RequestParam(defaultValue = "10") int limit,
+                                                                  @RequestHeader("X-User-Id") UserId userId) {
+        return ResponseEntity.ok(titleSuggestions.suggest(userId, prefix, listId, limit).stream()
+                .map(s -> new TitleSuggestionDTO(s.title(), s.existsInList()))
+                .collect(Collectors.toList()));
+    }
+
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TaskDTO>> getByUser(@PathVariable String userId) {
+    @StatementBudget(1)
+    public ResponseEntity<List<TaskDTO>> getByUser(@PathVariable UserId userId) {
         return ResponseEntity.ok(service.getByUser(userId).stream().map(this::mapToDTO).collect(Collectors.toList()));
     }
 
+    @GetMapping(value = "/user/{userId}", params = "fields")
+    @StatementBudget(1)
+    public ResponseEntity<List<Map<String, Object>>> getByUserFields(@PathVariable UserId userId, @RequestParam String fields) {
+        var query = TaskQuery.builder().userId(userId).fields(TaskQuery.Field.parse(fields)).build();
+        return ResponseEntity.ok(mapToFields(service.search(query), query.getFields()));
+    }
+
     @GetMapping("/list/{listId}")
-    public ResponseEntity<List<TaskDTO>> getByList(@PathVariable String listId, @RequestHeader("X-User-Id") String userId) {
-        return ResponseEntity.ok(service.getByList(listId, userId).stream().map(this::mapToDTO).collect(Collectors.toList()));
+    @StatementBudget(1)
+    public ResponseEntity<List<TaskDTO>> getByList(@PathVariable ListId listId, TaskQueryParams params, @RequestHeader("X-User-Id") UserId userId) {
+        return ResponseEntity.ok(service.search(params.toQuery(userId, listId)).stream().map(this::mapToDTO).collect(Collectors.toList()));
+    }
+
+    @GetMapping(value = "/list/{listId}", params = "fields")
+    @StatementBudget(1)
+    public ResponseEntity<List<Map<String, Object>>> getByListFields(@PathVariable ListId listId, TaskQueryParams params, @RequestParam String fields,
+                                                                     @RequestHeader("X-User-Id") UserId userId) {
+        var query = params.toQuery(userId, listId).toBuilder().fields(TaskQuery.Field.parse(fields)).build();
+        return ResponseEntity.ok(mapToFields(service.search(query), query.getFields()));
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAll(@RequestHeader("X-User-Id") String userId) {
-        return ResponseEntity.ok(service.getByUser(userId).stream().map(this::mapToDTO).collect(Collectors.toList()));
+    @StatementBudget(1)
+    public ResponseEntity<List<TaskDTO>> getAll(TaskQueryParams params, @RequestHeader("X-User-Id") UserId userId) {
+        return ResponseEntity.ok(service.search(params.toQuery(userId, null)).stream().map(this::mapToDTO).collect(Collectors.toList()));
+    }
+
+    @GetMapping(params = "fields")
+    @StatementBudget(1)
+    public ResponseEntity<List<Map<String, Object>>> getAllFields(TaskQueryParams params, @RequestParam String fields,
+                                                                  @RequestHeader("X-User-Id") UserId userId) {
+        var query = params.toQuery(userId, null).toBuilder().fields(TaskQuery.Field.parse(fields)).build();
+        return ResponseEntity.ok(mapToFields(service.search(query), query.getFields()));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDTO> update(@PathVariable String id, @RequestBody Task task, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(4)
+    public ResponseEntity<TaskDTO> update(@PathVariable TaskId id, @RequestBody Task task, @RequestHeader("X-User-Id") UserId userId) {
         task.setId(id);
         return ResponseEntity.ok(mapToDTO(service.update(task, userId)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(4)
+    public ResponseEntity<Void> delete(@PathVariable TaskId id, @RequestHeader("X-User-Id") UserId userId) {
         service.delete(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<TaskDTO> toggleCompleted(@PathVariable String id, @RequestBody ToggleRequest req, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(4)
+    public ResponseEntity<TaskDTO> toggleCompleted(@PathVariable TaskId id, @RequestBody ToggleRequest req, @RequestHeader("X-User-Id") UserId userId) {
         Task updated = service.toggleCompleted(id, req.completed, userId);
         return ResponseEntity.ok(mapToDTO(updated));
     }
@@ -71,6 +146,26 @@ public class TaskController {
     }
 
     protected TaskDTO mapToDTO(Task task) {
-        return new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate() != null ? task.getDueDate().toString() : null, task.isCompleted(), task.getUserId(), task.getListId());
+        return TaskDTO.of(task);
+    }
+
+    /** Sparse {@link TaskDTO}: only the requested properties, in {@link TaskQuery.Field} order. */
+    protected List<Map<String, Object>> mapToFields(List<Task> tasks, Set<TaskQuery.Field> fields) {
+        return tasks.stream().map(task -> {
+            TaskDTO dto = mapToDTO(task);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (TaskQuery.Field field : fields) {
+                values.put(field.getProperty(), switch (field) {
+                    case ID -> dto.getId();
+                    case TITLE -> dto.getTitle();
+                    case DESCRIPTION -> dto.getDescription();
+                    case DUE_DATE -> dto.getDueDate();
+                    case COMPLETED -> dto.getCompleted();
+                    case USER_ID -> dto.getUserId();
+                    case LIST_ID -> dto.getListId();
+                });
+            }
+            return values;
+        }).collect(Collectors.toList());
     }
 }
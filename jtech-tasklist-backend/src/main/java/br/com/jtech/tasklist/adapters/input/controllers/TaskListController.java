@@ -1,8 +1,12 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.dtos.TaskListDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskListSummaryDTO;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.config.infra.sql.StatementBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,12 +22,22 @@ public class TaskListController {
     private final TaskListService service;
 
     @PostMapping
+    @StatementBudget(1)
     public ResponseEntity<TaskListDTO> create(@RequestBody TaskList taskList) {
         return ResponseEntity.ok(mapToDTO(service.create(taskList)));
     }
 
+    @GetMapping("/summary")
+    @StatementBudget(2)
+    public ResponseEntity<List<TaskListSummaryDTO>> getSummary(@RequestHeader("X-User-Id") UserId userId) {
+        return ResponseEntity.ok(service.getSummaries(userId).stream()
+                .map(s -> new TaskListSummaryDTO(s.getListId().toString(), s.getName(), s.getTotal(), s.getCompleted(), s.getOverdue()))
+                .collect(Collectors.toList()));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TaskListDTO> getById(@PathVariable String id, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(1)
+    public ResponseEntity<TaskListDTO> getById(@PathVariable ListId id, @RequestHeader("X-User-Id") UserId userId) {
         return service.getById(id, userId)
                 .map(this::mapToDTO)
                 .map(ResponseEntity::ok)
@@ -31,28 +45,32 @@ public class TaskListController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TaskListDTO>> getByUser(@PathVariable String userId) {
+    @StatementBudget(1)
+    public ResponseEntity<List<TaskListDTO>> getByUser(@PathVariable UserId userId) {
         return ResponseEntity.ok(service.getByUser(userId).stream().map(this::mapToDTO).collect(Collectors.toList()));
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskListDTO>> getAll(@RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(1)
+    public ResponseEntity<List<TaskListDTO>> getAll(@RequestHeader("X-User-Id") UserId userId) {
         return ResponseEntity.ok(service.getByUser(userId).stream().map(this::mapToDTO).collect(Collectors.toList()));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<TaskListDTO> update(@PathVariable String id, @RequestBody TaskList taskList, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(3)
+    public ResponseEntity<TaskListDTO> update(@PathVariable ListId id, @RequestBody TaskList taskList, @RequestHeader("X-User-Id") UserId userId) {
         taskList.setId(id);
         return ResponseEntity.ok(mapToDTO(service.update(taskList, userId)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable String id, @RequestHeader("X-User-Id") String userId) {
+    @StatementBudget(5)
+    public ResponseEntity<Void> delete(@PathVariable ListId id, @RequestHeader("X-User-Id") UserId userId) {
         service.delete(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     protected TaskListDTO mapToDTO(TaskList taskList) {
-        return new TaskListDTO(taskList.getId(), taskList.getName(), taskList.getUserId());
+        return new TaskListDTO(taskList.getId().toString(), taskList.getName(), taskList.getUserId().toString());
     }
 }
@@ -3,6 +3,7 @@ package br.com.jtech.tasklist.adapters.input.controllers;
 import br.com.jtech.tasklist.adapters.input.dtos.LoginDto;
 import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
 import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.services.RefreshTokenService;
 import br.com.jtech.tasklist.application.core.services.UserService;
 import br.com.jtech.tasklist.config.security.JwtUtil;
@@ -27,7 +28,7 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<User> getById(@PathVariable String id) {
+    public ResponseEntity<User> getById(@PathVariable UserId id) {
         return service.getById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -40,7 +41,7 @@ public class UserController {
         var user = service.login(email, password);
 
         if (user != null) {
-            String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+            String token = jwtUtil.generateToken(user.getId().toString(), user.getEmail());
             var refreshToken = refreshTokenService.create(user.getId());
             return ResponseEntity.ok(Map.of(
                     "user", Map.of(
@@ -61,9 +62,9 @@ public class UserController {
         var opt = refreshTokenService.validate(refreshToken);
         if (opt.isPresent()) {
             var rt = opt.get();
-            var user = service.getById(rt.getUserId().toString()).orElse(null);
+            var user = service.getById(new UserId(rt.getUserId())).orElse(null);
             if (user == null) return ResponseEntity.status(401).body(Map.of("error", "Invalid user"));
-            String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+            String token = jwtUtil.generateToken(user.getId().toString(), user.getEmail());
             return ResponseEntity.ok(Map.of(
                     "token", token
             ));
@@ -0,0 +1,24 @@
+package br.com.jtech.tasklist.adapters.input.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardListDTO {
+    private String id;
+
+    private String name;
+
+    private Long total;
+
+    private Long completed;
+
+    private Long overdue;
+
+    private List<TaskDTO> tasks;
+}
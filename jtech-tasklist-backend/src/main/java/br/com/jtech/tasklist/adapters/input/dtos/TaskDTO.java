@@ -1,9 +1,12 @@
 package br.com.jtech.tasklist.adapters.input.dtos;
 
+import br.com.jtech.tasklist.application.core.domains.Task;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -21,4 +24,8 @@ public class TaskDTO {
     private String userId;
 
     private String listId;
+
+    public static TaskDTO of(Task task) {
+        return new TaskDTO(Objects.toString(task.getId(), null), task.getTitle(), task.getDescription(), task.getDueDate() != null ? task.getDueDate().toString() : null, task.isCompleted(), Objects.toString(task.getUserId(), null), Objects.toString(task.getListId(), null));
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.adapters.input.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskListSummaryDTO {
+    private String id;
+
+    private String name;
+
+    private Long total;
+
+    private Long completed;
+
+    private Long overdue;
+}
@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.adapters.input.dtos;
+
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskMultiGetDTO {
+    private List<TaskDTO> found;
+
+    private List<TaskId> missing;
+}
@@ -0,0 +1,55 @@
+package br.com.jtech.tasklist.adapters.input.dtos;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskQueryParams {
+    private Boolean completed;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    private String q;
+
+    private String sort;
+
+    private String direction;
+
+    private Integer limit;
+
+    private boolean includeArchived;
+
+    public TaskQuery toQuery(UserId userId, ListId listId) {
+        if (limit != null && (limit < 1 || limit > TaskQuery.MAX_LIMIT)) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + TaskQuery.MAX_LIMIT + ".");
+        }
+        if (direction != null && !direction.equalsIgnoreCase("asc") && !direction.equalsIgnoreCase("desc")) {
+            throw new IllegalArgumentException("Direção de ordenação inválida: " + direction);
+        }
+        return TaskQuery.builder()
+                .userId(userId)
+                .listId(listId)
+                .completed(completed)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .titlePrefix(q != null && !q.isBlank() ? q : null)
+                .sortField(sort != null && !sort.isBlank() ? TaskQuery.SortField.of(sort) : null)
+                .descending("desc".equalsIgnoreCase(direction))
+                .limit(limit)
+                .includeArchived(includeArchived)
+                .build();
+    }
+}
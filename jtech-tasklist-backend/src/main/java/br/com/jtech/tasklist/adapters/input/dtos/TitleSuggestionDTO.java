@@ -0,0 +1,14 @@
+package br.com.jtech.tasklist.adapters.input.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TitleSuggestionDTO {
+    private String title;
+
+    private Boolean existsInList;
+}
@@ -42,7 +42,7 @@ public class TasklistResponse implements Serializable {
 
     public static TasklistResponse of(TaskList tasklist) {
         return TasklistResponse.builder()
-                .id(tasklist.getId())
+                .id(tasklist.getId().toString())
                 .build();
     }
 
@@ -12,26 +12,110 @@
 */
 package br.com.jtech.tasklist.adapters.output;
 
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskListEntity;
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
 import br.com.jtech.tasklist.application.ports.output.CreateTasklistOutputGateway;
-import lombok.RequiredArgsConstructor;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.config.infra.batching.GroupCommitBatcher;
+import br.com.jtech.tasklist.config.infra.datasource.ReadYourWritesTracker;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
 
 /**
 * class TasklistAdapter 
 * 
 * user angelo.vicente  
+*
+* Creates task lists with group commit: concurrent creates are gathered for up to
+* {@code tasklist.tasklists.group-commit.window} or {@code max-batch} lists and inserted in one
+* transaction. A duplicate name only fails its own caller. At most
+* {@code tasklist.tasklists.group-commit.queue-capacity} creates wait per shard; beyond that
+* they are rejected. The insert runs on the batch thread,
+* so the caller is pinned to the primary here once its list is committed. Each shard has its own
+* batch, as one transaction only ever writes to one shard.
 */
 @Component
-@RequiredArgsConstructor
 public class CreateTasklistAdapter implements CreateTasklistOutputGateway {
 
-    // private final TasklistRepository repository;
+    private final TaskListRepositoryPort repository;
+    private final DomainEventOutboxPort events;
+    private final TransactionTemplate transactions;
+    private final ObjectProvider<ReadYourWritesTracker> tracker;
+    private final ShardRouter shards;
+    private final List<GroupCommitBatcher<TaskList, TaskList>> batchers;
+
+    public CreateTasklistAdapter(TaskListRepositoryPort repository,
+                                 DomainEventOutboxPort events,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectProvider<ReadYourWritesTracker> tracker,
+                                 ShardRouter shards,
+                                 @Value("${tasklist.tasklists.group-commit.max-batch:64}") int maxBatch,
+                                 @Value("${tasklist.tasklists.group-commit.window:2ms}") Duration window,
+                                 @Value("${tasklist.tasklists.group-commit.queue-capacity:1024}") int queueCapacity) {
+        this.repository = repository;
+        this.events = events;
+        this.transactions = new TransactionTemplate(transactionManager);
+        this.tracker = tracker;
+        this.shards = shards;
+        this.batchers = IntStream.range(0, shards.shardCount())
+                .mapToObj(shard -> new GroupCommitBatcher<>(
+                        shards.shardCount() == 1 ? "tasklist-create" : "tasklist-create-" + shard,
+                        this::insert, maxBatch, window, queueCapacity))
+                .toList();
+    }
 
     @Override
     public TaskList create(TaskList tasklist) {
-       // return this.repository.save(tasklist);
-          return tasklist;
+        TaskList saved = batchers.get(shards.shardOfUser(tasklist.getUserId().value())).submit(tasklist);
+        var readYourWrites = tracker.getIfAvailable();
+        String writer = readYourWrites != null ? readYourWrites.currentUser() : null;
+        if (writer != null) {
+            readYourWrites.recordWrite(writer);
+        }
+        return saved;
     }
 
-}
\ No newline at end of file
+    @PreDestroy
+    public void close() {
+        batchers.forEach(GroupCommitBatcher::close);
+    }
+
+    private List<TaskList> insert(List<TaskList> batch) {
+        try {
+            return transactions.execute(status -> {
+                List<TaskList> saved = repository.saveAll(batch);
+                events.append(saved.stream().map(list -> DomainEvent.of(DomainEvent.Type.CREATED, list)).toList());
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1 && violates(e, TaskListEntity.UNIQUE_NAME)) {
+                throw new IllegalArgumentException("Já existe uma lista com esse nome.");
+            }
+            throw e;
+        }
+    }
+
+    private static boolean violates(Throwable e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
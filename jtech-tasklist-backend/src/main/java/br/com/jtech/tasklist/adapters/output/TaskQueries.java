@@ -0,0 +1,49 @@
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The task queries of {@link br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort}
+ * evaluated over tasks already in memory, for the adapters that are not backed by SQL.
+ */
+public final class TaskQueries {
+
+    /** Same order as the first page the relational adapter ranks in SQL. */
+    private static final Comparator<Task> FIRST_PAGE = Comparator.comparing(Task::isCompleted)
+            .thenComparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Task::getTitle);
+
+    private TaskQueries() {
+    }
+
+    /** Filters, sorts, limits and projects {@code tasks} as {@code query} asks. */
+    public static List<Task> search(Collection<Task> tasks, TaskQuery query) {
+        Stream<Task> found = tasks.stream().filter(query::matches);
+        if (query.getSortField() != null) {
+            found = found.sorted(query.comparator());
+        }
+        if (query.getLimit() != null) {
+            found = found.limit(query.getLimit());
+        }
+        return found.map(query::project).collect(Collectors.toList());
+    }
+
+    /** The first {@code perList} tasks of every list, lists in id order. */
+    public static List<Task> firstPageOfEachList(Collection<Task> tasks, int perList) {
+        Map<ListId, List<Task>> byList = tasks.stream()
+                .collect(Collectors.groupingBy(Task::getListId, TreeMap::new, Collectors.toList()));
+        return byList.values().stream()
+                .flatMap(list -> list.stream().sorted(FIRST_PAGE).limit(perList))
+                .collect(Collectors.toList());
+    }
+}
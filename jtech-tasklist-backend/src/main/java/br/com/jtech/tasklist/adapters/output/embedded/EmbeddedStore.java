@@ -0,0 +1,408 @@
+package br.com.jtech.tasklist.adapters.output.embedded;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskListEntity;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.config.infra.storage.AppendOnlyLog;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Tasks, lists and users of the {@code embedded} profile, held in memory and made durable by an
+ * {@link AppendOnlyLog} in {@code tasklist.embedded.dir}. Each write is one log record holding
+ * all of its changes, so it is recovered whole or not at all; the full state is written as a
+ * snapshot by {@link br.com.jtech.tasklist.config.infra.jobs.EmbeddedSnapshotJob}, on shutdown
+ * and whenever the log runs out of room. Only the log rotation and a shallow copy of the maps
+ * happen under the write lock; serializing and writing the snapshot does not block writers.
+ *
+ * <p>Readers see the primary maps and the user, list and title indexes under a read lock and get
+ * copies, never the stored objects.
+ */
+@Slf4j
+@Component
+@Profile("embedded")
+public class EmbeddedStore {
+
+    enum Op { PUT_TASK, DELETE_TASK, PUT_LIST, DELETE_LIST, PUT_USER }
+
+    record Entry(Op op, Task task, TaskList list, User user, UUID id) {
+
+        static Entry put(Task task) {
+            return new Entry(Op.PUT_TASK, task, null, null, null);
+        }
+
+        static Entry put(TaskList list) {
+            return new Entry(Op.PUT_LIST, null, list, null, null);
+        }
+
+        static Entry put(User user) {
+            return new Entry(Op.PUT_USER, null, null, user, null);
+        }
+
+        static Entry delete(Op op, UUID id) {
+            return new Entry(op, null, null, null, id);
+        }
+    }
+
+    record State(List<Task> tasks, List<TaskList> lists, List<User> users) {
+    }
+
+    /** The state as of a log rotation, waiting to be written as that generation's snapshot. */
+    private record Capture(long generation, int records, State state) {
+    }
+
+    /** Read-only view handed to queries while the read lock is held. */
+    final class View {
+
+        Optional<Task> task(TaskId id) {
+            return Optional.ofNullable(tasks.get(id)).map(EmbeddedStore::copy);
+        }
+
+        List<Task> tasks() {
+            return tasks.values().stream().map(EmbeddedStore::copy).toList();
+        }
+
+        List<Task> tasksOfUser(UserId userId) {
+            return tasksOf(tasksByUser, userId);
+        }
+
+        List<Task> tasksOfList(ListId listId) {
+            return tasksOf(tasksByList, listId);
+        }
+
+        boolean titleExists(ListId listId, String title) {
+            return titlesByList.getOrDefault(listId, Map.of()).containsKey(title);
+        }
+
+        boolean listHasTasks(ListId listId) {
+            return !tasksByList.getOrDefault(listId, Set.of()).isEmpty();
+        }
+
+        Optional<TaskList> list(ListId id) {
+            return Optional.ofNullable(lists.get(id)).map(EmbeddedStore::copy);
+        }
+
+        List<TaskList> lists() {
+            return lists.values().stream().map(EmbeddedStore::copy).toList();
+        }
+
+        List<TaskList> listsOfUser(UserId userId) {
+            return listsByUser.getOrDefault(userId, Set.of()).stream()
+                    .map(lists::get).map(EmbeddedStore::copy).toList();
+        }
+
+        Optional<User> user(UserId id) {
+            return Optional.ofNullable(users.get(id)).map(EmbeddedStore::copy);
+        }
+
+        Optional<User> userByEmail(String email) {
+            return Optional.ofNullable(usersByEmail.get(email)).map(users::get).map(EmbeddedStore::copy);
+        }
+
+        private <K> List<Task> tasksOf(Map<K, Set<TaskId>> index, K key) {
+            return index.getOrDefault(key, Set.of()).stream()
+                    .map(tasks::get).map(EmbeddedStore::copy).toList();
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock snapshots = new ReentrantLock();
+    private final View view = new View();
+
+    private final Map<TaskId, Task> tasks = new LinkedHashMap<>();
+    private final Map<ListId, TaskList> lists = new LinkedHashMap<>();
+    private final Map<UserId, User> users = new HashMap<>();
+    private final Map<UserId, Set<TaskId>> tasksByUser = new HashMap<>();
+    private final Map<ListId, Set<TaskId>> tasksByList = new HashMap<>();
+    private final Map<ListId, Map<String, Integer>> titlesByList = new HashMap<>();
+    private final Map<UserId, Set<ListId>> listsByUser = new HashMap<>();
+    private final Map<String, ListId> listsByName = new HashMap<>();
+    private final Map<String, UserId> usersByEmail = new HashMap<>();
+
+    private final AppendOnlyLog journal;
+    private int pending;
+    private long snapshotted = -1;
+
+    public EmbeddedStore(@Value("${tasklist.embedded.dir:./data}") Path dir,
+                         @Value("${tasklist.embedded.log-size:64MB}") DataSize logSize,
+                         @Value("${tasklist.embedded.sync:true}") boolean sync) {
+        this.journal = new AppendOnlyLog(dir.resolve("store"), Math.toIntExact(logSize.toBytes()), sync);
+    }
+
+    @PostConstruct
+    void recover() {
+        lock.writeLock().lock();
+        try {
+            journal.recover(snapshot -> {
+                State state = read(snapshot, State.class);
+                state.users().forEach(user -> apply(Entry.put(user)));
+                state.lists().forEach(list -> apply(Entry.put(list)));
+                state.tasks().forEach(task -> apply(Entry.put(task)));
+            }, record -> {
+                for (Entry entry : read(record, Entry[].class)) {
+                    apply(entry);
+                }
+                pending++;
+            });
+            log.info("::: Embedded store holds {} user(s), {} list(s) and {} task(s).", users.size(), lists.size(), tasks.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    <T> T read(Function<View, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(view);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Checks, logs and applies {@code entries} as one unit. */
+    void write(List<Entry> entries) {
+        write(view -> entries);
+    }
+
+    /**
+     * Builds the entries from the current state and checks, logs and applies them in the same
+     * write lock, so a read-modify-write cannot overwrite or revive a row changed in between.
+     * Returns the entries written.
+     */
+    List<Entry> write(Function<View, List<Entry>> changes) {
+        Capture full = null;
+        List<Entry> entries;
+        lock.writeLock().lock();
+        try {
+            entries = changes.apply(view);
+            if (entries.isEmpty()) {
+                return entries;
+            }
+            check(entries);
+            byte[] record = bytes(entries);
+            if (!journal.fits(record.length)) {
+                full = captureLocked();
+            }
+            journal.append(record);
+            pending++;
+            entries.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (full != null) {
+            persist(full);
+        }
+        return entries;
+    }
+
+    /** Writes the whole state as a new snapshot and starts an empty log; a no-op when nothing was logged since the last one. */
+    public int snapshot() {
+        Capture capture;
+        lock.writeLock().lock();
+        try {
+            if (pending == 0) {
+                return 0;
+            }
+            capture = captureLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        persist(capture);
+        return capture.records();
+    }
+
+    @PreDestroy
+    void close() {
+        snapshot();
+        lock.writeLock().lock();
+        try {
+            journal.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts the next log generation and copies the maps as of that point. Stored objects are
+     * replaced on every change and never mutated, so copying the references is enough.
+     */
+    private Capture captureLocked() {
+        var state = new State(List.copyOf(tasks.values()), List.copyOf(lists.values()), List.copyOf(users.values()));
+        var capture = new Capture(journal.rotate(), pending, state);
+        pending = 0;
+        return capture;
+    }
+
+    /** Serializes and writes a capture outside the write lock; a capture older than the last one written is dropped. */
+    private void persist(Capture capture) {
+        snapshots.lock();
+        try {
+            if (capture.generation() > snapshotted) {
+                journal.snapshot(capture.generation(), bytes(capture.state()));
+                snapshotted = capture.generation();
+            }
+        } finally {
+            snapshots.unlock();
+        }
+    }
+
+    /** The unique constraints of the relational schema: one list name per user, one user per email. */
+    private void check(List<Entry> entries) {
+        Map<String, ListId> names = new HashMap<>();
+        Map<String, UserId> emails = new HashMap<>();
+        for (Entry entry : entries) {
+            if (entry.op() == Op.PUT_LIST) {
+                String key = nameKey(entry.list());
+                ListId owner = names.containsKey(key) ? names.get(key) : listsByName.get(key);
+                if (owner != null && !owner.equals(entry.list().getId())) {
+                    throw new DataIntegrityViolationException("Lista duplicada: " + entry.list().getName(),
+                            new ConstraintViolationException("Lista duplicada: " + entry.list().getName(), null, TaskListEntity.UNIQUE_NAME));
+                }
+                names.put(key, entry.list().getId());
+            } else if (entry.op() == Op.PUT_USER) {
+                String email = entry.user().getEmail();
+                UserId owner = emails.containsKey(email) ? emails.get(email) : usersByEmail.get(email);
+                if (owner != null && !owner.equals(entry.user().getId())) {
+                    throw new DataIntegrityViolationException("Email duplicado: " + email);
+                }
+                emails.put(email, entry.user().getId());
+            }
+        }
+    }
+
+    private void apply(Entry entry) {
+        switch (entry.op()) {
+            case PUT_TASK -> {
+                Task task = copy(entry.task());
+                removeTask(task.getId());
+                tasks.put(task.getId(), task);
+                tasksByUser.computeIfAbsent(task.getUserId(), k -> new LinkedHashSet<>()).add(task.getId());
+                tasksByList.computeIfAbsent(task.getListId(), k -> new LinkedHashSet<>()).add(task.getId());
+                titlesByList.computeIfAbsent(task.getListId(), k -> new HashMap<>()).merge(task.getTitle(), 1, Integer::sum);
+            }
+            case DELETE_TASK -> removeTask(new TaskId(entry.id()));
+            case PUT_LIST -> {
+                TaskList list = copy(entry.list());
+                removeList(list.getId());
+                lists.put(list.getId(), list);
+                listsByUser.computeIfAbsent(list.getUserId(), k -> new LinkedHashSet<>()).add(list.getId());
+                listsByName.put(nameKey(list), list.getId());
+            }
+            case DELETE_LIST -> removeList(new ListId(entry.id()));
+            case PUT_USER -> {
+                User user = copy(entry.user());
+                User previous = users.put(user.getId(), user);
+                if (previous != null) {
+                    usersByEmail.remove(previous.getEmail());
+                }
+                usersByEmail.put(user.getEmail(), user.getId());
+            }
+        }
+    }
+
+    private void removeTask(TaskId id) {
+        Task task = tasks.remove(id);
+        if (task == null) {
+            return;
+        }
+        unindex(tasksByUser, task.getUserId(), id);
+        unindex(tasksByList, task.getListId(), id);
+        var titles = titlesByList.get(task.getListId());
+        titles.computeIfPresent(task.getTitle(), (k, count) -> count > 1 ? count - 1 : null);
+        if (titles.isEmpty()) {
+            titlesByList.remove(task.getListId());
+        }
+    }
+
+    private void removeList(ListId id) {
+        TaskList list = lists.remove(id);
+        if (list != null) {
+            unindex(listsByUser, list.getUserId(), id);
+            listsByName.remove(nameKey(list));
+        }
+    }
+
+    private static <K, V> void unindex(Map<K, Set<V>> index, K key, V id) {
+        var ids = index.get(key);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static String nameKey(TaskList list) {
+        return list.getUserId().toString() + '\u0000' + list.getName();
+    }
+
+    private static byte[] bytes(Object value) {
+        try {
+            return Jsons.getMapper().writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T read(byte[] bytes, Class<T> type) {
+        try {
+            return Jsons.getMapper().readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Task copy(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .userId(task.getUserId())
+                .listId(task.getListId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .completed(task.isCompleted())
+                .dueDate(task.getDueDate())
+                .build();
+    }
+
+    static TaskList copy(TaskList list) {
+        return TaskList.builder().id(list.getId()).userId(list.getUserId()).name(list.getName()).build();
+    }
+
+    static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .build();
+    }
+}
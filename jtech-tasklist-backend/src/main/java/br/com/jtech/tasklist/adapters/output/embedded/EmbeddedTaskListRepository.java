@@ -0,0 +1,103 @@
+package br.com.jtech.tasklist.adapters.output.embedded;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Lists of the {@code embedded} profile. Totals are counted off the store's list index when a
+ * summary is read, so there are no stored counters to increment or reconcile.
+ */
+@Component
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedTaskListRepository implements TaskListRepositoryPort {
+
+    private final EmbeddedStore store;
+
+    @Override
+    public TaskList save(TaskList taskList) {
+        return saveAll(List.of(taskList)).get(0);
+    }
+
+    @Override
+    public List<TaskList> saveAll(List<TaskList> taskLists) {
+        List<TaskList> saved = taskLists.stream().map(this::withId).toList();
+        store.write(saved.stream().map(EmbeddedStore.Entry::put).toList());
+        return saved.stream().map(EmbeddedStore::copy).collect(Collectors.toList());
+    }
+
+    private TaskList withId(TaskList taskList) {
+        TaskList copy = EmbeddedStore.copy(taskList);
+        if (copy.getId() == null) {
+            copy.setId(new ListId(ShardKeys.newId(ShardKeys.slotOf(copy.getUserId().value()))));
+        }
+        return copy;
+    }
+
+    @Override
+    public TaskList update(TaskList taskList) {
+        store.write(List.of(EmbeddedStore.Entry.put(taskList)));
+        return EmbeddedStore.copy(taskList);
+    }
+
+    @Override
+    public Optional<TaskList> findById(ListId id) {
+        return store.read(view -> view.list(id));
+    }
+
+    @Override
+    public List<TaskList> findAll() {
+        return store.read(EmbeddedStore.View::lists);
+    }
+
+    @Override
+    public List<TaskList> findAllByUserId(UserId userId) {
+        return store.read(view -> view.listsOfUser(userId));
+    }
+
+    @Override
+    public void deleteById(ListId id) {
+        store.write(List.of(EmbeddedStore.Entry.delete(EmbeddedStore.Op.DELETE_LIST, id.value())));
+    }
+
+    @Override
+    public void incrementCounters(ListId id, long total, long completed) {
+    }
+
+    @Override
+    public List<TaskListSummary> findSummariesByUserId(UserId userId, LocalDate today) {
+        return store.read(view -> view.listsOfUser(userId).stream()
+                .map(list -> summary(list, view.tasksOfList(list.getId()), today))
+                .collect(Collectors.toList()));
+    }
+
+    private static TaskListSummary summary(TaskList list, List<Task> tasks, LocalDate today) {
+        return TaskListSummary.builder()
+                .listId(list.getId())
+                .name(list.getName())
+                .total(tasks.size())
+                .completed(tasks.stream().filter(Task::isCompleted).count())
+                .overdue(tasks.stream()
+                        .filter(task -> !task.isCompleted() && task.getDueDate() != null && task.getDueDate().isBefore(today))
+                        .count())
+                .build();
+    }
+
+    @Override
+    public int reconcileCounters() {
+        return 0;
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.jtech.tasklist.adapters.output.embedded;
+
+import br.com.jtech.tasklist.adapters.output.TaskQueries;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedTaskRepository implements TaskRepositoryPort {
+
+    private final EmbeddedStore store;
+
+    @Override
+    public Task save(Task task) {
+        Task saved = EmbeddedStore.copy(task);
+        if (saved.getId() == null) {
+            saved.setId(new TaskId(ShardKeys.newId(ShardKeys.slotOf(task.getUserId().value()))));
+        }
+        store.write(List.of(EmbeddedStore.Entry.put(saved)));
+        return saved;
+    }
+
+    @Override
+    public Task update(Task task) {
+        store.write(List.of(EmbeddedStore.Entry.put(task)));
+        return EmbeddedStore.copy(task);
+    }
+
+    @Override
+    public List<TaskId> updateCompleted(Collection<TaskId> ids, boolean completed) {
+        return store.write(view -> ids.stream()
+                        .flatMap(id -> view.task(id).stream())
+                        .filter(task -> task.isCompleted() != completed)
+                        .map(task -> {
+                            task.setCompleted(completed);
+                            return EmbeddedStore.Entry.put(task);
+                        })
+                        .toList())
+                .stream().map(entry -> entry.task().getId()).toList();
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId id) {
+        return store.read(view -> view.task(id));
+    }
+
+    @Override
+    public List<Task> findAllByIds(Collection<TaskId> ids, UserId userId) {
+        return store.read(view -> ids.stream()
+                .flatMap(id -> view.task(id).stream())
+                .filter(task -> task.getUserId().equals(userId))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return store.read(EmbeddedStore.View::tasks);
+    }
+
+    @Override
+    public List<Task> findAllByUserId(UserId userId) {
+        return store.read(view -> view.tasksOfUser(userId));
+    }
+
+    @Override
+    public List<Task> findAllByListId(ListId listId) {
+        return store.read(view -> view.tasksOfList(listId));
+    }
+
+    @Override
+    public List<Task> findFirstPageOfEachList(UserId userId, int perList) {
+        return TaskQueries.firstPageOfEachList(store.read(view -> view.tasksOfUser(userId)), perList);
+    }
+
+    /** Narrows through the list or user index, then filters, sorts and projects in memory. */
+    @Override
+    public List<Task> findAll(TaskQuery query) {
+        return TaskQueries.search(store.read(view -> query.getListId() != null
+                ? view.tasksOfList(query.getListId()) : view.tasksOfUser(query.getUserId())), query);
+    }
+
+    @Override
+    public void deleteById(TaskId id) {
+        store.write(List.of(EmbeddedStore.Entry.delete(EmbeddedStore.Op.DELETE_TASK, id.value())));
+    }
+
+    @Override
+    public boolean existsByTitleAndListId(String title, ListId listId) {
+        return store.read(view -> view.titleExists(listId, title));
+    }
+
+    @Override
+    public boolean existsByListId(ListId listId) {
+        return store.read(view -> view.listHasTasks(listId));
+    }
+}
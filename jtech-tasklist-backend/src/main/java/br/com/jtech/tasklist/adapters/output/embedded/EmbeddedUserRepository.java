@@ -0,0 +1,43 @@
+package br.com.jtech.tasklist.adapters.output.embedded;
+
+import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
+import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.UserRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedUserRepository implements UserRepositoryPort {
+
+    private final EmbeddedStore store;
+
+    @Override
+    public User save(UserDto user) {
+        var saved = User.builder()
+                .id(new UserId(ShardKeys.newId(ShardKeys.slotOfEmail(user.email()))))
+                .name(user.name())
+                .email(user.email())
+                .password(user.password())
+                .build();
+        store.write(List.of(EmbeddedStore.Entry.put(saved)));
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        return store.read(view -> view.user(id));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return store.read(view -> view.userByEmail(email));
+    }
+}
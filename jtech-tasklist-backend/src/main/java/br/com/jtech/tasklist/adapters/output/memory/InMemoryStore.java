@@ -0,0 +1,195 @@
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.config.infra.collections.UuidList;
+import br.com.jtech.tasklist.config.infra.collections.UuidMap;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Users, lists and tasks of the {@code memory} profile. Rows are compact records keyed by their
+ * id's two {@code long} halves in {@link UuidMap}s, with {@link UuidList} indexes of tasks by
+ * user and by list and of lists by user.
+ *
+ * <p>The data is split into {@code tasklist.memory.stripes} stripes, each behind its own
+ * read-write lock. A user and everything they own live in the stripe of the user's id slot, and
+ * new ids carry that slot, so a lookup by id goes straight to one stripe and readers of different
+ * users never contend. Ids minted elsewhere are found by probing the other stripes.
+ */
+@Component
+@Profile("memory")
+public class InMemoryStore {
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    record StoredTask(long userHi, long userLo, long listHi, long listLo,
+                      String title, String description, boolean completed, int dueDay) {
+    }
+
+    record StoredList(long userHi, long userLo, String name) {
+    }
+
+    record StoredUser(String name, String email, String password) {
+    }
+
+    static final class Stripe {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final UuidMap<StoredTask> tasks = new UuidMap<>();
+        final UuidMap<StoredList> lists = new UuidMap<>();
+        final UuidMap<StoredUser> users = new UuidMap<>();
+        final UuidMap<UuidList> tasksByUser = new UuidMap<>();
+        final UuidMap<UuidList> tasksByList = new UuidMap<>();
+        final UuidMap<UuidList> listsByUser = new UuidMap<>();
+
+        void putTask(long hi, long lo, StoredTask task) {
+            removeTask(hi, lo);
+            tasks.put(hi, lo, task);
+            index(tasksByUser, task.userHi(), task.userLo(), hi, lo);
+            index(tasksByList, task.listHi(), task.listLo(), hi, lo);
+        }
+
+        StoredTask removeTask(long hi, long lo) {
+            StoredTask task = tasks.remove(hi, lo);
+            if (task != null) {
+                unindex(tasksByUser, task.userHi(), task.userLo(), hi, lo);
+                unindex(tasksByList, task.listHi(), task.listLo(), hi, lo);
+            }
+            return task;
+        }
+
+        void putList(long hi, long lo, StoredList list) {
+            removeList(hi, lo);
+            lists.put(hi, lo, list);
+            index(listsByUser, list.userHi(), list.userLo(), hi, lo);
+        }
+
+        StoredList removeList(long hi, long lo) {
+            StoredList list = lists.remove(hi, lo);
+            if (list != null) {
+                unindex(listsByUser, list.userHi(), list.userLo(), hi, lo);
+            }
+            return list;
+        }
+
+        /** Id of the user's list called {@code name}, or null. */
+        UUID listNamed(long userHi, long userLo, String name) {
+            UuidList ids = listsByUser.get(userHi, userLo);
+            for (int i = 0; ids != null && i < ids.size(); i++) {
+                if (lists.get(ids.hi(i), ids.lo(i)).name().equals(name)) {
+                    return new UUID(ids.hi(i), ids.lo(i));
+                }
+            }
+            return null;
+        }
+
+        private static void index(UuidMap<UuidList> index, long keyHi, long keyLo, long hi, long lo) {
+            UuidList ids = index.get(keyHi, keyLo);
+            if (ids == null) {
+                ids = new UuidList();
+                index.put(keyHi, keyLo, ids);
+            }
+            ids.add(hi, lo);
+        }
+
+        private static void unindex(UuidMap<UuidList> index, long keyHi, long keyLo, long hi, long lo) {
+            UuidList ids = index.get(keyHi, keyLo);
+            if (ids != null && ids.remove(hi, lo) && ids.isEmpty()) {
+                index.remove(keyHi, keyLo);
+            }
+        }
+    }
+
+    private final Stripe[] stripes;
+    private final Map<String, UUID> usersByEmail = new ConcurrentHashMap<>();
+
+    public InMemoryStore(@Value("${tasklist.memory.stripes:16}") int stripes) {
+        this.stripes = IntStream.range(0, stripes).mapToObj(i -> new Stripe()).toArray(Stripe[]::new);
+    }
+
+    Stripe stripeOf(UUID id) {
+        return stripes[ShardKeys.slotOf(id) % stripes.length];
+    }
+
+    /** The stripe of {@code id}'s slot first, then the others. */
+    List<Stripe> probe(UUID id) {
+        int first = ShardKeys.slotOf(id) % stripes.length;
+        List<Stripe> order = new ArrayList<>(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            order.add(stripes[(first + i) % stripes.length]);
+        }
+        return order;
+    }
+
+    List<Stripe> stripes() {
+        return List.of(stripes);
+    }
+
+    Map<String, UUID> usersByEmail() {
+        return usersByEmail;
+    }
+
+    <T> T read(Stripe stripe, Function<Stripe, T> query) {
+        stripe.lock.readLock().lock();
+        try {
+            return query.apply(stripe);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /** First non-null answer of {@code query} over {@link #probe(UUID)}. */
+    <T> T find(UUID id, Function<Stripe, T> query) {
+        for (Stripe stripe : probe(id)) {
+            T found = read(stripe, query);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    <T> T write(Stripe stripe, Supplier<T> change) {
+        return write(List.of(stripe), change);
+    }
+
+    /** Runs {@code change} holding the write locks of all {@code involved} stripes, taken in index order. */
+    <T> T write(Collection<Stripe> involved, Supplier<T> change) {
+        var ordered = new TreeSet<Integer>();
+        for (Stripe stripe : involved) {
+            ordered.add(indexOf(stripe));
+        }
+        List<ReentrantReadWriteLock.WriteLock> held = new ArrayList<>(ordered.size());
+        try {
+            for (int i : ordered) {
+                var lock = stripes[i].lock.writeLock();
+                lock.lock();
+                held.add(lock);
+            }
+            return change.get();
+        } finally {
+            held.forEach(ReentrantReadWriteLock.WriteLock::unlock);
+        }
+    }
+
+    private int indexOf(Stripe stripe) {
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[i] == stripe) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Stripe desconhecida.");
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskListEntity;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.config.infra.collections.UuidList;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lists of the {@code memory} profile. Totals are counted off the list index when a summary is
+ * read, so there are no stored counters to increment or reconcile.
+ */
+@Component
+@Profile("memory")
+@RequiredArgsConstructor
+public class InMemoryTaskListRepository implements TaskListRepositoryPort {
+
+    private final InMemoryStore store;
+
+    private static TaskList toDomain(long hi, long lo, InMemoryStore.StoredList l) {
+        return TaskList.builder()
+                .id(new ListId(new UUID(hi, lo)))
+                .userId(new UserId(new UUID(l.userHi(), l.userLo())))
+                .name(l.name())
+                .build();
+    }
+
+    @Override
+    public TaskList save(TaskList taskList) {
+        return saveAll(List.of(taskList)).get(0);
+    }
+
+    /** All or nothing: a duplicate name anywhere in the batch fails the whole batch, as a unique index would. */
+    @Override
+    public List<TaskList> saveAll(List<TaskList> taskLists) {
+        List<UUID> ids = new ArrayList<>(taskLists.size());
+        List<UUID> users = new ArrayList<>(taskLists.size());
+        for (TaskList list : taskLists) {
+            UUID user = list.getUserId().value();
+            users.add(user);
+            ids.add(list.getId() != null ? list.getId().value() : ShardKeys.newId(ShardKeys.slotOf(user)));
+        }
+        return store.write(users.stream().map(store::stripeOf).toList(), () -> {
+            for (int i = 0; i < taskLists.size(); i++) {
+                UUID owner = users.get(i);
+                String name = taskLists.get(i).getName();
+                UUID existing = store.stripeOf(owner).listNamed(owner.getMostSignificantBits(), owner.getLeastSignificantBits(), name);
+                boolean repeated = false;
+                for (int j = 0; j < i && !repeated; j++) {
+                    repeated = users.get(j).equals(owner) && taskLists.get(j).getName().equals(name);
+                }
+                if (repeated || (existing != null && !existing.equals(ids.get(i)))) {
+                    throw new DataIntegrityViolationException("Lista duplicada: " + name,
+                            new ConstraintViolationException("Lista duplicada: " + name, null, TaskListEntity.UNIQUE_NAME));
+                }
+            }
+            List<TaskList> saved = new ArrayList<>(taskLists.size());
+            for (int i = 0; i < taskLists.size(); i++) {
+                UUID id = ids.get(i);
+                UUID owner = users.get(i);
+                var stored = new InMemoryStore.StoredList(owner.getMostSignificantBits(), owner.getLeastSignificantBits(),
+                        taskLists.get(i).getName());
+                store.stripeOf(owner).putList(id.getMostSignificantBits(), id.getLeastSignificantBits(), stored);
+                saved.add(toDomain(id.getMostSignificantBits(), id.getLeastSignificantBits(), stored));
+            }
+            return saved;
+        });
+    }
+
+    @Override
+    public TaskList update(TaskList taskList) {
+        return save(taskList);
+    }
+
+    @Override
+    public Optional<TaskList> findById(ListId id) {
+        UUID key = id.value();
+        long hi = key.getMostSignificantBits();
+        long lo = key.getLeastSignificantBits();
+        return Optional.ofNullable(store.find(key, stripe -> {
+            var list = stripe.lists.get(hi, lo);
+            return list != null ? toDomain(hi, lo, list) : null;
+        }));
+    }
+
+    @Override
+    public List<TaskList> findAll() {
+        List<TaskList> lists = new ArrayList<>();
+        for (var stripe : store.stripes()) {
+            store.read(stripe, s -> {
+                s.lists.forEach((hi, lo, list) -> lists.add(toDomain(hi, lo, list)));
+                return null;
+            });
+        }
+        return lists;
+    }
+
+    @Override
+    public List<TaskList> findAllByUserId(UserId userId) {
+        UUID user = userId.value();
+        return store.read(store.stripeOf(user), stripe -> listsOf(stripe, stripe.listsByUser.get(user)));
+    }
+
+    private static List<TaskList> listsOf(InMemoryStore.Stripe stripe, UuidList ids) {
+        List<TaskList> lists = new ArrayList<>(ids != null ? ids.size() : 0);
+        for (int i = 0; ids != null && i < ids.size(); i++) {
+            lists.add(toDomain(ids.hi(i), ids.lo(i), stripe.lists.get(ids.hi(i), ids.lo(i))));
+        }
+        return lists;
+    }
+
+    @Override
+    public void deleteById(ListId id) {
+        UUID key = id.value();
+        long hi = key.getMostSignificantBits();
+        long lo = key.getLeastSignificantBits();
+        var holder = store.find(key, stripe -> stripe.lists.get(hi, lo) != null ? stripe : null);
+        if (holder != null) {
+            store.write(holder, () -> holder.removeList(hi, lo));
+        }
+    }
+
+    @Override
+    public void incrementCounters(ListId id, long total, long completed) {
+    }
+
+    @Override
+    public List<TaskListSummary> findSummariesByUserId(UserId userId, LocalDate today) {
+        UUID user = userId.value();
+        return store.read(store.stripeOf(user), stripe -> listsOf(stripe, stripe.listsByUser.get(user)).stream()
+                .map(list -> summary(list, InMemoryTaskRepository.tasksOf(stripe,
+                        stripe.tasksByList.get(list.getId().value())), today))
+                .toList());
+    }
+
+    private static TaskListSummary summary(TaskList list, List<Task> tasks, LocalDate today) {
+        return TaskListSummary.builder()
+                .listId(list.getId())
+                .name(list.getName())
+                .total(tasks.size())
+                .completed(tasks.stream().filter(Task::isCompleted).count())
+                .overdue(tasks.stream()
+                        .filter(task -> !task.isCompleted() && task.getDueDate() != null && task.getDueDate().isBefore(today))
+                        .count())
+                .build();
+    }
+
+    @Override
+    public int reconcileCounters() {
+        return 0;
+    }
+}
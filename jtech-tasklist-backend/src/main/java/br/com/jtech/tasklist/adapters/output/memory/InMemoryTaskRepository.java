@@ -0,0 +1,199 @@
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.adapters.output.TaskQueries;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.collections.UuidList;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@Profile("memory")
+@RequiredArgsConstructor
+public class InMemoryTaskRepository implements TaskRepositoryPort {
+
+    private final InMemoryStore store;
+
+    static Task toDomain(long hi, long lo, InMemoryStore.StoredTask t) {
+        return Task.builder()
+                .id(new TaskId(new UUID(hi, lo)))
+                .userId(new UserId(new UUID(t.userHi(), t.userLo())))
+                .listId(new ListId(new UUID(t.listHi(), t.listLo())))
+                .title(t.title())
+                .description(t.description())
+                .completed(t.completed())
+                .dueDate(t.dueDay() != InMemoryStore.NO_DATE ? LocalDate.ofEpochDay(t.dueDay()) : null)
+                .build();
+    }
+
+    static InMemoryStore.StoredTask toStored(Task t) {
+        UUID user = t.getUserId().value();
+        UUID list = t.getListId().value();
+        return new InMemoryStore.StoredTask(user.getMostSignificantBits(), user.getLeastSignificantBits(),
+                list.getMostSignificantBits(), list.getLeastSignificantBits(),
+                t.getTitle(), t.getDescription(), t.isCompleted(),
+                t.getDueDate() != null ? Math.toIntExact(t.getDueDate().toEpochDay()) : InMemoryStore.NO_DATE);
+    }
+
+    static List<Task> tasksOf(InMemoryStore.Stripe stripe, UuidList ids) {
+        List<Task> tasks = new ArrayList<>(ids != null ? ids.size() : 0);
+        for (int i = 0; ids != null && i < ids.size(); i++) {
+            tasks.add(toDomain(ids.hi(i), ids.lo(i), stripe.tasks.get(ids.hi(i), ids.lo(i))));
+        }
+        return tasks;
+    }
+
+    @Override
+    public Task save(Task task) {
+        UUID user = task.getUserId().value();
+        UUID id = task.getId() != null ? task.getId().value() : ShardKeys.newId(ShardKeys.slotOf(user));
+        var stored = toStored(task);
+        var stripe = store.stripeOf(user);
+        store.write(stripe, () -> {
+            stripe.putTask(id.getMostSignificantBits(), id.getLeastSignificantBits(), stored);
+            return null;
+        });
+        return toDomain(id.getMostSignificantBits(), id.getLeastSignificantBits(), stored);
+    }
+
+    @Override
+    public Task update(Task task) {
+        return save(task);
+    }
+
+    @Override
+    public List<TaskId> updateCompleted(Collection<TaskId> ids, boolean completed) {
+        List<TaskId> changed = new ArrayList<>();
+        for (TaskId value : ids) {
+            UUID id = value.value();
+            long hi = id.getMostSignificantBits();
+            long lo = id.getLeastSignificantBits();
+            boolean updated = stored(id).map(stripe -> store.write(stripe, () -> {
+                var task = stripe.tasks.get(hi, lo);
+                if (task == null || task.completed() == completed) {
+                    return false;
+                }
+                stripe.putTask(hi, lo, new InMemoryStore.StoredTask(task.userHi(), task.userLo(),
+                        task.listHi(), task.listLo(), task.title(), task.description(), completed, task.dueDay()));
+                return true;
+            })).orElse(false);
+            if (updated) {
+                changed.add(value);
+            }
+        }
+        return changed;
+    }
+
+    /** The stripe holding task {@code id}; only an id minted outside this store can live off its slot's stripe. */
+    private Optional<InMemoryStore.Stripe> stored(UUID id) {
+        return Optional.ofNullable(store.find(id,
+                stripe -> stripe.tasks.get(id.getMostSignificantBits(), id.getLeastSignificantBits()) != null ? stripe : null));
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId id) {
+        UUID key = id.value();
+        long hi = key.getMostSignificantBits();
+        long lo = key.getLeastSignificantBits();
+        return Optional.ofNullable(store.find(key, stripe -> {
+            var task = stripe.tasks.get(hi, lo);
+            return task != null ? toDomain(hi, lo, task) : null;
+        }));
+    }
+
+    @Override
+    public List<Task> findAllByIds(Collection<TaskId> ids, UserId userId) {
+        UUID user = userId.value();
+        return store.read(store.stripeOf(user), stripe -> {
+            List<Task> tasks = new ArrayList<>(ids.size());
+            for (TaskId value : ids) {
+                UUID id = value.value();
+                var task = stripe.tasks.get(id);
+                if (task != null && task.userHi() == user.getMostSignificantBits() && task.userLo() == user.getLeastSignificantBits()) {
+                    tasks.add(toDomain(id.getMostSignificantBits(), id.getLeastSignificantBits(), task));
+                }
+            }
+            return tasks;
+        });
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = new ArrayList<>();
+        for (var stripe : store.stripes()) {
+            store.read(stripe, s -> {
+                s.tasks.forEach((hi, lo, task) -> tasks.add(toDomain(hi, lo, task)));
+                return null;
+            });
+        }
+        return tasks;
+    }
+
+    @Override
+    public List<Task> findAllByUserId(UserId userId) {
+        UUID user = userId.value();
+        return store.read(store.stripeOf(user), stripe -> tasksOf(stripe, stripe.tasksByUser.get(user)));
+    }
+
+    @Override
+    public List<Task> findAllByListId(ListId listId) {
+        UUID list = listId.value();
+        List<Task> tasks = store.find(list, stripe -> {
+            UuidList ids = stripe.tasksByList.get(list);
+            return ids != null ? tasksOf(stripe, ids) : null;
+        });
+        return tasks != null ? tasks : new ArrayList<>();
+    }
+
+    @Override
+    public List<Task> findFirstPageOfEachList(UserId userId, int perList) {
+        return TaskQueries.firstPageOfEachList(findAllByUserId(userId), perList);
+    }
+
+    /** Narrows through the list or user index, then filters, sorts and projects in memory. */
+    @Override
+    public List<Task> findAll(TaskQuery query) {
+        return TaskQueries.search(query.getListId() != null
+                ? findAllByListId(query.getListId()) : findAllByUserId(query.getUserId()), query);
+    }
+
+    @Override
+    public void deleteById(TaskId id) {
+        UUID key = id.value();
+        stored(key).ifPresent(stripe -> store.write(stripe,
+                () -> stripe.removeTask(key.getMostSignificantBits(), key.getLeastSignificantBits())));
+    }
+
+    @Override
+    public boolean existsByTitleAndListId(String title, ListId listId) {
+        UUID list = listId.value();
+        return store.find(list, stripe -> {
+            UuidList ids = stripe.tasksByList.get(list);
+            for (int i = 0; ids != null && i < ids.size(); i++) {
+                if (stripe.tasks.get(ids.hi(i), ids.lo(i)).title().equals(title)) {
+                    return true;
+                }
+            }
+            return null;
+        }) != null;
+    }
+
+    @Override
+    public boolean existsByListId(ListId listId) {
+        UUID list = listId.value();
+        return store.find(list, stripe -> stripe.tasksByList.get(list) != null ? true : null) != null;
+    }
+}
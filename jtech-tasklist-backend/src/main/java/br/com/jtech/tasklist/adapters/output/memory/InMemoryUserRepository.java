@@ -0,0 +1,57 @@
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
+import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.UserRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/** Users of the {@code memory} profile; emails are claimed in a shared map before the user is stored. */
+@Component
+@Profile("memory")
+@RequiredArgsConstructor
+public class InMemoryUserRepository implements UserRepositoryPort {
+
+    private final InMemoryStore store;
+
+    @Override
+    public User save(UserDto user) {
+        UUID id = ShardKeys.newId(ShardKeys.slotOfEmail(user.email()));
+        if (store.usersByEmail().putIfAbsent(user.email(), id) != null) {
+            throw new DataIntegrityViolationException("Email duplicado: " + user.email());
+        }
+        var stored = new InMemoryStore.StoredUser(user.name(), user.email(), user.password());
+        var stripe = store.stripeOf(id);
+        store.write(stripe, () -> stripe.users.put(id, stored));
+        return toDomain(id, stored);
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        UUID key = id.value();
+        return Optional.ofNullable(store.find(key, stripe -> stripe.users.get(key))).map(user -> toDomain(key, user));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(store.usersByEmail().get(email))
+                .flatMap(id -> Optional.ofNullable(store.read(store.stripeOf(id), stripe -> stripe.users.get(id)))
+                        .map(user -> toDomain(id, user)));
+    }
+
+    private static User toDomain(UUID id, InMemoryStore.StoredUser user) {
+        return User.builder()
+                .id(new UserId(id))
+                .name(user.name())
+                .email(user.email())
+                .password(user.password())
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.OutboxEventEntity;
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.config.infra.events.DomainEventDispatcher;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox. Events are inserted with the mutation that caused them and handed to
+ * the {@link DomainEventDispatcher} after the commit. Each row lists the consumers still waiting
+ * for it; an acknowledgement strikes one out, and the row is deleted once none is left. A row is inserted under a lease held by the committing node; once the lease runs out
+ * (a crash, a lost hand-off, a failed delivery waiting for its retry) any node's sweep may claim
+ * it. Each shard keeps the events of its own users; ids are time ordered, so pending events of
+ * all shards merge into one sequence. Nothing is stored while no consumer is registered.
+ */
+@Component
+public class DomainEventOutboxRepository implements DomainEventOutboxPort {
+
+    private static final int MAX_DOUBLINGS = 20;
+
+    private final SpringDataOutboxEventRepository repository;
+    private final ObjectProvider<DomainEventDispatcher> dispatcher;
+    private final ShardRouter shards;
+    private final Duration lease;
+
+    public DomainEventOutboxRepository(SpringDataOutboxEventRepository repository,
+                                       ObjectProvider<DomainEventDispatcher> dispatcher,
+                                       ShardRouter shards,
+                                       @Value("${tasklist.events.lease:30s}") Duration lease) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.shards = shards;
+        this.lease = lease;
+    }
+
+    DomainEvent toDomain(OutboxEventEntity e) {
+        var aggregate = DomainEvent.Aggregate.valueOf(e.getAggregate());
+        return DomainEvent.builder()
+                .sequence(e.getId())
+                .aggregate(aggregate)
+                .aggregateId(e.getAggregateId())
+                .type(DomainEvent.Type.valueOf(e.getType()))
+                .userId(e.getUserId() != null ? UserId.of(e.getUserId()) : null)
+                .occurredAt(e.getOccurredAt())
+                .payload(aggregate == DomainEvent.Aggregate.TASK
+                        ? Jsons.parseJsonString(e.getPayload(), Task.class)
+                        : Jsons.parseJsonString(e.getPayload(), TaskList.class))
+                .build();
+    }
+
+    OutboxEventEntity toEntity(DomainEvent d, String pending, Instant leasedUntil) {
+        return OutboxEventEntity.builder()
+                .aggregate(d.getAggregate().name())
+                .aggregateId(d.getAggregateId())
+                .type(d.getType().name())
+                .userId(d.getUserId() != null ? d.getUserId().toString() : null)
+                .occurredAt(d.getOccurredAt())
+                .payload(Jsons.toJsonString(d.getPayload()))
+                .pending(pending)
+                .leasedUntil(leasedUntil)
+                .build();
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        var running = dispatcher.getIfAvailable();
+        if (events.isEmpty() || running == null || !running.hasConsumers()) {
+            return;
+        }
+        Instant leasedUntil = Instant.now().plus(lease);
+        String pending = "," + String.join(",", running.consumerNames()) + ",";
+        var entities = events.stream().map(e -> toEntity(e, pending, leasedUntil)).toList();
+        UserId owner = events.get(0).getUserId();
+        var saved = owner != null
+                ? shards.forUser(owner.value(), () -> repository.saveAll(entities))
+                : repository.saveAll(entities);
+        var appended = new ArrayList<DomainEvent>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            appended.add(events.get(i).toBuilder().sequence(saved.get(i).getId()).build());
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            running.publish(appended);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                running.publish(appended);
+            }
+        });
+    }
+
+    @Override
+    public List<DomainEvent> claim(int limit) {
+        Instant now = Instant.now();
+        Instant until = now.plus(lease);
+        String token = UUID.randomUUID().toString();
+        return shards.onEveryShard(shard -> {
+                    var ids = repository.findByLeasedUntilBeforeOrderByIdAsc(now, Limit.of(limit)).stream()
+                            .filter(e -> e.getUserId() == null || shards.owns(shard, UUID.fromString(e.getUserId())))
+                            .map(OutboxEventEntity::getId)
+                            .toList();
+                    if (ids.isEmpty() || repository.claim(ids, token, until, now) == 0) {
+                        return List.<OutboxEventEntity>of();
+                    }
+                    return repository.findByLeaseOrderByIdAsc(token);
+                })
+                .stream()
+                .sorted(Comparator.comparing(OutboxEventEntity::getId))
+                .map(this::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Pending> pending(List<DomainEvent> batch) {
+        var aggregateIds = batch.stream().map(DomainEvent::getAggregateId).collect(Collectors.toSet());
+        long last = batch.stream().mapToLong(DomainEvent::getSequence).max().orElseThrow();
+        return shards.onEveryShard(shard -> repository.findByAggregateIdInAndIdLessThanEqualOrderByIdAsc(aggregateIds, last).stream()
+                        .filter(e -> e.getUserId() == null || shards.owns(shard, UUID.fromString(e.getUserId())))
+                        .toList())
+                .stream()
+                .sorted(Comparator.comparing(OutboxEventEntity::getId))
+                .map(e -> new Pending(e.getId(), e.getAggregateId(), Arrays.stream(e.getPending().split(","))
+                        .filter(name -> !name.isEmpty())
+                        .collect(Collectors.toSet())))
+                .toList();
+    }
+
+    @Override
+    public void acknowledge(String consumer, Collection<Long> sequences) {
+        shards.onEveryShard(shard -> {
+            repository.acknowledge(sequences, consumer);
+            return List.of();
+        });
+    }
+
+    @Override
+    public void retryLater(Collection<Long> sequences, Duration firstDelay, Duration maxDelay) {
+        Instant now = Instant.now();
+        shards.onEveryShard(shard -> {
+            var rows = repository.findAllById(sequences);
+            for (OutboxEventEntity row : rows) {
+                var delay = firstDelay.multipliedBy(1L << Math.min(row.getAttempts(), MAX_DOUBLINGS));
+                row.setLeasedUntil(now.plus(delay.compareTo(maxDelay) > 0 ? maxDelay : delay));
+                row.setAttempts(row.getAttempts() + 1);
+                row.setLease(null);
+            }
+            repository.saveAll(rows);
+            return List.of();
+        });
+    }
+
+    @Override
+    public void postpone(Collection<Long> sequences, Duration delay) {
+        Instant until = Instant.now().plus(delay);
+        shards.onEveryShard(shard -> {
+            repository.postpone(sequences, until);
+            return List.of();
+        });
+    }
+
+    @Override
+    public void delete(Collection<Long> sequences) {
+        shards.onEveryShard(shard -> {
+            repository.deleteAllByIdInBatch(sequences);
+            return List.of();
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.ArchivedTaskEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SpringDataArchivedTaskRepository extends JpaRepository<ArchivedTaskEntity, UUID> {
+    List<ArchivedTaskEntity> findAllByUserId(UUID userId);
+    List<ArchivedTaskEntity> findAllByListId(UUID listId);
+
+    @Modifying
+    @Query("delete from ArchivedTaskEntity a where a.listId = :listId")
+    int deleteAllByListId(@Param("listId") UUID listId);
+}
@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.OutboxEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface SpringDataOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    List<OutboxEventEntity> findByLeasedUntilBeforeOrderByIdAsc(Instant now, Limit limit);
+
+    List<OutboxEventEntity> findByLeaseOrderByIdAsc(String lease);
+
+    List<OutboxEventEntity> findByAggregateIdInAndIdLessThanEqualOrderByIdAsc(Collection<String> aggregateIds, Long id);
+
+    /** Takes the rows whose lease has run out; a row claimed meanwhile by another node is skipped. */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventEntity e set e.lease = :lease, e.leasedUntil = :until where e.id in :ids and e.leasedUntil < :now")
+    int claim(Collection<Long> ids, String lease, Instant until, Instant now);
+
+    /** Drops {@code consumer} from the rows' pending consumers. */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventEntity e set e.pending = replace(e.pending, concat(',', :consumer, ','), ',') where e.id in :ids")
+    int acknowledge(Collection<Long> ids, String consumer);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventEntity e set e.lease = null, e.leasedUntil = :until where e.id in :ids")
+    int postpone(Collection<Long> ids, Instant until);
+}
@@ -2,10 +2,26 @@ package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskListEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface SpringDataTaskListRepository extends JpaRepository<TaskListEntity, UUID> {
     List<TaskListEntity> findAllByUserId(UUID userId);
+
+    @Modifying
+    @Query("update TaskListEntity l set l.totalCount = l.totalCount + :total, " +
+           "l.completedCount = l.completedCount + :completed where l.id = :id")
+    int incrementCounters(@Param("id") UUID id, @Param("total") long total, @Param("completed") long completed);
+
+    @Modifying
+    @Query("update TaskListEntity l set " +
+           "l.totalCount = (select count(t) from TaskEntity t where t.listId = l.id), " +
+           "l.completedCount = (select count(t) from TaskEntity t where t.listId = l.id and t.completed = true) " +
+           "where l.totalCount <> (select count(t) from TaskEntity t where t.listId = l.id) " +
+           "or l.completedCount <> (select count(t) from TaskEntity t where t.listId = l.id and t.completed = true)")
+    int reconcileCounters();
 }
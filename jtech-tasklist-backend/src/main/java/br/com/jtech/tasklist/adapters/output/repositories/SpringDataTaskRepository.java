@@ -1,14 +1,51 @@
 package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface SpringDataTaskRepository extends JpaRepository<TaskEntity, UUID> {
+public interface SpringDataTaskRepository extends JpaRepository<TaskEntity, UUID>, JpaSpecificationExecutor<TaskEntity>,
+        TaskColumnsRepository {
     List<TaskEntity> findAllByUserId(UUID userId);
+    List<TaskEntity> findAllByIdInAndUserId(Collection<UUID> ids, UUID userId);
     List<TaskEntity> findAllByListId(UUID listId);
     boolean existsByTitleAndListId(String title, UUID listId);
     boolean existsByListId(UUID listId);
+
+    /** Locks the rows, so a concurrent toggle waits and the archive never moves a task that was just reopened. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TaskEntity> findByCompletedTrueAndCompletedAtBeforeOrderByCompletedAtAsc(Instant cutoff, Limit limit);
+
+    /** Locks the tasks a completion flush will change, so its counter deltas match the rows it updates. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TaskEntity> findAllByIdInAndCompletedNot(Collection<UUID> ids, boolean completed);
+
+    @Modifying
+    @Query("update TaskEntity t set t.completed = :completed, t.completedAt = :completedAt " +
+           "where t.id in :ids and t.completed <> :completed")
+    int updateCompleted(@Param("ids") Collection<UUID> ids, @Param("completed") boolean completed,
+                        @Param("completedAt") Instant completedAt);
+
+    @Query(value = "select id, user_id, list_id, title, description, completed, due_date, completed_at from (" +
+                   "select t.*, row_number() over (partition by t.list_id " +
+                   "order by t.completed, t.due_date nulls last, t.title) as position " +
+                   "from tasks t where t.user_id = :userId) ranked " +
+                   "where position <= :perList order by list_id, position", nativeQuery = true)
+    List<TaskEntity> findFirstPageOfEachList(@Param("userId") UUID userId, @Param("perList") int perList);
+
+    @Query("select t.listId, count(t) from TaskEntity t where t.userId = :userId " +
+           "and t.completed = false and t.dueDate < :today group by t.listId")
+    List<Object[]> countOverdueByList(@Param("userId") UUID userId, @Param("today") LocalDate today);
 }
@@ -0,0 +1,145 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.ArchivedTaskEntity;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Archive kept in {@code archived_tasks}, one deflated JSON document per task next to the
+ * columns it is looked up by. A batch is read with its rows locked, copied, deleted from
+ * {@code tasks}, taken out of the list counters and announced with an {@code ARCHIVED} event in
+ * one transaction per shard, so a toggle racing with it either waits or leaves the task out of
+ * the batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskArchiveRepository implements TaskArchivePort {
+
+    private final SpringDataArchivedTaskRepository repository;
+    private final SpringDataTaskRepository taskRepository;
+    private final SpringDataTaskListRepository taskListRepository;
+    private final EntityManager entityManager;
+    private final ShardRouter shards;
+    private final DomainEventOutboxPort events;
+
+    @Override
+    @Transactional
+    public int archiveCompletedBefore(Instant cutoff, int limit) {
+        return shards.onEveryShard(shard -> List.of(archive(shard, cutoff, limit))).stream()
+                .mapToInt(Integer::intValue).sum();
+    }
+
+    private int archive(int shard, Instant cutoff, int limit) {
+        var batch = taskRepository.findByCompletedTrueAndCompletedAtBeforeOrderByCompletedAtAsc(cutoff, Limit.of(limit))
+                .stream().filter(e -> shards.owns(shard, e.getUserId())).toList();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        var archivedAt = Instant.now();
+        var moved = new ArrayList<DomainEvent>(batch.size());
+        for (TaskEntity task : batch) {
+            Task archived = toDomain(task);
+            entityManager.persist(ArchivedTaskEntity.builder()
+                    .id(task.getId())
+                    .userId(task.getUserId())
+                    .listId(task.getListId())
+                    .completedAt(task.getCompletedAt())
+                    .archivedAt(archivedAt)
+                    .data(compress(archived))
+                    .build());
+            moved.add(DomainEvent.of(DomainEvent.Type.ARCHIVED, archived));
+        }
+        taskRepository.deleteAllInBatch(batch);
+        batch.stream().collect(Collectors.groupingBy(TaskEntity::getListId, Collectors.counting()))
+                .forEach((listId, count) -> taskListRepository.incrementCounters(listId, -count, -count));
+        events.append(moved);
+        return batch.size();
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId id) {
+        return shards.forId(id.value(), () -> repository.findById(id.value()).map(e -> decompress(e.getData())));
+    }
+
+    @Override
+    public List<Task> findAllByUserId(UserId userId) {
+        return shards.forUser(userId.value(), () -> repository.findAllByUserId(userId.value())
+                .stream().map(e -> decompress(e.getData())).collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Task> findAllByListId(ListId listId) {
+        return shards.forId(listId.value(), () -> repository.findAllByListId(listId.value())
+                .stream().map(e -> decompress(e.getData())).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteById(TaskId id) {
+        shards.forId(id.value(), () -> repository.deleteById(id.value()));
+    }
+
+    @Override
+    public void deleteAllByListId(ListId listId) {
+        shards.forId(listId.value(), () -> repository.deleteAllByListId(listId.value()));
+    }
+
+    private static Task toDomain(TaskEntity e) {
+        return Task.builder()
+                .id(new TaskId(e.getId()))
+                .userId(new UserId(e.getUserId()))
+                .listId(new ListId(e.getListId()))
+                .title(e.getTitle())
+                .description(e.getDescription())
+                .completed(e.isCompleted())
+                .dueDate(e.getDueDate())
+                .build();
+    }
+
+    static byte[] compress(Task task) {
+        var out = new ByteArrayOutputStream();
+        var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (var stream = new DeflaterOutputStream(out, deflater)) {
+            stream.write(Jsons.toJsonString(task).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    static Task decompress(byte[] data) {
+        try (var inflater = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return Jsons.parseJsonString(new String(inflater.readAllBytes(), StandardCharsets.UTF_8), Task.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data fragment that selects only some columns of {@link TaskEntity}, so wide columns
+ * such as {@code description} are not read when the caller does not need them.
+ */
+public interface TaskColumnsRepository {
+
+    /** Each tuple element is aliased with its property name. */
+    List<Tuple> findColumns(Specification<TaskEntity> spec, Sort sort, Integer limit, Collection<String> properties);
+}
@@ -0,0 +1,40 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+class TaskColumnsRepositoryImpl implements TaskColumnsRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findColumns(Specification<TaskEntity> spec, Sort sort, Integer limit, Collection<String> properties) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cq = cb.createTupleQuery();
+        var root = cq.from(TaskEntity.class);
+        List<Selection<?>> selections = properties.stream()
+                .<Selection<?>>map(property -> root.get(property).alias(property))
+                .toList();
+        cq.multiselect(selections);
+        var predicate = spec.toPredicate(root, cq, cb);
+        if (predicate != null) {
+            cq.where(predicate);
+        }
+        cq.orderBy(QueryUtils.toOrders(sort, root, cb));
+        var query = entityManager.createQuery(cq);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+}
@@ -1,67 +1,131 @@
 package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskListEntity;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
+@Profile("!embedded && !memory")
 @RequiredArgsConstructor
 public class TaskListRepository implements TaskListRepositoryPort {
 
     private final SpringDataTaskListRepository repository;
+    private final SpringDataTaskRepository taskRepository;
+    private final ShardRouter shards;
 
     private TaskList toDomain(TaskListEntity e) {
         return TaskList.builder()
-                .id(e.getId().toString())
-                .userId(e.getUserId().toString())
+                .id(new ListId(e.getId()))
+                .userId(new UserId(e.getUserId()))
                 .name(e.getName())
                 .build();
     }
 
+    private List<TaskList> toDomain(List<TaskListEntity> entities) {
+        List<TaskList> lists = new ArrayList<>(entities.size());
+        for (TaskListEntity e : entities) {
+            lists.add(toDomain(e));
+        }
+        return lists;
+    }
+
     private TaskListEntity toEntity(TaskList t) {
         return TaskListEntity.builder()
-                .id(t.getId() != null ? UUID.fromString(t.getId()) : null)
-                .userId(UUID.fromString(t.getUserId()))
+                .id(t.getId() != null ? t.getId().value() : null)
+                .userId(t.getUserId().value())
                 .name(t.getName())
                 .build();
     }
 
     @Override
     public TaskList save(TaskList taskList) {
-        return toDomain(repository.save(toEntity(taskList)));
+        return shards.forUser(taskList.getUserId().value(), () -> toDomain(repository.save(toEntity(taskList))));
+    }
+
+    @Override
+    public List<TaskList> saveAll(List<TaskList> taskLists) {
+        var saved = taskLists.stream()
+                .map(list -> shards.forUser(list.getUserId().value(), () -> repository.save(toEntity(list))))
+                .toList();
+        repository.flush();
+        return toDomain(saved);
     }
 
     @Override
     public TaskList update(TaskList taskList) {
-        return toDomain(repository.save(toEntity(taskList)));
+        return shards.forUser(taskList.getUserId().value(), () -> toDomain(repository.save(toEntity(taskList))));
     }
 
     @Override
-    public Optional<TaskList> findById(String id) {
-        return repository.findById(UUID.fromString(id)).map(this::toDomain);
+    public Optional<TaskList> findById(ListId id) {
+        return shards.forId(id.value(), () -> repository.findById(id.value()).map(this::toDomain));
     }
 
     @Override
     public List<TaskList> findAll() {
-        return repository.findAll()
-                .stream().map(this::toDomain).collect(Collectors.toList());
+        return shards.onEveryShard(shard -> toDomain(repository.findAll().stream()
+                .filter(e -> shards.owns(shard, e.getUserId()))
+                .toList()));
+    }
+
+    @Override
+    public List<TaskList> findAllByUserId(UserId userId) {
+        return shards.forUser(userId.value(), () -> toDomain(repository.findAllByUserId(userId.value())));
     }
 
     @Override
-    public List<TaskList> findAllByUserId(String userId) {
-        return repository.findAllByUserId(UUID.fromString(userId))
-                .stream().map(this::toDomain).collect(Collectors.toList());
+    public void deleteById(ListId id) {
+        shards.forId(id.value(), () -> repository.deleteById(id.value()));
+    }
+
+    @Override
+    @Transactional
+    public void incrementCounters(ListId id, long total, long completed) {
+        shards.forId(id.value(), () -> repository.incrementCounters(id.value(), total, completed));
+    }
+
+    @Override
+    public List<TaskListSummary> findSummariesByUserId(UserId userId, LocalDate today) {
+        return shards.forUser(userId.value(), () -> summaries(userId, today));
+    }
+
+    private List<TaskListSummary> summaries(UserId userId, LocalDate today) {
+        var owner = userId.value();
+        var overdue = new HashMap<UUID, Long>();
+        for (Object[] row : taskRepository.countOverdueByList(owner, today)) {
+            overdue.put((UUID) row[0], (Long) row[1]);
+        }
+        return repository.findAllByUserId(owner).stream()
+                .map(e -> TaskListSummary.builder()
+                        .listId(new ListId(e.getId()))
+                        .name(e.getName())
+                        .total(e.getTotalCount())
+                        .completed(e.getCompletedCount())
+                        .overdue(overdue.getOrDefault(e.getId(), 0L))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Override
-    public void deleteById(String id) {
-        repository.deleteById(UUID.fromString(id));
+    @Transactional
+    public int reconcileCounters() {
+        return shards.onEveryShard(shard -> List.of(repository.reconcileCounters())).stream()
+                .mapToInt(Integer::intValue).sum();
     }
 }
@@ -1,27 +1,45 @@
 package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
+@Profile("!embedded && !memory")
 @RequiredArgsConstructor
 public class TaskRepository implements TaskRepositoryPort {
 
     private final SpringDataTaskRepository repository;
+    private final ShardRouter shards;
 
-    private Task toDomain(TaskEntity e) {
+    Task toDomain(TaskEntity e) {
         return Task.builder()
-                .id(e.getId().toString())
-                .userId(e.getUserId().toString())
-                .listId(e.getListId().toString())
+                .id(new TaskId(e.getId()))
+                .userId(new UserId(e.getUserId()))
+                .listId(new ListId(e.getListId()))
                 .title(e.getTitle())
                 .description(e.getDescription())
                 .completed(e.isCompleted())
@@ -29,11 +47,19 @@ public class TaskRepository implements TaskRepositoryPort {
                 .build();
     }
 
-    private TaskEntity toEntity(Task t) {
+    List<Task> toDomain(List<TaskEntity> entities) {
+        List<Task> tasks = new ArrayList<>(entities.size());
+        for (TaskEntity e : entities) {
+            tasks.add(toDomain(e));
+        }
+        return tasks;
+    }
+
+    TaskEntity toEntity(Task t) {
         return TaskEntity.builder()
-                .id(t.getId() != null ? UUID.fromString(t.getId()) : null)
-                .userId(UUID.fromString(t.getUserId()))
-                .listId(UUID.fromString(t.getListId()))
+                .id(t.getId() != null ? t.getId().value() : null)
+                .userId(t.getUserId().value())
+                .listId(t.getListId().value())
                 .title(t.getTitle())
                 .description(t.getDescription())
                 .completed(t.isCompleted())
@@ -43,49 +69,158 @@ public class TaskRepository implements TaskRepositoryPort {
 
     @Override
     public Task save(Task task) {
-        return toDomain(repository.save(toEntity(task)));
+        return shards.forUser(task.getUserId().value(), () -> {
+            var entity = toEntity(task);
+            entity.setCompletedAt(completedAt(task.isCompleted(), null));
+            return toDomain(repository.save(entity));
+        });
     }
 
+    /** Keeps the completion time of a task that stays completed; the service has already loaded it. */
     @Override
     public Task update(Task task) {
-        return toDomain(repository.save(toEntity(task)));
+        return shards.forUser(task.getUserId().value(), () -> {
+            var entity = toEntity(task);
+            Instant since = repository.findById(entity.getId())
+                    .filter(TaskEntity::isCompleted)
+                    .map(TaskEntity::getCompletedAt)
+                    .orElse(null);
+            entity.setCompletedAt(completedAt(task.isCompleted(), since));
+            return toDomain(repository.save(entity));
+        });
+    }
+
+    private static Instant completedAt(boolean completed, Instant since) {
+        if (!completed) {
+            return null;
+        }
+        return since != null ? since : Instant.now();
     }
 
     @Override
-    public Optional<Task> findById(String id) {
-        return repository.findById(UUID.fromString(id)).map(this::toDomain);
+    public List<TaskId> updateCompleted(Collection<TaskId> ids, boolean completed) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return shards.forId(ids.iterator().next().value(), () -> {
+            List<UUID> changed = repository.findAllByIdInAndCompletedNot(ids.stream().map(TaskId::value).toList(), completed)
+                    .stream().map(TaskEntity::getId).toList();
+            if (!changed.isEmpty()) {
+                repository.updateCompleted(changed, completed, completedAt(completed, null));
+            }
+            return changed.stream().map(TaskId::new).toList();
+        });
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId id) {
+        return shards.forId(id.value(), () -> repository.findById(id.value()).map(this::toDomain));
+    }
+
+    @Override
+    public List<Task> findAllByIds(Collection<TaskId> ids, UserId userId) {
+        return shards.forUser(userId.value(), () -> toDomain(repository.findAllByIdInAndUserId(
+                ids.stream().map(TaskId::value).toList(), userId.value())));
     }
 
     @Override
     public List<Task> findAll() {
-        return repository.findAll()
-                .stream().map(this::toDomain).collect(Collectors.toList());
+        return shards.onEveryShard(shard -> toDomain(repository.findAll().stream()
+                .filter(e -> shards.owns(shard, e.getUserId()))
+                .toList()));
+    }
+
+    @Override
+    public List<Task> findAllByUserId(UserId userId) {
+        return shards.forUser(userId.value(), () -> toDomain(repository.findAllByUserId(userId.value())));
     }
 
     @Override
-    public List<Task> findAllByUserId(String userId) {
-        return repository.findAllByUserId(UUID.fromString(userId))
-                .stream().map(this::toDomain).collect(Collectors.toList());
+    public List<Task> findAllByListId(ListId listId) {
+        return shards.forId(listId.value(), () -> toDomain(repository.findAllByListId(listId.value())));
+    }
+
+    Task toDomain(Tuple tuple, Set<TaskQuery.Field> fields) {
+        var task = new Task();
+        for (TaskQuery.Field field : fields) {
+            Object value = tuple.get(field.getProperty());
+            switch (field) {
+                case ID -> task.setId(new TaskId((UUID) value));
+                case TITLE -> task.setTitle((String) value);
+                case DESCRIPTION -> task.setDescription((String) value);
+                case DUE_DATE -> task.setDueDate((LocalDate) value);
+                case COMPLETED -> task.setCompleted((Boolean) value);
+                case USER_ID -> task.setUserId(new UserId((UUID) value));
+                case LIST_ID -> task.setListId(new ListId((UUID) value));
+            }
+        }
+        return task;
     }
 
     @Override
-    public List<Task> findAllByListId(String listId) {
-        return repository.findAllByListId(UUID.fromString(listId))
-                .stream().map(this::toDomain).collect(Collectors.toList());
+    public List<Task> findFirstPageOfEachList(UserId userId, int perList) {
+        return shards.forUser(userId.value(), () -> toDomain(repository.findFirstPageOfEachList(userId.value(), perList)));
+    }
+
+    @Override
+    public List<Task> findAll(TaskQuery query) {
+        return shards.forUser(query.getUserId().value(), () -> query(query));
+    }
+
+    private List<Task> query(TaskQuery query) {
+        Sort sort = query.getSortField() == null ? Sort.unsorted()
+                : Sort.by(query.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC, query.getSortField().getProperty());
+        if (query.getFields() != null) {
+            var properties = query.getFields().stream().map(TaskQuery.Field::getProperty).toList();
+            return repository.findColumns(toSpecification(query), sort, query.getLimit(), properties)
+                    .stream().map(tuple -> toDomain(tuple, query.getFields())).collect(Collectors.toList());
+        }
+        List<TaskEntity> found = repository.findBy(toSpecification(query), q -> {
+            var sorted = q.sortBy(sort);
+            return query.getLimit() != null ? sorted.limit(query.getLimit()).all() : sorted.all();
+        });
+        return toDomain(found);
+    }
+
+    private Specification<TaskEntity> toSpecification(TaskQuery query) {
+        return (root, cq, cb) -> {
+            var predicates = new ArrayList<Predicate>();
+            if (query.getUserId() != null) {
+                predicates.add(cb.equal(root.get("userId"), query.getUserId().value()));
+            }
+            if (query.getListId() != null) {
+                predicates.add(cb.equal(root.get("listId"), query.getListId().value()));
+            }
+            if (query.getCompleted() != null) {
+                predicates.add(cb.equal(root.get("completed"), query.getCompleted()));
+            }
+            if (query.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), query.getDueFrom()));
+            }
+            if (query.getDueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), query.getDueTo()));
+            }
+            if (query.getTitlePrefix() != null) {
+                String pattern = query.getTitlePrefix().toLowerCase(Locale.ROOT)
+                        .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+                predicates.add(cb.like(cb.lower(root.get("title")), pattern, '\\'));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
     }
 
     @Override
-    public void deleteById(String id) {
-        repository.deleteById(UUID.fromString(id));
+    public void deleteById(TaskId id) {
+        shards.forId(id.value(), () -> repository.deleteById(id.value()));
     }
 
     @Override
-    public boolean existsByTitleAndListId(String title, String listId) {
-        return repository.existsByTitleAndListId(title, UUID.fromString(listId));
+    public boolean existsByTitleAndListId(String title, ListId listId) {
+        return shards.forId(listId.value(), () -> repository.existsByTitleAndListId(title, listId.value()));
     }
 
     @Override
-    public boolean existsByListId(String listId) {
-        return repository.existsByListId(UUID.fromString(listId));
+    public boolean existsByListId(ListId listId) {
+        return shards.forId(listId.value(), () -> repository.existsByListId(listId.value()));
     }
 }
@@ -3,17 +3,22 @@ package br.com.jtech.tasklist.adapters.output.repositories;
 import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
 import br.com.jtech.tasklist.adapters.output.repositories.entities.UserEntity;
 import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.ports.output.UserRepositoryPort;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
 @Component
+@Profile("!embedded && !memory")
 @RequiredArgsConstructor
 public class UserRepository implements UserRepositoryPort {
 
     private final SpringDataUserRepository repository;
+    private final ShardRouter shards;
 
     @Override
     public User save(UserDto user) {
@@ -23,35 +28,39 @@ public class UserRepository implements UserRepositoryPort {
                 .password(user.password())
                 .build();
 
-        var saved = repository.save(entity);
-        return User.builder()
-                .id(saved.getId().toString())
-                .name(saved.getName())
-                .email(saved.getEmail())
-                .password(saved.getPassword())
-                .build();
+        return toDomain(shards.forEmail(user.email(), () -> repository.save(entity)));
     }
 
     @Override
-    public Optional<User> findById(String id) {
-        return repository.findById(java.util.UUID.fromString(id))
-                .map(e -> User.builder()
-                        .id(e.getId().toString())
-                        .name(e.getName())
-                        .email(e.getEmail())
-                        .password(e.getPassword())
-                        .build());
+    public Optional<User> findById(UserId id) {
+        return shards.forId(id.value(), () -> repository.findById(id.value())).map(UserRepository::toDomain);
     }
 
+    /**
+     * Asks the shard the email is placed on, then, when there are others, every shard for users
+     * registered before placement by email, whose ids carry a random slot.
+     */
     @Override
     public Optional<User> findByEmail(String email) {
-        return repository.findByEmail(email)
-                .map(e -> User.builder()
-                        .id(e.getId().toString())
-                        .name(e.getName())
-                        .email(e.getEmail())
-                        .password(e.getPassword())
-                        .build());
+        return shards.forEmail(email, () -> repository.findByEmail(email)
+                        .filter(e -> shards.owns(ShardRouter.currentShard(), e.getId())))
+                .or(() -> shards.shardCount() > 1 ? findOnEveryShard(email) : Optional.empty())
+                .map(UserRepository::toDomain);
+    }
+
+    private Optional<UserEntity> findOnEveryShard(String email) {
+        return shards.onEveryShard(shard -> repository.findByEmail(email)
+                        .filter(e -> shards.owns(shard, e.getId()))
+                        .stream().toList())
+                .stream().findFirst();
     }
 
+    private static User toDomain(UserEntity entity) {
+        return User.builder()
+                .id(new UserId(entity.getId()))
+                .name(entity.getName())
+                .email(entity.getEmail())
+                .password(entity.getPassword())
+                .build();
+    }
 }
@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.adapters.output.repositories.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(
+        name = "archived_tasks",
+        indexes = {
+                @Index(name = "idx_archived_tasks_user_id", columnList = "user_id"),
+                @Index(name = "idx_archived_tasks_list_id", columnList = "list_id")
+        }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTaskEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "list_id", nullable = false)
+    private UUID listId;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    /** The whole task as deflated JSON. */
+    @Column(nullable = false, length = 65535)
+    private byte[] data;
+}
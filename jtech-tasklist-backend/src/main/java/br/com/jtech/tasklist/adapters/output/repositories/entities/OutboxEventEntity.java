@@ -0,0 +1,59 @@
+package br.com.jtech.tasklist.adapters.output.repositories.entities;
+
+import br.com.jtech.tasklist.config.infra.sharding.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_leased_until", columnList = "leased_until, id"),
+                @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_id, id")
+        })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String aggregate;
+
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    /** Consumers that have not taken the event yet, as {@code ",titleSuggestionService,"}; the row is deleted when none is left. */
+    @Column(nullable = false)
+    private String pending;
+
+    /** Failed deliveries so far; each one doubles the wait before the next. */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** No node may claim the row before this instant. */
+    @Column(name = "leased_until", nullable = false)
+    private Instant leasedUntil;
+
+    /** Token of the sweep that claimed the row last. */
+    @Column(length = 36)
+    private String lease;
+}
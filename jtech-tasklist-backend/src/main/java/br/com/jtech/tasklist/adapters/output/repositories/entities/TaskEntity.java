@@ -1,12 +1,22 @@
 package br.com.jtech.tasklist.adapters.output.repositories.entities;
 
+import br.com.jtech.tasklist.config.infra.sharding.ShardedId;
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_list_id_title", columnList = "list_id, title"),
+                @Index(name = "idx_tasks_user_id_due_date", columnList = "user_id, due_date"),
+                @Index(name = "idx_tasks_user_id_completed", columnList = "user_id, completed"),
+                @Index(name = "idx_tasks_completed_at", columnList = "completed_at")
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -15,7 +25,7 @@ import java.util.UUID;
 public class TaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @ShardedId
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
@@ -33,4 +43,7 @@ public class TaskEntity {
     private boolean completed;
 
     private LocalDate dueDate;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
 }
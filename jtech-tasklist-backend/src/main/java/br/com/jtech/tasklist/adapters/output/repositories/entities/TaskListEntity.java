@@ -1,14 +1,16 @@
 package br.com.jtech.tasklist.adapters.output.repositories.entities;
 
+import br.com.jtech.tasklist.config.infra.sharding.ShardedId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
 @Entity
 @Table(
         name = "task_lists",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "name"})
+        uniqueConstraints = @UniqueConstraint(name = TaskListEntity.UNIQUE_NAME, columnNames = {"user_id", "name"})
 )
 @Getter
 @Setter
@@ -17,8 +19,10 @@ import java.util.UUID;
 @AllArgsConstructor
 public class TaskListEntity {
 
+    public static final String UNIQUE_NAME = "uk_task_lists_user_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @ShardedId
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
@@ -26,4 +30,13 @@ public class TaskListEntity {
 
     @Column(nullable = false)
     private String name;
+
+    /* Counters are never written through the entity; only the atomic update queries change them. */
+    @ColumnDefault("0")
+    @Column(name = "total_count", nullable = false, insertable = false, updatable = false)
+    private long totalCount;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_count", nullable = false, insertable = false, updatable = false)
+    private long completedCount;
 }
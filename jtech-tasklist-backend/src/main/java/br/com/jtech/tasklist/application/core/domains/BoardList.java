@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * One list on the board: its counters and the first page of its tasks.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BoardList {
+    private TaskListSummary summary;
+
+    private List<Task> tasks;
+}
@@ -0,0 +1,44 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A committed change to a task or a list. {@code sequence} is assigned by the outbox when the
+ * event is appended; {@code payload} is the {@link Task} or {@link TaskList} after the change,
+ * or before it for {@link Type#DELETED}. {@link Type#ARCHIVED} carries the task as it was moved
+ * to the archive, where it no longer changes.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class DomainEvent {
+
+    public enum Aggregate {
+        TASK, TASK_LIST
+    }
+
+    public enum Type {
+        CREATED, UPDATED, COMPLETION_CHANGED, DELETED, ARCHIVED
+    }
+
+    private final Long sequence;
+    private final Aggregate aggregate;
+    private final String aggregateId;
+    private final Type type;
+    private final UserId userId;
+    private final Instant occurredAt;
+    private final Object payload;
+
+    public static DomainEvent of(Type type, Task task) {
+        return new DomainEvent(null, Aggregate.TASK, Objects.toString(task.getId(), null), type, task.getUserId(), Instant.now(), task);
+    }
+
+    public static DomainEvent of(Type type, TaskList taskList) {
+        return new DomainEvent(null, Aggregate.TASK_LIST, Objects.toString(taskList.getId(), null), type, taskList.getUserId(), Instant.now(), taskList);
+    }
+}
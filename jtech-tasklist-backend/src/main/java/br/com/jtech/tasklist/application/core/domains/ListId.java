@@ -0,0 +1,34 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Id of a {@link TaskList}. Written as its canonical UUID string at the JSON and HTTP edges and
+ * ordered as the database orders uuid columns, byte by byte.
+ */
+public record ListId(UUID value) implements Comparable<ListId> {
+
+    public ListId {
+        Objects.requireNonNull(value, "value");
+    }
+
+    public static ListId of(String value) {
+        try {
+            return new ListId(UUID.fromString(value));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Id de lista inválido: " + value);
+        }
+    }
+
+    @Override
+    public int compareTo(ListId other) {
+        int high = Long.compareUnsigned(value.getMostSignificantBits(), other.value.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(value.getLeastSignificantBits(), other.value.getLeastSignificantBits());
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
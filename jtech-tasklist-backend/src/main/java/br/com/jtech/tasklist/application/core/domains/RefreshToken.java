@@ -1,5 +1,6 @@
 package br.com.jtech.tasklist.application.core.domains;
 
+import br.com.jtech.tasklist.config.infra.sharding.ShardedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 public class RefreshToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @ShardedId
     private UUID id;
 
     @Column(name = "user_id")
@@ -1,34 +1,24 @@
 package br.com.jtech.tasklist.application.core.domains;
 
-import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
 
-@Entity
-@Table(name = "tasks")
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
-    @Id
-    @Column(name = "id")
-    private String id;
+    private TaskId id;
 
-    @Column(name = "user_id")
-    private String userId;
+    private UserId userId;
 
-    @Column(name = "list_id")
-    private String listId;
+    private ListId listId;
 
-    @Column(name = "title")
     private String title;
 
-    @Column(name = "description")
     private String description;
 
-    @Column(name = "completed")
     private boolean completed;
 
     private LocalDate dueDate;
@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** Id of a {@link Task}. Written as its canonical UUID string at the JSON and HTTP edges. */
+public record TaskId(UUID value) {
+
+    public TaskId {
+        Objects.requireNonNull(value, "value");
+    }
+
+    public static TaskId of(String value) {
+        try {
+            return new TaskId(UUID.fromString(value));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Id de tarefa inválido: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
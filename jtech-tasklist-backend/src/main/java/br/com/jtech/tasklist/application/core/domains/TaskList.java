@@ -1,23 +1,16 @@
 package br.com.jtech.tasklist.application.core.domains;
 
-import jakarta.persistence.*;
 import lombok.*;
 
-@Entity
-@Table(name = "task_lists")
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskList {
-    @Id
-    @Column(name = "id")
-    private String id;
+    private ListId id;
 
-    @Column(name = "user_id")
-    private String userId;
+    private UserId userId;
 
-    @Column(name = "name")
     private String name;
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskListSummary {
+    private ListId listId;
+
+    private String name;
+
+    private long total;
+
+    private long completed;
+
+    private long overdue;
+}
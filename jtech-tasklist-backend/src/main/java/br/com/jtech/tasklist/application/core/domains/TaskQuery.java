@@ -0,0 +1,182 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Filter, sort and limit applied to a task listing. Every criterion is optional except the
+ * owner; the repository adapter translates the whole object into a single query. When
+ * {@code fields} is set only those columns are read and the other task attributes stay empty.
+ * Archived tasks are left out unless {@code includeArchived} is set.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TaskQuery {
+
+    public static final int MAX_LIMIT = 1000;
+
+    public enum SortField {
+        TITLE("title"),
+        DUE_DATE("dueDate"),
+        COMPLETED("completed");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        /** The column a sort on this field reads. */
+        public Field field() {
+            return Field.of(property);
+        }
+
+        public static SortField of(String value) {
+            for (SortField field : values()) {
+                if (field.property.equalsIgnoreCase(value) || field.name().equalsIgnoreCase(value)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Campo de ordenação inválido: " + value);
+        }
+    }
+
+    public enum Field {
+        ID("id"),
+        TITLE("title"),
+        DESCRIPTION("description"),
+        DUE_DATE("dueDate"),
+        COMPLETED("completed"),
+        USER_ID("userId"),
+        LIST_ID("listId");
+
+        private final String property;
+
+        Field(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public static Field of(String value) {
+            for (Field field : values()) {
+                if (field.property.equalsIgnoreCase(value) || field.name().equalsIgnoreCase(value)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Campo inválido: " + value);
+        }
+
+        /** Parses a comma-separated list such as {@code id,title,completed}. */
+        public static Set<Field> parse(String value) {
+            Set<Field> fields = EnumSet.noneOf(Field.class);
+            for (String part : value.split(",")) {
+                if (!part.isBlank()) {
+                    fields.add(of(part.strip()));
+                }
+            }
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("Informe ao menos um campo.");
+            }
+            return fields;
+        }
+    }
+
+    private UserId userId;
+
+    private ListId listId;
+
+    private Boolean completed;
+
+    private LocalDate dueFrom;
+
+    private LocalDate dueTo;
+
+    private String titlePrefix;
+
+    private SortField sortField;
+
+    private boolean descending;
+
+    private Integer limit;
+
+    private Set<Field> fields;
+
+    private boolean includeArchived;
+
+    /** Applies the filters in memory, for tasks read from outside the tasks table. */
+    public boolean matches(Task task) {
+        if (userId != null && !userId.equals(task.getUserId())) {
+            return false;
+        }
+        if (listId != null && !listId.equals(task.getListId())) {
+            return false;
+        }
+        if (completed != null && completed != task.isCompleted()) {
+            return false;
+        }
+        if (dueFrom != null && (task.getDueDate() == null || task.getDueDate().isBefore(dueFrom))) {
+            return false;
+        }
+        if (dueTo != null && (task.getDueDate() == null || task.getDueDate().isAfter(dueTo))) {
+            return false;
+        }
+        return titlePrefix == null || (task.getTitle() != null
+                && task.getTitle().toLowerCase(Locale.ROOT).startsWith(titlePrefix.toLowerCase(Locale.ROOT)));
+    }
+
+    /** This query, also reading the sort column when {@code fields} leaves it out, so rows can be merged in order. */
+    public TaskQuery withSortColumn() {
+        if (fields == null || sortField == null || fields.contains(sortField.field())) {
+            return this;
+        }
+        Set<Field> loaded = EnumSet.copyOf(fields);
+        loaded.add(sortField.field());
+        return toBuilder().fields(loaded).build();
+    }
+
+    /** Keeps only the attributes in {@code fields}; without {@code fields} the task is returned as is. */
+    public Task project(Task task) {
+        if (fields == null) {
+            return task;
+        }
+        var projected = new Task();
+        for (Field field : fields) {
+            switch (field) {
+                case ID -> projected.setId(task.getId());
+                case TITLE -> projected.setTitle(task.getTitle());
+                case DESCRIPTION -> projected.setDescription(task.getDescription());
+                case DUE_DATE -> projected.setDueDate(task.getDueDate());
+                case COMPLETED -> projected.setCompleted(task.isCompleted());
+                case USER_ID -> projected.setUserId(task.getUserId());
+                case LIST_ID -> projected.setListId(task.getListId());
+            }
+        }
+        return projected;
+    }
+
+    /** In-memory counterpart of {@code sortField}; tasks without the sorted value go last. */
+    public Comparator<Task> comparator() {
+        Comparator<Task> order = switch (sortField) {
+            case TITLE -> Comparator.comparing(Task::getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+            case DUE_DATE -> Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()));
+            case COMPLETED -> Comparator.comparing(Task::isCompleted);
+        };
+        return descending ? order.reversed() : order;
+    }
+}
@@ -1,26 +1,18 @@
 package br.com.jtech.tasklist.application.core.domains;
 
-import jakarta.persistence.*;
 import lombok.*;
 
-@Entity
-@Table(name = "users")
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
-    @Id
-    @Column(name = "id")
-    private String id;
+    private UserId id;
 
-    @Column(name = "name")
     private String name;
 
-    @Column(name = "email", unique = true)
     private String email;
 
-    @Column(name = "password")
     private String password;
 }
@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** Id of a {@link User}. Written as its canonical UUID string at the JSON and HTTP edges. */
+public record UserId(UUID value) {
+
+    public UserId {
+        Objects.requireNonNull(value, "value");
+    }
+
+    public static UserId of(String value) {
+        try {
+            return new UserId(UUID.fromString(value));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Id de usuário inválido: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,209 @@
+package br.com.jtech.tasklist.application.core.search;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Prefix tree of one user's task titles. Every node keeps the {@code topK} most recently
+ * used titles below it, so a lookup costs one walk down the prefix and no subtree scan.
+ * Lookups ignore case and surrounding blanks, but {@link Suggestion#existsInList()} compares
+ * the exact title, as the duplicate check on create does.
+ */
+public class TitleTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final char[] NO_LABELS = new char[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int topK;
+    private final Node root = new Node();
+    private long clock;
+
+    public TitleTrie(int topK) {
+        this.topK = topK;
+    }
+
+    public record Suggestion(String title, boolean existsInList) {
+    }
+
+    public synchronized void add(String title, ListId listId) {
+        if (title == null || title.isBlank()) {
+            return;
+        }
+        String key = normalize(title);
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            path[i + 1] = node;
+        }
+        Entry entry = node.terminal;
+        if (entry == null) {
+            entry = new Entry(title);
+            node.terminal = entry;
+        }
+        entry.title = title;
+        entry.stamp = ++clock;
+        entry.lists.computeIfAbsent(listId, k -> new HashMap<>(2)).merge(title, 1, Integer::sum);
+        for (Node n : path) {
+            n.promote(entry, topK);
+        }
+    }
+
+    public synchronized void remove(String title, ListId listId) {
+        if (title == null || title.isBlank()) {
+            return;
+        }
+        String key = normalize(title);
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+        Entry entry = node.terminal;
+        if (entry == null) {
+            return;
+        }
+        entry.lists.computeIfPresent(listId, (k, titles) -> {
+            titles.computeIfPresent(title, (t, count) -> count > 1 ? count - 1 : null);
+            return titles.isEmpty() ? null : titles;
+        });
+        if (!entry.lists.isEmpty()) {
+            if (entry.lists.values().stream().noneMatch(titles -> titles.containsKey(entry.title))) {
+                entry.title = entry.lists.values().iterator().next().keySet().iterator().next();
+            }
+            return;
+        }
+        node.terminal = null;
+        for (int i = path.length - 1; i >= 0; i--) {
+            Node n = path[i];
+            if (i > 0 && n.terminal == null && n.size == 0) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+            n.rebuildTop(topK);
+        }
+    }
+
+    public synchronized List<Suggestion> suggest(String prefix, ListId listId, int limit) {
+        Node node = root;
+        String key = normalize(prefix == null ? "" : prefix);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int n = Math.min(limit, node.top.length);
+        List<Suggestion> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Entry e = node.top[i];
+            result.add(new Suggestion(e.title, listId != null && e.lists.getOrDefault(listId, Map.of()).containsKey(e.title)));
+        }
+        return result;
+    }
+
+    private static String normalize(String title) {
+        return title.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private String title;
+        private long stamp;
+        /** Exact titles under this key, counted per list. */
+        private final Map<ListId, Map<String, Integer>> lists = new HashMap<>(2);
+
+        private Entry(String title) {
+            this.title = title;
+        }
+    }
+
+    private static final class Node {
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        private Entry terminal;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node child(char c) {
+            int i = Arrays.binarySearch(labels, 0, size, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(labels, 0, size, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            if (size == labels.length) {
+                int capacity = size == 0 ? 2 : size * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, at, labels, at + 1, size - at);
+            System.arraycopy(children, at, children, at + 1, size - at);
+            Node created = new Node();
+            labels[at] = c;
+            children[at] = created;
+            size++;
+            return created;
+        }
+
+        private void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, 0, size, c);
+            if (i < 0) {
+                return;
+            }
+            System.arraycopy(labels, i + 1, labels, i, size - i - 1);
+            System.arraycopy(children, i + 1, children, i, size - i - 1);
+            size--;
+            children[size] = null;
+        }
+
+        /** Moves a just-touched entry to the head of this node's top list. */
+        private void promote(Entry entry, int topK) {
+            int existing = -1;
+            for (int i = 0; i < top.length; i++) {
+                if (top[i] == entry) {
+                    existing = i;
+                    break;
+                }
+            }
+            Entry[] next;
+            if (existing >= 0) {
+                next = top;
+                System.arraycopy(next, 0, next, 1, existing);
+            } else {
+                next = new Entry[Math.min(top.length + 1, topK)];
+                System.arraycopy(top, 0, next, 1, next.length - 1);
+            }
+            next[0] = entry;
+            top = next;
+        }
+
+        /** Recomputes the top list from the terminal entry and the children's top lists. */
+        private void rebuildTop(int topK) {
+            List<Entry> candidates = new ArrayList<>();
+            if (terminal != null) {
+                candidates.add(terminal);
+            }
+            for (int i = 0; i < size; i++) {
+                candidates.addAll(Arrays.asList(children[i].top));
+            }
+            candidates.sort((a, b) -> Long.compare(b.stamp, a.stamp));
+            top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_ENTRIES);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import br.com.jtech.tasklist.application.core.domains.BoardList;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the whole board of a user with a fixed number of queries: the list summaries and the
+ * first page of every list are read concurrently on virtual threads scoped to the call. The
+ * reads are not wrapped in a shared transaction; each one runs in its own read-only one.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardService {
+
+    public static final int MAX_TASKS_PER_LIST = 100;
+
+    private final TaskListRepositoryPort taskListRepository;
+    private final TaskRepositoryPort taskRepository;
+    private final TaskDecorator taskDecorator;
+    private final TaskCompletionWriteBehind writeBehind;
+
+    public List<BoardList> getBoard(UserId userId, int tasksPerList) {
+        if (tasksPerList < 1 || tasksPerList > MAX_TASKS_PER_LIST) {
+            throw new IllegalArgumentException("O número de tarefas por lista deve estar entre 1 e " + MAX_TASKS_PER_LIST + ".");
+        }
+        writeBehind.flush(userId);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<TaskListSummary>> summaries = fork(executor,
+                    () -> taskListRepository.findSummariesByUserId(userId, LocalDate.now()));
+            Future<List<Task>> firstPages = fork(executor,
+                    () -> taskRepository.findFirstPageOfEachList(userId, tasksPerList));
+            try {
+                Map<ListId, List<Task>> tasksByList = firstPages.get().stream()
+                        .collect(Collectors.groupingBy(Task::getListId));
+                return summaries.get().stream()
+                        .map(summary -> new BoardList(summary, tasksByList.getOrDefault(summary.getListId(), List.of())))
+                        .toList();
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private <T> Future<T> fork(ExecutorService executor, Callable<T> call) {
+        var task = new FutureTask<>(call);
+        executor.execute(taskDecorator.decorate(task));
+        return task;
+    }
+}
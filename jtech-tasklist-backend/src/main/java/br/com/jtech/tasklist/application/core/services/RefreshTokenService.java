@@ -1,42 +1,58 @@
 package br.com.jtech.tasklist.application.core.services;
 
 import br.com.jtech.tasklist.application.core.domains.RefreshToken;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.repositories.RefreshTokenRepository;
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
     private final RefreshTokenRepository repository;
+    private final ShardRouter shards;
 
     @Value("${jwt.refresh-expiration:604800000}")
     private long refreshExpiration;
 
-    public RefreshToken create(String userId) {
-        return repository.save(RefreshToken.builder()
-                .token(UUID.randomUUID().toString())
-                .userId(UUID.fromString(userId))
+    /** The token is an id in the user's slot, so it routes to the user's shard on its own. */
+    public RefreshToken create(UserId userId) {
+        return shards.forUser(userId.value(), () -> repository.save(RefreshToken.builder()
+                .token(ShardKeys.newId().toString())
+                .userId(userId.value())
                 .expiresAt(Instant.now().plusMillis(refreshExpiration))
                 .revoked(false)
-                .build());
+                .build()));
     }
 
+    @Transactional
     public Optional<RefreshToken> validate(String token) {
-        return repository.findByTokenAndRevokedFalse(token)
+        return find(token, repository::findByTokenAndRevokedFalse)
                 .filter(rt -> rt.getExpiresAt().isAfter(Instant.now()));
     }
 
+    @Transactional
     public void revoke(String token) {
-        repository.findByToken(token).ifPresent(rt -> {
+        find(token, value -> repository.findByToken(value).map(rt -> {
             rt.setRevoked(true);
-            repository.save(rt);
-        });
+            return repository.save(rt);
+        }));
+    }
+
+    private Optional<RefreshToken> find(String token, Function<String, Optional<RefreshToken>> query) {
+        if (ShardKeys.isId(token)) {
+            return shards.forId(UUID.fromString(token), () -> query.apply(token));
+        }
+        return shards.onEveryShard(shard -> query.apply(token).stream().toList()).stream().findFirst();
     }
 
 }
@@ -0,0 +1,333 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.storage.AppendOnlyLog;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Optional write-behind for completion toggles. Toggles are queued per user; repeated toggles of
+ * one task collapse into the last value and a task toggled back to its stored state is not
+ * written at all. Queues are flushed in batched UPDATEs by {@code TaskCompletionFlushJob}, and
+ * every other service operation of the same user flushes that user's queue first.
+ *
+ * <p>A toggle is answered as soon as it is queued: it is first appended to an
+ * {@link AppendOnlyLog} in {@code tasklist.tasks.write-behind.dir}, and the toggles still
+ * pending there are queued again on startup, so an answered toggle survives a crash. A failed
+ * flush keeps its toggles for the next one. Once a flush commits, a record of the tasks it
+ * settled is logged; a crash in between writes them again, which changes no row that already
+ * holds the value and so neither counters nor events.
+ */
+@Slf4j
+@Service
+public class TaskCompletionWriteBehind {
+
+    enum Op { QUEUED, WRITTEN }
+
+    /** One log record: a queued toggle, or the tasks a committed flush settled. */
+    record Entry(Op op, Pending toggle, List<TaskId> tasks) {
+    }
+
+    record Pending(Task task, boolean stored, boolean latest) {
+        Task current() {
+            return Task.builder()
+                    .id(task.getId())
+                    .userId(task.getUserId())
+                    .listId(task.getListId())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .dueDate(task.getDueDate())
+                    .completed(latest)
+                    .build();
+        }
+    }
+
+    private final TaskRepositoryPort taskRepository;
+    private final TaskListRepositoryPort taskListRepository;
+    private final DomainEventOutboxPort events;
+    private final TransactionOperations transactions;
+    private final boolean enabled;
+    private final AppendOnlyLog journal;
+    private final Map<UserId, UserQueue> queues = new ConcurrentHashMap<>();
+    /** The toggles the journal holds as pending, guarded by {@link #journalLock}; a snapshot writes exactly these. */
+    private final Map<TaskId, Pending> journaled = new LinkedHashMap<>();
+    private final ReentrantLock journalLock = new ReentrantLock();
+
+    @Autowired
+    public TaskCompletionWriteBehind(TaskRepositoryPort taskRepository,
+                                     TaskListRepositoryPort taskListRepository,
+                                     DomainEventOutboxPort events,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${tasklist.tasks.write-behind.enabled:false}") boolean enabled,
+                                     @Value("${tasklist.tasks.write-behind.dir:./data}") Path dir,
+                                     @Value("${tasklist.tasks.write-behind.log-size:8MB}") DataSize logSize,
+                                     @Value("${tasklist.tasks.write-behind.sync:true}") boolean sync) {
+        this(taskRepository, taskListRepository, events, requiresNew(transactionManager), enabled,
+                enabled ? new AppendOnlyLog(dir.resolve("write-behind"), Math.toIntExact(logSize.toBytes()), sync) : null);
+    }
+
+    TaskCompletionWriteBehind(TaskRepositoryPort taskRepository,
+                              TaskListRepositoryPort taskListRepository,
+                              DomainEventOutboxPort events,
+                              TransactionOperations transactions,
+                              boolean enabled,
+                              AppendOnlyLog journal) {
+        this.taskRepository = taskRepository;
+        this.taskListRepository = taskListRepository;
+        this.events = events;
+        this.transactions = transactions;
+        this.enabled = enabled;
+        this.journal = journal;
+    }
+
+    /** Queues again every toggle the journal still holds as pending. */
+    @PostConstruct
+    void recover() {
+        if (journal == null) {
+            return;
+        }
+        journalLock.lock();
+        try {
+            journal.recover(snapshot -> {
+                for (Pending pending : read(snapshot, Pending[].class)) {
+                    journaled.put(pending.task().getId(), pending);
+                }
+            }, record -> apply(read(record, Entry.class)));
+            for (Pending pending : journaled.values()) {
+                queues.computeIfAbsent(pending.task().getUserId(), k -> new UserQueue()).tasks.put(pending.task().getId(), pending);
+            }
+            if (!journaled.isEmpty()) {
+                log.info("::: Recovered {} pending completion toggle(s).", journaled.size());
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (journal == null) {
+            return;
+        }
+        journalLock.lock();
+        try {
+            journal.snapshot(bytes(List.copyOf(journaled.values())));
+            journal.close();
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Logs and queues the toggle and returns the task as it will be written. {@code loader} reads
+     * and authorizes the task when none of its toggles is pending; it runs outside the queue lock,
+     * and its result is read again if the user's queue was flushed in the meantime.
+     */
+    public Task toggle(TaskId id, boolean completed, UserId userId, Supplier<Task> loader) {
+        Task loaded = null;
+        UserQueue loadedFor = null;
+        while (true) {
+            var queue = queues.computeIfAbsent(userId, k -> new UserQueue());
+            queue.lock.lock();
+            try {
+                if (queues.get(userId) != queue) {
+                    continue;
+                }
+                var pending = queue.tasks.get(id);
+                if (pending != null) {
+                    pending = new Pending(pending.task(), pending.stored(), completed);
+                } else if (loaded != null && loadedFor == queue) {
+                    pending = new Pending(loaded, loaded.isCompleted(), completed);
+                }
+                if (pending != null) {
+                    append(new Entry(Op.QUEUED, pending, List.of()));
+                    queue.tasks.put(id, pending);
+                    return pending.current();
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+            loaded = loader.get();
+            loadedFor = queue;
+        }
+    }
+
+    /**
+     * Writes the user's pending toggles in a transaction of its own, so it can run from inside a
+     * read-only one. Returns whether anything reached the database; on failure the toggles stay
+     * queued for the next flush and the error is passed on.
+     */
+    public boolean flush(UserId userId) {
+        var queue = queues.get(userId);
+        if (queue == null) {
+            return false;
+        }
+        queue.lock.lock();
+        try {
+            if (queues.get(userId) != queue) {
+                return false;
+            }
+            var pending = new ArrayList<>(queue.tasks.values());
+            boolean written = !pending.isEmpty() && write(pending);
+            if (!pending.isEmpty()) {
+                append(new Entry(Op.WRITTEN, null, List.copyOf(queue.tasks.keySet())));
+            }
+            queues.remove(userId, queue);
+            return written;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    /** Flushes every queue and returns the users whose toggles were written. */
+    public Set<UserId> flushAll() {
+        var written = new LinkedHashSet<UserId>();
+        for (UserId userId : List.copyOf(queues.keySet())) {
+            try {
+                if (flush(userId)) {
+                    written.add(userId);
+                }
+            } catch (RuntimeException e) {
+                log.error("::: Could not flush completion toggles of user {}; they stay queued for the next flush.", userId, e);
+            }
+        }
+        return written;
+    }
+
+    public int pendingCount() {
+        return queues.values().stream().mapToInt(queue -> queue.tasks.size()).sum();
+    }
+
+    /**
+     * Appends the entry, writing the pending toggles as a snapshot first when the log is full.
+     * A {@code WRITTEN} entry is logged before its queue is released, so no newer toggle of those
+     * tasks can be logged ahead of it.
+     */
+    private void append(Entry entry) {
+        byte[] record = bytes(entry);
+        journalLock.lock();
+        try {
+            if (!journal.fits(record.length)) {
+                journal.snapshot(bytes(List.copyOf(journaled.values())));
+            }
+            journal.append(record);
+            apply(entry);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private void apply(Entry entry) {
+        switch (entry.op()) {
+            case QUEUED -> journaled.put(entry.toggle().task().getId(), entry.toggle());
+            case WRITTEN -> entry.tasks().forEach(journaled::remove);
+        }
+    }
+
+    /**
+     * Counters and events follow the rows the UPDATEs actually changed: a task archived, deleted or
+     * toggled elsewhere since it was queued is skipped instead of being counted twice.
+     */
+    private boolean write(List<Pending> pending) {
+        var completed = new ArrayList<TaskId>();
+        var reopened = new ArrayList<TaskId>();
+        for (Pending p : pending) {
+            if (p.latest() != p.stored()) {
+                (p.latest() ? completed : reopened).add(p.task().getId());
+            }
+        }
+        if (completed.isEmpty() && reopened.isEmpty()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(transactions.execute(status -> {
+            var changedIds = new HashSet<TaskId>();
+            if (!completed.isEmpty()) {
+                changedIds.addAll(taskRepository.updateCompleted(completed, true));
+            }
+            if (!reopened.isEmpty()) {
+                changedIds.addAll(taskRepository.updateCompleted(reopened, false));
+            }
+            var deltas = new HashMap<ListId, Long>();
+            var changed = new ArrayList<DomainEvent>();
+            for (Pending p : pending) {
+                if (p.latest() != p.stored() && changedIds.contains(p.task().getId())) {
+                    changed.add(DomainEvent.of(DomainEvent.Type.COMPLETION_CHANGED, p.current()));
+                    deltas.merge(p.task().getListId(), p.latest() ? 1L : -1L, Long::sum);
+                }
+            }
+            deltas.forEach((listId, delta) -> {
+                if (delta != 0) {
+                    taskListRepository.incrementCounters(listId, 0, delta);
+                }
+            });
+            if (!changed.isEmpty()) {
+                events.append(changed);
+            }
+            return !changed.isEmpty();
+        }));
+    }
+
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private static byte[] bytes(Object value) {
+        try {
+            return Jsons.getMapper().writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T read(byte[] bytes, Class<T> type) {
+        try {
+            return Jsons.getMapper().readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class UserQueue {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<TaskId, Pending> tasks = new LinkedHashMap<>();
+    }
+}
@@ -1,11 +1,20 @@
 package br.com.jtech.tasklist.application.core.services;
 
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
 import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,12 +24,18 @@ public class TaskListService {
 
     private final TaskListRepositoryPort repository;
     private final TaskRepositoryPort taskRepository;
+    private final TaskCompletionWriteBehind writeBehind;
+    private final CreateTasklistInputGateway createTasklist;
+    private final DomainEventOutboxPort events;
+    private final TaskArchivePort archive;
 
+    /** Goes through the group-commit path; no transaction is held while the batch gathers. */
     public TaskList create(TaskList taskList) {
-        return repository.save(taskList);
+        return createTasklist.create(taskList);
     }
 
-    public Optional<TaskList> getById(String id, String userId) {
+    @Transactional(readOnly = true)
+    public Optional<TaskList> getById(ListId id, UserId userId) {
         var taskList = repository.findById(id);
         if (taskList.isPresent() && !taskList.get().getUserId().equals(userId)) {
             throw new IllegalArgumentException("Você não tem permissão para acessar esta lista.");
@@ -28,11 +43,27 @@ public class TaskListService {
         return taskList;
     }
 
-    public List<TaskList> getByUser(String userId) {
+    @Transactional(readOnly = true)
+    public List<TaskList> getByUser(UserId userId) {
         return repository.findAllByUserId(userId);
     }
 
-    public void delete(String id, String userId) {
+    @Transactional(readOnly = true)
+    public List<TaskListSummary> getSummaries(UserId userId) {
+        writeBehind.flush(userId);
+        return repository.findSummariesByUserId(userId, LocalDate.now());
+    }
+
+    public int reconcileCounters() {
+        return repository.reconcileCounters();
+    }
+
+    /**
+     * Only live tasks block the delete. Archived tasks are the list's read-only history and are
+     * deleted with it; they can also be deleted one by one through {@link TaskService#delete}.
+     */
+    @Transactional
+    public void delete(ListId id, UserId userId) {
         var taskList = repository.findById(id);
         if (taskList.isEmpty()) {
             throw new IllegalArgumentException("Lista não encontrada.");
@@ -43,14 +74,18 @@ public class TaskListService {
         if (taskRepository.existsByListId(id)) {
             throw new IllegalArgumentException("Existem tarefas vinculadas a esta lista. Exclua as tarefas antes de excluir a lista.");
         }
+        archive.deleteAllByListId(id);
         repository.deleteById(id);
+        events.append(List.of(DomainEvent.of(DomainEvent.Type.DELETED, taskList.get())));
     }
 
+    @Transactional(readOnly = true)
     public List<TaskList> getAll() {
         return repository.findAll();
     }
 
-    public TaskList update(TaskList taskList, String userId) {
+    @Transactional
+    public TaskList update(TaskList taskList, UserId userId) {
         var existing = repository.findById(taskList.getId());
         if (existing.isEmpty()) {
             throw new IllegalArgumentException("Lista não encontrada.");
@@ -58,6 +93,8 @@ public class TaskListService {
         if (!existing.get().getUserId().equals(userId)) {
             throw new IllegalArgumentException("Você não tem permissão para atualizar esta lista.");
         }
-        return repository.update(taskList);
+        TaskList updated = repository.update(taskList);
+        events.append(List.of(DomainEvent.of(DomainEvent.Type.UPDATED, updated)));
+        return updated;
     }
 }
@@ -1,60 +1,170 @@
 package br.com.jtech.tasklist.application.core.services;
 
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int MAX_IDS = 100;
+
     private final TaskRepositoryPort repository;
+    private final TaskListRepositoryPort taskListRepository;
+    private final TaskCompletionWriteBehind writeBehind;
+    private final DomainEventOutboxPort events;
+    private final TaskArchivePort archive;
 
+    @Transactional
     public Task create(Task task) {
         if (repository.existsByTitleAndListId(task.getTitle(), task.getListId())) {
             throw new IllegalArgumentException("Já existe uma tarefa com esse título nesta lista.");
         }
-        return repository.save(task);
+        Task saved = repository.save(task);
+        taskListRepository.incrementCounters(task.getListId(), 1, task.isCompleted() ? 1 : 0);
+        events.append(List.of(DomainEvent.of(DomainEvent.Type.CREATED, saved)));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Task> getById(TaskId id, UserId userId) {
+        return getById(id, userId, false);
     }
 
-    public Optional<Task> getById(String id, String userId) {
+    @Transactional(readOnly = true)
+    public Optional<Task> getById(TaskId id, UserId userId, boolean includeArchived) {
+        writeBehind.flush(userId);
         Optional<Task> task = repository.findById(id);
+        if (task.isEmpty() && includeArchived) {
+            task = archive.findById(id);
+        }
         if (task.isPresent() && !task.get().getUserId().equals(userId)) {
             throw new IllegalArgumentException("Você não tem permissão para acessar esta tarefa.");
         }
         return task;
     }
 
-    public List<Task> getByUser(String userId) {
+    /** Tasks of {@code userId} among {@code ids}, in request order; unknown or foreign ids are skipped. */
+    @Transactional(readOnly = true)
+    public List<Task> getByIds(List<TaskId> ids, UserId userId) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um id.");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Informe no máximo " + MAX_IDS + " ids.");
+        }
+        writeBehind.flush(userId);
+        Set<TaskId> unique = new LinkedHashSet<>(ids);
+        Map<TaskId, Task> byId = repository.findAllByIds(unique, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return unique.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> getByUser(UserId userId) {
+        writeBehind.flush(userId);
         return repository.findAllByUserId(userId);
     }
 
-    public List<Task> getByList(String listId, String userId) {
+    @Transactional(readOnly = true)
+    public List<Task> getByList(ListId listId, UserId userId) {
+        writeBehind.flush(userId);
         return repository.findAllByListId(listId).stream()
                 .filter(task -> task.getUserId().equals(userId))
                 .toList();
     }
 
-    public void delete(String id, String userId) {
+    @Transactional(readOnly = true)
+    public List<Task> search(TaskQuery query) {
+        if (query.getUserId() == null) {
+            throw new IllegalArgumentException("Usuário não informado.");
+        }
+        if (query.getDueFrom() != null && query.getDueTo() != null && query.getDueFrom().isAfter(query.getDueTo())) {
+            throw new IllegalArgumentException("Período de vencimento inválido.");
+        }
+        writeBehind.flush(query.getUserId());
+        if (!query.isIncludeArchived()) {
+            return repository.findAll(query);
+        }
+        List<Task> merged = new ArrayList<>(repository.findAll(query.withSortColumn()));
+        (query.getListId() != null
+                ? archive.findAllByListId(query.getListId())
+                : archive.findAllByUserId(query.getUserId()))
+                .stream().filter(query::matches).forEach(merged::add);
+        if (query.getSortField() != null) {
+            merged.sort(query.comparator());
+        }
+        return merged.stream()
+                .limit(query.getLimit() != null ? query.getLimit() : Long.MAX_VALUE)
+                .map(query::project)
+                .toList();
+    }
+
+    /** Moves up to {@code limit} tasks completed before {@code cutoff} to the archive. */
+    @Transactional
+    public int archiveCompleted(Instant cutoff, int limit) {
+        return archive.archiveCompletedBefore(cutoff, limit);
+    }
+
+    @Transactional
+    public void delete(TaskId id, UserId userId) {
+        writeBehind.flush(userId);
         Optional<Task> task = repository.findById(id);
         if (task.isEmpty()) {
-            throw new IllegalArgumentException("Tarefa não encontrada.");
+            deleteArchived(id, userId);
+            return;
         }
         if (!task.get().getUserId().equals(userId)) {
             throw new IllegalArgumentException("Você não tem permissão para excluir esta tarefa.");
         }
         repository.deleteById(id);
+        taskListRepository.incrementCounters(task.get().getListId(), -1, task.get().isCompleted() ? -1 : 0);
+        events.append(List.of(DomainEvent.of(DomainEvent.Type.DELETED, task.get())));
     }
 
+    /** Archived tasks are read-only but can be deleted; they are already out of the list counters. */
+    private void deleteArchived(TaskId id, UserId userId) {
+        Optional<Task> archived = archive.findById(id);
+        if (archived.isEmpty()) {
+            throw new IllegalArgumentException("Tarefa não encontrada.");
+        }
+        if (!archived.get().getUserId().equals(userId)) {
+            throw new IllegalArgumentException("Você não tem permissão para excluir esta tarefa.");
+        }
+        archive.deleteById(id);
+        events.append(List.of(DomainEvent.of(DomainEvent.Type.DELETED, archived.get())));
+    }
+
+    @Transactional(readOnly = true)
     public List<Task> getAll() {
         return repository.findAll();
     }
 
-    public Task update(Task task, String userId) {
+    @Transactional
+    public Task update(Task task, UserId userId) {
+        writeBehind.flush(userId);
         Optional<Task> existing = repository.findById(task.getId());
         if (existing.isEmpty()) {
             throw new IllegalArgumentException("Tarefa não encontrada.");
@@ -66,10 +176,29 @@ public class TaskService {
             repository.existsByTitleAndListId(task.getTitle(), task.getListId())) {
             throw new IllegalArgumentException("Já existe uma tarefa com esse título nesta lista.");
         }
-        return repository.update(task);
+        Task updated = repository.update(task);
+        moveCounters(existing.get(), task);
+        events.append(List.of(DomainEvent.of(DomainEvent.Type.UPDATED, updated)));
+        return updated;
     }
 
-    public Task toggleCompleted(String id, boolean completed, String userId) {
+    @Transactional
+    public Task toggleCompleted(TaskId id, boolean completed, UserId userId) {
+        if (writeBehind.isEnabled()) {
+            return writeBehind.toggle(id, completed, userId, () -> findToToggle(id, userId));
+        }
+        Task task = findToToggle(id, userId);
+        boolean wasCompleted = task.isCompleted();
+        task.setCompleted(completed);
+        Task updated = repository.update(task);
+        if (wasCompleted != completed) {
+            taskListRepository.incrementCounters(task.getListId(), 0, completed ? 1 : -1);
+            events.append(List.of(DomainEvent.of(DomainEvent.Type.COMPLETION_CHANGED, updated)));
+        }
+        return updated;
+    }
+
+    private Task findToToggle(TaskId id, UserId userId) {
         Optional<Task> taskOpt = repository.findById(id);
         if (taskOpt.isEmpty()) {
             throw new IllegalArgumentException("Tarefa não encontrada.");
@@ -78,7 +207,17 @@ public class TaskService {
         if (!task.getUserId().equals(userId)) {
             throw new IllegalArgumentException("Você não tem permissão para alterar esta tarefa.");
         }
-        task.setCompleted(completed);
-        return repository.update(task);
+        return task;
+    }
+
+    private void moveCounters(Task before, Task after) {
+        long completedBefore = before.isCompleted() ? 1 : 0;
+        long completedAfter = after.isCompleted() ? 1 : 0;
+        if (!Objects.equals(before.getListId(), after.getListId())) {
+            taskListRepository.incrementCounters(before.getListId(), -1, -completedBefore);
+            taskListRepository.incrementCounters(after.getListId(), 1, completedAfter);
+        } else if (completedBefore != completedAfter) {
+            taskListRepository.incrementCounters(after.getListId(), 0, completedAfter - completedBefore);
+        }
     }
 }
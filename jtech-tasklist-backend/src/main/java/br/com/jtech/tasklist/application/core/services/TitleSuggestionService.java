@@ -0,0 +1,156 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.search.TitleTrie;
+import br.com.jtech.tasklist.application.ports.output.DomainEventConsumer;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Title completion served from a per-user {@link TitleTrie}. Tries are built lazily from the
+ * repository on the first lookup and held through soft references, so the GC reclaims idle
+ * users' indexes under memory pressure and they are simply rebuilt on the next keystroke.
+ * Resident tries follow task events from the outbox; each one remembers the title it holds
+ * for every task, so an event delivered twice leaves it unchanged. Events that arrive while a
+ * user's trie is being built are recorded and replayed onto it before it is published, since
+ * the repository read may have missed them.
+ */
+@Service
+public class TitleSuggestionService implements DomainEventConsumer {
+
+    private final TaskRepositoryPort repository;
+    private final int topK;
+    private final Map<UserId, SoftReference<Index>> indexes = new ConcurrentHashMap<>();
+    private final Map<UserId, Build> builds = new HashMap<>();
+
+    public TitleSuggestionService(TaskRepositoryPort repository,
+                                  @Value("${tasklist.suggestions.top-k:10}") int topK) {
+        this.repository = repository;
+        this.topK = topK;
+    }
+
+    public List<TitleTrie.Suggestion> suggest(UserId userId, String prefix, ListId listId, int limit) {
+        return indexFor(userId).trie.suggest(prefix, listId, Math.min(Math.max(limit, 1), topK));
+    }
+
+    @Override
+    public void accept(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event.getAggregate() != DomainEvent.Aggregate.TASK || !(event.getPayload() instanceof Task task)) {
+                continue;
+            }
+            var index = residentIndex(event.getUserId());
+            if (index == null) {
+                synchronized (builds) {
+                    var build = builds.get(event.getUserId());
+                    if (build != null) {
+                        build.events.add(event);
+                        continue;
+                    }
+                    index = residentIndex(event.getUserId());
+                }
+            }
+            if (index != null) {
+                index.apply(task, present(event));
+            }
+        }
+    }
+
+    private Index residentIndex(UserId userId) {
+        var ref = indexes.get(userId);
+        return ref != null ? ref.get() : null;
+    }
+
+    private Index indexFor(UserId userId) {
+        var index = residentIndex(userId);
+        if (index != null) {
+            return index;
+        }
+        indexes.values().removeIf(ref -> ref.get() == null);
+        Build build;
+        synchronized (builds) {
+            build = builds.computeIfAbsent(userId, k -> new Build());
+            build.builders++;
+        }
+        var built = new Index(new TitleTrie(topK));
+        try {
+            for (Task task : repository.findAllByUserId(userId)) {
+                built.apply(task, true);
+            }
+        } catch (RuntimeException e) {
+            synchronized (builds) {
+                release(userId, build);
+            }
+            throw e;
+        }
+        synchronized (builds) {
+            release(userId, build);
+            for (DomainEvent event : build.events) {
+                built.apply((Task) event.getPayload(), present(event));
+            }
+            var resident = residentIndex(userId);
+            if (resident != null) {
+                return resident;
+            }
+            indexes.put(userId, new SoftReference<>(built));
+            return built;
+        }
+    }
+
+    /** Archived tasks leave the index along with deleted ones; suggestions cover live tasks only. */
+    private static boolean present(DomainEvent event) {
+        return event.getType() != DomainEvent.Type.DELETED && event.getType() != DomainEvent.Type.ARCHIVED;
+    }
+
+    private void release(UserId userId, Build build) {
+        if (--build.builders == 0) {
+            builds.remove(userId);
+        }
+    }
+
+    /** Events of a user whose trie is being built, and how many lookups are building it. */
+    private static final class Build {
+        private final List<DomainEvent> events = new ArrayList<>();
+        private int builders;
+    }
+
+    private record Indexed(String title, ListId listId) {
+    }
+
+    private static final class Index {
+        private final TitleTrie trie;
+        private final Map<TaskId, Indexed> tasks = new HashMap<>();
+
+        private Index(TitleTrie trie) {
+            this.trie = trie;
+        }
+
+        /** Makes the trie hold {@code task} as it is now, or not at all once it is gone. */
+        private synchronized void apply(Task task, boolean present) {
+            var next = present ? new Indexed(task.getTitle(), task.getListId()) : null;
+            var previous = next != null ? tasks.put(task.getId(), next) : tasks.remove(task.getId());
+            if (Objects.equals(previous, next)) {
+                return;
+            }
+            if (previous != null) {
+                trie.remove(previous.title(), previous.listId());
+            }
+            if (next != null) {
+                trie.add(next.title(), next.listId());
+            }
+        }
+    }
+}
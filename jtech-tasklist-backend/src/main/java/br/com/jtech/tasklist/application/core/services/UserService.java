@@ -2,12 +2,15 @@ package br.com.jtech.tasklist.application.core.services;
 
 import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
 import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.ports.output.UserRepositoryPort;
 import br.com.jtech.tasklist.config.infra.exceptions.BadCredentialsException;
 import br.com.jtech.tasklist.config.infra.exceptions.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -19,20 +22,33 @@ public class UserService {
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     public User create(UserDto user) {
-        if (user.email() == null || !user.email().matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$")) {
+        if (!isValidEmail(user.email())) {
             throw new BusinessException("Email inválido.");
         }
         if (repository.findByEmail(user.email()).isPresent()) {
             throw new BusinessException("Já existe um usuário cadastrado com este email.");
         }
 
-        return repository.save(user);
+        try {
+            return repository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (repository.findByEmail(user.email()).isPresent()) {
+                throw new BusinessException("Já existe um usuário cadastrado com este email.", e);
+            }
+            throw e;
+        }
+    }
+
+    static boolean isValidEmail(String email) {
+        return email != null && email.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
     }
 
-    public Optional<User> getById(String id) {
+    @Transactional(readOnly = true)
+    public Optional<User> getById(UserId id) {
         return repository.findById(id);
     }
 
+    @Transactional
     public User login(String email, String password) {
         var user = repository.findByEmail(email).orElseThrow(() ->
                         new BadCredentialsException("Email ou senha inválidas"));
@@ -0,0 +1,16 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Receives committed events in batches. Delivery is at least once and in commit order for each
+ * aggregate: an event reaches a consumer only after that consumer accepted every earlier event
+ * of its aggregate. When {@link #accept} throws, the same events come back to this consumer
+ * alone after a delay, and the later events of their aggregates wait for them. Events swept
+ * from the outbox after a crash may be seen again, so applying one twice must be harmless.
+ */
+public interface DomainEventConsumer {
+    void accept(List<DomainEvent> events);
+}
@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface DomainEventOutboxPort {
+
+    /** A stored event and the consumers that have not taken it yet. */
+    record Pending(long sequence, String aggregateId, Set<String> consumers) {
+    }
+
+    /** Stores the events in the caller's transaction; they are dispatched once it commits. */
+    void append(List<DomainEvent> events);
+    /** Leases up to {@code limit} events per shard whose last lease ran out, oldest first. */
+    List<DomainEvent> claim(int limit);
+    /** Stored events of the batch's aggregates up to its last sequence, in sequence order; delivered events are gone. */
+    List<Pending> pending(List<DomainEvent> batch);
+    /** Records that {@code consumer} took the events. */
+    void acknowledge(String consumer, Collection<Long> sequences);
+    /** Frees the events for another attempt after {@code firstDelay}, doubled per earlier attempt up to {@code maxDelay}. */
+    void retryLater(Collection<Long> sequences, Duration firstDelay, Duration maxDelay);
+    /** Frees the events after {@code delay} without counting an attempt; used for events held behind a failed one. */
+    void postpone(Collection<Long> sequences, Duration delay);
+    void delete(Collection<Long> sequences);
+}
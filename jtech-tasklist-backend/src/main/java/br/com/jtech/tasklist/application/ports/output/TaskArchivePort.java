@@ -0,0 +1,24 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cold storage for completed tasks. Archived tasks are out of {@link TaskRepositoryPort} and of
+ * the list counters. They cannot be changed, only deleted, alone or together with their list.
+ */
+public interface TaskArchivePort {
+    /** Moves up to {@code limit} tasks completed before {@code cutoff}, oldest first; returns how many moved. */
+    int archiveCompletedBefore(Instant cutoff, int limit);
+    Optional<Task> findById(TaskId id);
+    List<Task> findAllByUserId(UserId userId);
+    List<Task> findAllByListId(ListId listId);
+    void deleteById(TaskId id);
+    void deleteAllByListId(ListId listId);
+}
@@ -1,15 +1,23 @@
 package br.com.jtech.tasklist.application.ports.output;
 
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface TaskListRepositoryPort {
     TaskList save(TaskList taskList);
+    List<TaskList> saveAll(List<TaskList> taskLists);
     TaskList update(TaskList taskList);
-    Optional<TaskList> findById(String id);
+    Optional<TaskList> findById(ListId id);
     List<TaskList> findAll();
-    List<TaskList> findAllByUserId(String userId);
-    void deleteById(String id);
+    List<TaskList> findAllByUserId(UserId userId);
+    void deleteById(ListId id);
+    void incrementCounters(ListId id, long total, long completed);
+    List<TaskListSummary> findSummariesByUserId(UserId userId, LocalDate today);
+    int reconcileCounters();
 }
@@ -1,18 +1,28 @@
 package br.com.jtech.tasklist.application.ports.output;
 
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TaskRepositoryPort {
     Task save(Task task);
     Task update(Task task);
-    Optional<Task> findById(String id);
+    /** Sets {@code completed} on the tasks among {@code ids} that still exist and differ; returns their ids. */
+    List<TaskId> updateCompleted(Collection<TaskId> ids, boolean completed);
+    Optional<Task> findById(TaskId id);
+    List<Task> findAllByIds(Collection<TaskId> ids, UserId userId);
     List<Task> findAll();
-    List<Task> findAllByUserId(String userId);
-    List<Task> findAllByListId(String listId);
-    void deleteById(String id);
-    boolean existsByTitleAndListId(String title, String listId);
-    boolean existsByListId(String listId);
+    List<Task> findAllByUserId(UserId userId);
+    List<Task> findAllByListId(ListId listId);
+    List<Task> findFirstPageOfEachList(UserId userId, int perList);
+    List<Task> findAll(TaskQuery query);
+    void deleteById(TaskId id);
+    boolean existsByTitleAndListId(String title, ListId listId);
+    boolean existsByListId(ListId listId);
 }
@@ -0,0 +1,54 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.config.infra.coalescing.SingleFlightInterceptor;
+import br.com.jtech.tasklist.config.infra.coalescing.WriteEpochs;
+import br.com.jtech.tasklist.config.infra.utils.InterceptingPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single-flight coalescing of the list reads that many tabs of one user fire at the same time.
+ * Timeouts default to {@code tasklist.coalescing.timeout} and can be set per method with
+ * {@code tasklist.coalescing.timeout.<Service>.<method>}. Writes of the authenticated user
+ * through either service keep that user's later reads out of calls already in flight.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasklist.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    private static final Map<Class<?>, Set<String>> COALESCED = Map.of(
+            TaskService.class, Set.of("getByList", "search"),
+            TaskListService.class, Set.of("getByUser"));
+
+    @Bean
+    public static InterceptingPostProcessor singleFlightPostProcessor(Environment environment,
+                                                                      ObjectProvider<MeterRegistry> registry) {
+        Duration timeout = DurationStyle.detectAndParse(environment.getProperty("tasklist.coalescing.timeout", "2s"));
+        var epochs = new WriteEpochs();
+        return new InterceptingPostProcessor(InterceptingPostProcessor.COALESCING, List.copyOf(COALESCED.keySet()),
+                target -> new SingleFlightInterceptor(target.getSimpleName(), COALESCED.get(target), environment, timeout,
+                        registry::getIfAvailable, epochs, CoalescingConfig::currentUser));
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getPrincipal() instanceof String userId ? userId : null;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.sql.StatementCounter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Work forked from a request thread keeps the caller's security context (used by the
+ * read-your-writes routing) and is counted against the request's SQL statement budget.
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    @Bean
+    public TaskDecorator requestContextTaskDecorator() {
+        return task -> StatementCounter.propagate(new DelegatingSecurityContextRunnable(task));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.datasource.ReadWriteRoutingDataSource;
+import br.com.jtech.tasklist.config.infra.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/replica routing, enabled by setting {@code tasklist.datasource.replica.jdbc-url}. The
+ * primary pool keeps reading {@code spring.datasource.*}; the replica pool is a Hikari pool
+ * bound from {@code tasklist.datasource.replica.*}. Sharding ({@link ShardingConfig}) replaces the
+ * same {@code dataSource} bean, so the start fails when both are enabled.
+ */
+@Configuration
+@Conditional(DataSourceConfig.ReplicaRouting.class)
+public class DataSourceConfig {
+
+    /** Matches when a replica URL is set, and refuses the start when sharding is enabled too. */
+    static class ReplicaRouting implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            var environment = context.getEnvironment();
+            if (!StringUtils.hasText(environment.getProperty("tasklist.datasource.replica.jdbc-url"))) {
+                return false;
+            }
+            if (environment.getProperty("tasklist.sharding.enabled", Boolean.class, false)) {
+                throw new IllegalStateException("Réplica de leitura (tasklist.datasource.replica.jdbc-url) não pode ser "
+                        + "combinada com sharding (tasklist.sharding.enabled=true); desative uma das duas.");
+            }
+            return true;
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("tasklist-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("tasklist.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        var dataSource = new HikariDataSource();
+        dataSource.setPoolName("tasklist-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${tasklist.datasource.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWritesTracker tracker) {
+        var routing = new ReadWriteRoutingDataSource(tracker);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
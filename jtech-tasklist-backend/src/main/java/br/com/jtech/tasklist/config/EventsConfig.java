@@ -0,0 +1,41 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.application.ports.output.DomainEventConsumer;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.config.infra.events.DomainEventDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dispatches outbox events to every {@link DomainEventConsumer} bean, in their {@code @Order}.
+ * A consumer's bean name is what the outbox records until it acknowledges, so renaming one
+ * drops the events still waiting for it under the old name.
+ */
+@Configuration
+public class EventsConfig {
+
+    @Bean
+    public DomainEventDispatcher domainEventDispatcher(DomainEventOutboxPort outbox,
+                                                       ListableBeanFactory beans,
+                                                       ObjectProvider<MeterRegistry> registry,
+                                                       @Value("${tasklist.events.buffer-size:1024}") int bufferSize,
+                                                       @Value("${tasklist.events.batch-size:128}") int batchSize,
+                                                       @Value("${tasklist.events.retry-delay:1s}") Duration retryDelay,
+                                                       @Value("${tasklist.events.max-retry-delay:10m}") Duration maxRetryDelay) {
+        var consumers = new LinkedHashMap<String, DomainEventConsumer>();
+        beans.getBeansOfType(DomainEventConsumer.class).entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(AnnotationAwareOrderComparator.INSTANCE))
+                .forEach(e -> consumers.put(e.getKey(), e.getValue()));
+        return new DomainEventDispatcher(outbox, consumers, bufferSize, batchSize,
+                retryDelay, maxRetryDelay, registry::getIfAvailable);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.idempotency.IdempotencyFilter;
+import br.com.jtech.tasklist.config.infra.idempotency.IdempotencyStore;
+import br.com.jtech.tasklist.config.infra.idempotency.InMemoryIdempotencyStore;
+import br.com.jtech.tasklist.config.infra.idempotency.JdbcIdempotencyStore;
+import br.com.jtech.tasklist.config.infra.idempotency.TieredIdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * {@code Idempotency-Key} support for the mutating endpoints. Completed responses live in a
+ * bounded in-memory store; with {@code tasklist.idempotency.store=jdbc} keys are claimed in the
+ * {@code idempotency_keys} table so retries landing on another node are answered too.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tasklist.idempotency.store", havingValue = "jdbc")
+    public JdbcIdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcIdempotencyStore(jdbcTemplate, Clock.systemUTC());
+    }
+
+    @Bean
+    public IdempotencyStore idempotencyStore(@Value("${tasklist.idempotency.max-entries:10000}") int maxEntries,
+                                             ObjectProvider<JdbcIdempotencyStore> shared) {
+        var local = new InMemoryIdempotencyStore(maxEntries, Clock.systemUTC());
+        var jdbc = shared.getIfAvailable();
+        return jdbc != null ? new TieredIdempotencyStore(local, jdbc) : local;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       @Value("${tasklist.idempotency.ttl:24h}") Duration ttl,
+                                                                       ObjectProvider<MeterRegistry> registry) {
+        var registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, ttl, Clock.systemUTC(), registry::getIfAvailable));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Makes the {@link Jsons} mapper the application's only {@link ObjectMapper}, so MVC's JSON
+ * converter uses it too. Smile and CBOR bodies are negotiated through {@code Accept}/{@code
+ * Content-Type} with mappers built from the same {@link Jsons#configure} settings.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    @Primary
+    public ObjectMapper objectMapper() {
+        return Jsons.getMapper();
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(Jsons.configure(Jackson2ObjectMapperBuilder.smile()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(Jsons.configure(Jackson2ObjectMapperBuilder.cbor()).build());
+    }
+}
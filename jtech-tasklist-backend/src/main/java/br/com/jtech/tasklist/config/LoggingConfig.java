@@ -0,0 +1,53 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.logging.AccessLogFilter;
+import br.com.jtech.tasklist.config.infra.logging.BatchingAsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(
+            @Value("${tasklist.access-log.sample-rate:0.05}") double sampleRate,
+            @Value("${tasklist.access-log.slow-threshold-ms:500}") long slowThresholdMillis) {
+        var registration = new FilterRegistrationBean<>(new AccessLogFilter(sampleRate, slowThresholdMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder asyncLogAppenderMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+                return;
+            }
+            var appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof BatchingAsyncAppender appender) {
+                    bind(registry, appender);
+                }
+            }
+        };
+    }
+
+    private static void bind(MeterRegistry registry, BatchingAsyncAppender appender) {
+        FunctionCounter.builder("tasklist.logging.dropped", appender, BatchingAsyncAppender::getDroppedCount)
+                .tag("appender", appender.getName())
+                .register(registry);
+        Gauge.builder("tasklist.logging.queued", appender, BatchingAsyncAppender::getNumberOfElementsInQueue)
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
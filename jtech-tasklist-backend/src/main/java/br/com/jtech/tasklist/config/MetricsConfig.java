@@ -0,0 +1,36 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.application.core.repositories.RefreshTokenRepository;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.UserService;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.UserRepositoryPort;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredInvocationInterceptor;
+import br.com.jtech.tasklist.config.infra.utils.InterceptingPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "tasklist.metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public static InterceptingPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new InterceptingPostProcessor(InterceptingPostProcessor.METRICS, List.of(
+                TaskRepositoryPort.class,
+                TaskListRepositoryPort.class,
+                UserRepositoryPort.class,
+                RefreshTokenRepository.class,
+                TaskService.class,
+                TaskListService.class,
+                UserService.class
+        ), target -> new MeteredInvocationInterceptor(target.getSimpleName(), registry::getObject));
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.sharding.ShardMap;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRebalancer;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRoutingDataSource;
+import br.com.jtech.tasklist.config.infra.sharding.TimeOrderedIdGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Node id of the time-ordered ids, then hash sharding by user, enabled with {@code tasklist.sharding.enabled=true}. Each entry of
+ * {@code tasklist.sharding.shards} is bound onto a Hikari pool ({@code jdbc-url}, {@code username},
+ * ...) and replaces {@code spring.datasource.*}; shard 0 also holds the slot map. Replica routing
+ * ({@link DataSourceConfig}) refuses to start alongside it.
+ */
+@Configuration
+public class ShardingConfig {
+
+    /** Fails the start when {@code tasklist.node-id} is missing or out of range. */
+    @Bean
+    public SmartInitializingSingleton nodeIdInitializer(@Value("${tasklist.node-id:-1}") int nodeId) {
+        return () -> TimeOrderedIdGenerator.useNode(nodeId);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tasklist.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public ShardRouter singleShardRouter() {
+        return ShardRouter.single();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "tasklist.sharding.enabled", havingValue = "true")
+    static class Sharded {
+
+        @Bean
+        public ShardRoutingDataSource shardRoutingDataSource(Environment environment) {
+            List<HikariDataSource> shards = Binder.get(environment)
+                    .bind("tasklist.sharding.shards", Bindable.listOf(HikariDataSource.class))
+                    .orElseThrow(() -> new IllegalStateException("Nenhum shard configurado em tasklist.sharding.shards."));
+            for (int i = 0; i < shards.size(); i++) {
+                shards.get(i).setPoolName("tasklist-shard-" + i);
+            }
+            return new ShardRoutingDataSource(shards);
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardRoutingDataSource shards) {
+            return new LazyConnectionDataSourceProxy(shards);
+        }
+
+        @Bean(destroyMethod = "leave")
+        public ShardMap shardMap(ShardRoutingDataSource shards,
+                                 @Value("${tasklist.node-id:-1}") int nodeId,
+                                 @Value("${tasklist.sharding.node-timeout:90s}") Duration nodeTimeout) {
+            return new ShardMap(shards, nodeId, nodeTimeout);
+        }
+
+        @Bean
+        public ShardRouter shardRouter(ShardMap map, PlatformTransactionManager transactionManager,
+                                       @Value("${tasklist.sharding.freeze-timeout:10s}") Duration freezeTimeout) {
+            return new ShardRouter(map, transactionManager, freezeTimeout);
+        }
+
+        @Bean
+        public ShardRebalancer shardRebalancer(ShardMap map, ShardRouter router, ShardRoutingDataSource shards,
+                                               @Value("${tasklist.sharding.drain-timeout:5s}") Duration drainTimeout,
+                                               @Value("${tasklist.sharding.node-timeout:90s}") Duration nodeTimeout) {
+            return new ShardRebalancer(map, router, shards, drainTimeout, nodeTimeout);
+        }
+
+        /** Creates the schema on the other shards when asked to, then loads the slot map before anything routes. */
+        @Bean
+        public SmartInitializingSingleton shardInitializer(ShardRoutingDataSource shards, ShardMap map, ShardRouter router,
+                                                           EntityManagerFactory entityManagerFactory,
+                                                           @Value("${tasklist.sharding.initialize-schema:false}") boolean initializeSchema) {
+            return () -> {
+                if (initializeSchema) {
+                    var schema = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getSchemaManager();
+                    for (int shard = 1; shard < shards.shardCount(); shard++) {
+                        router.onShard(shard, () -> {
+                            schema.exportMappedObjects(true);
+                            return null;
+                        });
+                    }
+                    var catalog = new JdbcTemplate(shards.shard(0));
+                    catalog.execute("create table if not exists shard_slots (slot integer primary key, shard integer not null)");
+                    catalog.execute("create table if not exists shard_nodes (node varchar(36) primary key, node_id integer, seen_at timestamp not null)");
+                }
+                map.load();
+            };
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "tasklist.sharding.rebalance-on-start", havingValue = "true")
+        public ApplicationRunner shardRebalanceRunner(ShardRebalancer rebalancer) {
+            return args -> Thread.ofPlatform().name("tasklist-rebalance").daemon().start(rebalancer::rebalance);
+        }
+    }
+}
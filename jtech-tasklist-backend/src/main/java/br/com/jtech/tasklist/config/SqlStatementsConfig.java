@@ -0,0 +1,45 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.config.infra.sql.StatementBudgetInterceptor;
+import br.com.jtech.tasklist.config.infra.sql.StatementCountingInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-request SQL statement counting with per-endpoint budgets and N+1 detection, replacing
+ * {@code show-sql} as the way to see what an endpoint sends to the database.
+ */
+@Configuration
+public class SqlStatementsConfig implements WebMvcConfigurer {
+
+    private final StatementBudgetInterceptor budgetInterceptor;
+
+    public SqlStatementsConfig(Environment environment, ObjectProvider<MeterRegistry> registry,
+                               @Value("${tasklist.sql.budget.default:10}") int defaultBudget,
+                               @Value("${tasklist.sql.n-plus-one.threshold:5}") int repeatThreshold) {
+        this.budgetInterceptor = new StatementBudgetInterceptor(environment, registry, defaultBudget, repeatThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> {
+            var configured = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    new StatementCountingInspector(configured instanceof StatementInspector inspector ? inspector : null));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(budgetInterceptor);
+    }
+}
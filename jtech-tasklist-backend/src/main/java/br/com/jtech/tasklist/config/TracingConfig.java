@@ -0,0 +1,85 @@
+package br.com.jtech.tasklist.config;
+
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.UserService;
+import br.com.jtech.tasklist.config.infra.tracing.RequestTracingFilter;
+import br.com.jtech.tasklist.config.infra.tracing.ServiceTimingInterceptor;
+import br.com.jtech.tasklist.config.infra.tracing.SlowRequestLog;
+import br.com.jtech.tasklist.config.infra.tracing.SlowRequestsEndpoint;
+import br.com.jtech.tasklist.config.infra.tracing.StatementTimingListener;
+import br.com.jtech.tasklist.config.infra.tracing.TracingHandlerInterceptor;
+import br.com.jtech.tasklist.config.infra.utils.InterceptingPostProcessor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Sampled per-request phase tracing. Only a fraction of the requests
+ * ({@code tasklist.tracing.sample-rate}) is traced, and the {@code Server-Timing} header, which
+ * buffers the response body, is only sent with {@code tasklist.tracing.server-timing}. The dev
+ * and test profiles opt into both.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasklist.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final TracingHandlerInterceptor handlerInterceptor;
+
+    public TracingConfig(TracingHandlerInterceptor handlerInterceptor) {
+        this.handlerInterceptor = handlerInterceptor;
+    }
+
+    @Bean
+    public static InterceptingPostProcessor serviceTimingPostProcessor() {
+        var interceptor = new ServiceTimingInterceptor();
+        return new InterceptingPostProcessor(InterceptingPostProcessor.TRACING,
+                List.of(TaskService.class, TaskListService.class, UserService.class), target -> interceptor);
+    }
+
+    @Bean
+    public SlowRequestLog slowRequestLog(@Value("${tasklist.tracing.window:512}") int window) {
+        return new SlowRequestLog(window);
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog log,
+                                                     @Value("${tasklist.tracing.slowest:20}") int slowest) {
+        return new SlowRequestsEndpoint(log, slowest);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTracingFilter> requestTracingFilter(
+            SlowRequestLog log,
+            @Value("${tasklist.tracing.sample-rate:0.01}") double sampleRate,
+            @Value("${tasklist.tracing.server-timing:false}") boolean serverTiming) {
+        var registration = new FilterRegistrationBean<>(new RequestTracingFilter(log, sampleRate, serverTiming));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementTimingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, StatementTimingListener.class.getName());
+            var configured = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    new StatementTimingListener.Inspector(configured instanceof StatementInspector inspector ? inspector : null));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerInterceptor);
+    }
+}
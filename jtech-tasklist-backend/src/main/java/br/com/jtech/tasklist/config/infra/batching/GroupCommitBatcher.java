@@ -0,0 +1,163 @@
+package br.com.jtech.tasklist.config.infra.batching;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for concurrent callers. {@link #submit} blocks until its item is committed. A
+ * single writer thread takes the first queued item, keeps gathering for up to {@code window}
+ * or {@code maxBatch} items and commits them together. When a batch fails, its items are
+ * committed one by one, so every caller gets its own result or its own error. At most
+ * {@code capacity} items wait in the queue; further submits fail at once with a
+ * {@link RejectedExecutionException}. A caller interrupted while its item is still queued takes
+ * it back and fails; once the writer has the item, the caller waits for its result.
+ */
+@Slf4j
+public class GroupCommitBatcher<T, R> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 50;
+
+    /** Commits a whole batch, all or nothing, returning one result per item in order. */
+    @FunctionalInterface
+    public interface Committer<T, R> {
+        List<R> commit(List<T> batch);
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result) {
+    }
+
+    private final Committer<T, R> committer;
+    private final int maxBatch;
+    private final long windowNanos;
+    private final BlockingQueue<Pending<T, R>> queue;
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public GroupCommitBatcher(String name, Committer<T, R> committer, int maxBatch, Duration window, int capacity) {
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("maxBatch must be positive");
+        }
+        if (capacity < maxBatch) {
+            throw new IllegalArgumentException("capacity must be at least maxBatch");
+        }
+        this.committer = committer;
+        this.maxBatch = maxBatch;
+        this.windowNanos = window.toNanos();
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.worker = Thread.ofPlatform().name(name).daemon().start(this::drain);
+    }
+
+    public R submit(T item) {
+        if (closed) {
+            throw new IllegalStateException("Group commit is closed.");
+        }
+        var pending = new Pending<T, R>(item, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new RejectedExecutionException("Group commit queue is full.");
+        }
+        if (closed && queue.remove(pending)) {
+            throw new IllegalStateException("Group commit is closed.");
+        }
+        try {
+            return pending.result().get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queue.remove(pending)) {
+                throw new IllegalStateException(e);
+            }
+            return awaitTaken(pending);
+        }
+    }
+
+    /**
+     * The writer already took the item, so it may commit whatever the caller does; waits for the
+     * outcome without reacting to the interrupt instead of reporting a failure that did not happen.
+     */
+    private R awaitTaken(Pending<T, R> pending) {
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    /** Commits what is already queued, then fails anything submitted afterwards. */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var left = new ArrayList<Pending<T, R>>();
+        queue.drainTo(left);
+        left.forEach(p -> p.result().completeExceptionally(new IllegalStateException("Group commit is closed.")));
+    }
+
+    private void drain() {
+        var batch = new ArrayList<Pending<T, R>>(maxBatch);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    long left = deadline - System.nanoTime();
+                    var next = left > 0 ? queue.poll(left, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                log.warn("::: Group commit writer {} interrupted while gathering.", worker.getName());
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<Pending<T, R>> batch) {
+        List<R> results;
+        try {
+            results = committer.commit(batch.stream().map(Pending::item).toList());
+        } catch (Throwable e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.debug("::: Batch of {} failed, committing its items one by one.", batch.size(), e);
+            batch.forEach(p -> commit(List.of(p)));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+}
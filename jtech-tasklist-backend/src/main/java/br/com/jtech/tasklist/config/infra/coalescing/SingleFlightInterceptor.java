@@ -0,0 +1,151 @@
+package br.com.jtech.tasklist.config.infra.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls of the same read method with equal arguments into one: the first
+ * caller runs it, the others wait for and share its result or exception. A caller that waits
+ * longer than the method's timeout gives up on the shared call and runs its own. Results are
+ * shared between callers and must not be mutated. Any other method that is not a read-only
+ * transaction counts as a write of the current user once it returns; the user's
+ * {@link WriteEpochs} epoch is part of the key, so nobody joins a call that started before
+ * their own last write.
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    static final String CALLS = "tasklist.coalescing.calls";
+
+    private final String component;
+    private final Set<String> methods;
+    private final Environment environment;
+    private final Duration defaultTimeout;
+    private final Supplier<MeterRegistry> registry;
+    private final WriteEpochs epochs;
+    private final Supplier<String> currentUser;
+    private final Map<Method, Boolean> writes = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Flight> flights = new ConcurrentHashMap<>();
+
+    public SingleFlightInterceptor(String component, Set<String> methods, Environment environment,
+                                   Duration defaultTimeout, Supplier<MeterRegistry> registry,
+                                   WriteEpochs epochs, Supplier<String> currentUser) {
+        this.component = component;
+        this.methods = methods;
+        this.environment = environment;
+        this.defaultTimeout = defaultTimeout;
+        this.registry = registry;
+        this.epochs = epochs;
+        this.currentUser = currentUser;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!methods.contains(method.getName())) {
+            if (!writes.computeIfAbsent(method, m -> isWrite(m, invocation.getThis()))) {
+                return invocation.proceed();
+            }
+            try {
+                return invocation.proceed();
+            } finally {
+                epochs.recordWrite(currentUser.get());
+            }
+        }
+        Flight flight = flights.computeIfAbsent(method, this::flight);
+        var key = new Key(method, Arrays.asList(invocation.getArguments().clone()), epochs.of(currentUser.get()));
+        var call = new CompletableFuture<>();
+        var running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            return join(running, flight, invocation);
+        }
+        try {
+            Object result = invocation.proceed();
+            call.complete(result);
+            flight.count("leader");
+            return result;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            flight.count("leader");
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Object join(CompletableFuture<Object> running, Flight flight, MethodInvocation invocation) throws Throwable {
+        try {
+            Object result = running.get(flight.timeout().toMillis(), TimeUnit.MILLISECONDS);
+            flight.count("collapsed");
+            return result;
+        } catch (ExecutionException e) {
+            flight.count("collapsed");
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            flight.count("timeout");
+            return invocation.proceed();
+        }
+    }
+
+    private Flight flight(Method method) {
+        String name = component + "." + method.getName();
+        String configured = environment.getProperty("tasklist.coalescing.timeout." + name);
+        Duration timeout = configured != null ? DurationStyle.detectAndParse(configured) : defaultTimeout;
+        return new Flight(method.getName(), timeout);
+    }
+
+    private static boolean isWrite(Method method, Object target) {
+        Method specific = target != null ? AopUtils.getMostSpecificMethod(method, target.getClass()) : method;
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(specific, Transactional.class);
+        return transactional == null || !transactional.readOnly();
+    }
+
+    private record Key(Method method, List<Object> arguments, long writeEpoch) {
+    }
+
+    private final class Flight {
+        private final String method;
+        private final Duration timeout;
+        private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+        private Flight(String method, Duration timeout) {
+            this.method = method;
+            this.timeout = timeout;
+        }
+
+        Duration timeout() {
+            return timeout;
+        }
+
+        void count(String outcome) {
+            var meters = registry.get();
+            if (meters != null) {
+                counters.computeIfAbsent(outcome, o -> Counter.builder(CALLS)
+                        .tag("component", component)
+                        .tag("method", method)
+                        .tag("outcome", o)
+                        .register(meters)).increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.jtech.tasklist.config.infra.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A per-user counter of finished writes. Coalesced reads carry the caller's epoch in their key,
+ * so a caller only ever joins a call that started after its own last write.
+ */
+public class WriteEpochs {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, Long> lastWrite = new ConcurrentHashMap<>();
+    private volatile long floor;
+
+    public void recordWrite(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (lastWrite.size() > PRUNE_THRESHOLD) {
+            floor = clock.get();
+            lastWrite.clear();
+        }
+        lastWrite.put(userId, clock.incrementAndGet());
+    }
+
+    /** Pruning raises every user to the current epoch, so no one can join a call older than their writes. */
+    public long of(String userId) {
+        return userId == null ? floor : Math.max(floor, lastWrite.getOrDefault(userId, 0L));
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.jtech.tasklist.config.infra.collections;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable list of UUIDs packed as pairs of {@code long}s in one array, in insertion order. Used
+ * for secondary indexes, where each entry would otherwise be a boxed {@link UUID} plus a node.
+ * Not thread safe.
+ */
+public class UuidList {
+
+    private long[] pairs = new long[8];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long hi(int index) {
+        return pairs[index * 2];
+    }
+
+    public long lo(int index) {
+        return pairs[index * 2 + 1];
+    }
+
+    public void add(long hi, long lo) {
+        if (size * 2 == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairs.length * 2);
+        }
+        pairs[size * 2] = hi;
+        pairs[size * 2 + 1] = lo;
+        size++;
+    }
+
+    /** Removes the first occurrence, keeping the order of the rest. */
+    public boolean remove(long hi, long lo) {
+        for (int i = 0; i < size; i++) {
+            if (pairs[i * 2] == hi && pairs[i * 2 + 1] == lo) {
+                System.arraycopy(pairs, (i + 1) * 2, pairs, i * 2, (size - i - 1) * 2);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.jtech.tasklist.config.infra.collections;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map keyed by a UUID held as its two {@code long} halves, so a key costs
+ * 16 bytes in two flat arrays instead of a {@link UUID} object and a map node. Collisions probe
+ * linearly and removal shifts the following entries back, so there are no tombstones. Not thread
+ * safe; callers lock around it.
+ */
+public class UuidMap<V> {
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long hi, long lo, V value);
+    }
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] his;
+    private long[] los;
+    private Object[] values;
+    private int size;
+
+    public UuidMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public UuidMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expected * 2 - 1) << 1);
+        his = new long[capacity];
+        los = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long hi, long lo) {
+        int i = find(hi, lo);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    public V put(UUID key, V value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /** Stores {@code value}, which must not be null, and returns the one it replaced. */
+    @SuppressWarnings("unchecked")
+    public V put(long hi, long lo, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Valor nulo não é suportado.");
+        }
+        int mask = values.length - 1;
+        int i = slot(hi, lo, mask);
+        while (values[i] != null) {
+            if (his[i] == hi && los[i] == lo) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        his[i] = hi;
+        los[i] = lo;
+        values[i] = value;
+        if (++size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        return null;
+    }
+
+    public V remove(UUID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long hi, long lo) {
+        int i = find(hi, lo);
+        if (i < 0) {
+            return null;
+        }
+        V previous = (V) values[i];
+        int mask = values.length - 1;
+        int gap = i;
+        int next = (i + 1) & mask;
+        while (values[next] != null) {
+            int home = slot(his[next], los[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                his[gap] = his[next];
+                los[gap] = los[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(his[i], los[i], (V) values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int find(long hi, long lo) {
+        int mask = values.length - 1;
+        int i = slot(hi, lo, mask);
+        while (values[i] != null) {
+            if (his[i] == hi && los[i] == lo) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHis = his;
+        long[] oldLos = los;
+        Object[] oldValues = values;
+        his = new long[capacity];
+        los = new long[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = slot(oldHis[j], oldLos[j], mask);
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                his[i] = oldHis[j];
+                los[i] = oldLos[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /** Both halves are mixed in: ids sharing a slot share their top bits, and version bits never vary. */
+    private static int slot(long hi, long lo, int mask) {
+        long h = (hi ^ Long.rotateLeft(lo, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
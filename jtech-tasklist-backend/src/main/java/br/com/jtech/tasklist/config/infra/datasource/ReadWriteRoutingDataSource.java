@@ -0,0 +1,41 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary. Must sit
+ * behind a {@code LazyConnectionDataSourceProxy}: the JPA transaction manager asks for the
+ * connection before it publishes the read-only flag, the lazy proxy defers the lookup to the
+ * first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userId = tracker.currentUser();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return userId != null && tracker.isPinned(userId) ? Route.PRIMARY : Route.REPLICA;
+        }
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tracker.recordWrite(userId);
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,260 @@
+package br.com.jtech.tasklist.config.infra.events;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.ports.output.DomainEventConsumer;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Single writer that delivers committed events to every {@link DomainEventConsumer}. Committing
+ * threads put events on a bounded ring buffer and block while it is full; the writer drains up
+ * to {@code batchSize} events at a time. Progress is kept per consumer in the outbox: a consumer
+ * is handed only the events it has not acknowledged, and an event of an aggregate is held back
+ * from a consumer while an earlier event of that aggregate still waits for it. A consumer that
+ * throws gets its events again after a doubling delay; the others are not affected, and the
+ * events queued behind the failed ones are postponed until it catches up. A row is deleted once
+ * every consumer took it. On start, and whenever {@link #requestSweep()} is called, the writer
+ * also claims outbox rows whose lease ran out, which covers events lost before reaching the
+ * buffer and events waiting for a retry. Leases keep nodes from sweeping the same rows.
+ */
+@Slf4j
+public class DomainEventDispatcher implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MILLIS = 50;
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private final DomainEventOutboxPort outbox;
+    private final Map<String, DomainEventConsumer> consumers;
+    private final BlockingQueue<DomainEvent> ring;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Supplier<MeterRegistry> registry;
+    private volatile boolean running;
+    private volatile boolean sweepRequested;
+    private Thread worker;
+
+    /** {@code consumers} are keyed by a stable name, which the outbox stores until each one acknowledges. */
+    public DomainEventDispatcher(DomainEventOutboxPort outbox, Map<String, DomainEventConsumer> consumers,
+                                 int bufferSize, int batchSize, Duration retryDelay, Duration maxRetryDelay,
+                                 Supplier<MeterRegistry> registry) {
+        this.outbox = outbox;
+        this.consumers = Collections.unmodifiableMap(new LinkedHashMap<>(consumers));
+        this.ring = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.registry = registry;
+    }
+
+    /** With no consumer there is nobody to deliver to, so the outbox skips the write. */
+    public boolean hasConsumers() {
+        return !consumers.isEmpty();
+    }
+
+    public Set<String> consumerNames() {
+        return consumers.keySet();
+    }
+
+    /** Called after commit; events published while stopped stay in the outbox for the next start. */
+    public void publish(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (!running) {
+                return;
+            }
+            try {
+                ring.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** Asks the writer to claim expired outbox rows on its next turn. */
+    public void requestSweep() {
+        sweepRequested = true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        sweepRequested = true;
+        worker = Thread.ofPlatform().name("tasklist-events").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("::: Event dispatcher did not finish within {} ms; the outbox keeps what was left.", STOP_TIMEOUT_MILLIS);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int backlog() {
+        return ring.size();
+    }
+
+    private void run() {
+        var batch = new ArrayList<DomainEvent>(batchSize);
+        while (running || !ring.isEmpty()) {
+            if (sweepRequested && running) {
+                sweepRequested = false;
+                sweep();
+            }
+            try {
+                var first = ring.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            ring.drainTo(batch, batchSize - 1);
+            dispatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void sweep() {
+        int swept = 0;
+        try {
+            List<DomainEvent> page;
+            while (running && !(page = outbox.claim(batchSize)).isEmpty()) {
+                swept += page.size();
+                dispatch(page);
+            }
+        } catch (RuntimeException e) {
+            log.error("::: Could not sweep the event outbox; pending events wait for the next sweep.", e);
+        }
+        if (swept > 0) {
+            log.info("::: Swept {} event(s) from the outbox.", swept);
+        }
+    }
+
+    private void dispatch(List<DomainEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<DomainEventOutboxPort.Pending> stored;
+        try {
+            stored = outbox.pending(batch);
+        } catch (RuntimeException e) {
+            log.error("::: Could not read {} event(s) from the outbox; they are swept again once their lease runs out.",
+                    batch.size(), e);
+            return;
+        }
+        var inBatch = batch.stream().map(DomainEvent::getSequence).collect(Collectors.toSet());
+        var waiting = new HashMap<Long, Set<String>>();
+        for (var row : stored) {
+            if (inBatch.contains(row.sequence())) {
+                var names = new HashSet<>(row.consumers());
+                names.retainAll(consumers.keySet());
+                waiting.put(row.sequence(), names);
+            }
+        }
+        var failed = new HashSet<Long>();
+        consumers.forEach((name, consumer) -> {
+            var due = due(name, stored, inBatch);
+            if (due.isEmpty()) {
+                return;
+            }
+            try {
+                consumer.accept(batch.stream().filter(e -> due.contains(e.getSequence())).toList());
+            } catch (RuntimeException e) {
+                log.error("::: Event consumer {} failed on {} event(s); they will be retried.", name, due.size(), e);
+                failed.addAll(due);
+                return;
+            }
+            try {
+                outbox.acknowledge(name, due);
+                due.forEach(sequence -> waiting.get(sequence).remove(name));
+            } catch (RuntimeException e) {
+                log.error("::: Could not acknowledge {} event(s) for {}; they will be delivered again.", due.size(), name, e);
+            }
+        });
+        var delivered = new ArrayList<Long>();
+        var held = new ArrayList<Long>();
+        waiting.forEach((sequence, names) -> {
+            if (names.isEmpty()) {
+                delivered.add(sequence);
+            } else if (!failed.contains(sequence)) {
+                held.add(sequence);
+            }
+        });
+        try {
+            if (!delivered.isEmpty()) {
+                outbox.delete(delivered);
+            }
+            if (!failed.isEmpty()) {
+                outbox.retryLater(failed, retryDelay, maxRetryDelay);
+            }
+            if (!held.isEmpty()) {
+                outbox.postpone(held, retryDelay);
+            }
+        } catch (RuntimeException e) {
+            log.error("::: Could not update {} event(s) in the outbox; they are swept again once their lease runs out.",
+                    batch.size(), e);
+        }
+        count("dispatched", delivered.size());
+        count("failed", failed.size());
+        count("held", held.size());
+    }
+
+    /**
+     * Events of the batch that {@code consumer} still waits for, in sequence order. Once an
+     * aggregate has an earlier event for it outside the batch, the aggregate's later events are
+     * left out, so they never overtake the one that is missing.
+     */
+    private static Set<Long> due(String consumer, List<DomainEventOutboxPort.Pending> stored, Set<Long> inBatch) {
+        var blocked = new HashSet<String>();
+        var due = new LinkedHashSet<Long>();
+        for (var row : stored) {
+            if (!row.consumers().contains(consumer)) {
+                continue;
+            }
+            if (!inBatch.contains(row.sequence())) {
+                blocked.add(row.aggregateId());
+            } else if (!blocked.contains(row.aggregateId())) {
+                due.add(row.sequence());
+            }
+        }
+        return due;
+    }
+
+    private void count(String outcome, int events) {
+        var meters = registry.get();
+        if (meters != null && events > 0) {
+            meters.counter("tasklist.events", "outcome", outcome).increment(events);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.config.security.JwtAuthFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Answers retries of a mutating request that carry the same {@code Idempotency-Key} from the
+ * stored response instead of running the handler again. Keys are scoped to the authenticated
+ * user and bound to the method, path and body they were first used with. Responses below 500
+ * are stored; server errors release the key so the retry runs. If the response cannot be stored
+ * the key stays reserved and the client gets a 500, since the write itself may have committed.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String REQUESTS = "tasklist.idempotency.requests";
+
+    private static final Set<String> MUTATING = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Supplier<MeterRegistry> registry;
+
+    public IdempotencyFilter(IdempotencyStore store, Duration ttl, Clock clock, Supplier<MeterRegistry> registry) {
+        this.store = store;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING.contains(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientKey = request.getHeader(HEADER);
+        if (clientKey.isBlank() || clientKey.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Idempotency-Key inválida.");
+            return;
+        }
+        if (!(request.getAttribute(JwtAuthFilter.USER_ATTRIBUTE) instanceof String userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        var cached = new CachedBodyRequest(request);
+        String key = userId + ":" + clientKey;
+        String fingerprint = fingerprint(request, cached.body);
+        Instant expiresAt = clock.instant().plus(ttl);
+        if (!store.reserve(key, fingerprint, expiresAt)) {
+            replay(key, fingerprint, response);
+            return;
+        }
+        var wrapped = new ContentCachingResponseWrapper(response);
+        boolean handled = false;
+        try {
+            filterChain.doFilter(cached, wrapped);
+            if (wrapped.getStatus() < 500) {
+                handled = true;
+                store(key, fingerprint, expiresAt, wrapped);
+            }
+        } finally {
+            if (!handled) {
+                store.release(key);
+                count("released");
+            }
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private void store(String key, String fingerprint, Instant expiresAt, ContentCachingResponseWrapper wrapped)
+            throws IOException {
+        try {
+            store.complete(key, new IdempotentResponse(fingerprint, wrapped.getStatus(), wrapped.getContentType(),
+                    wrapped.getContentAsByteArray()), expiresAt);
+            count("stored");
+        } catch (RuntimeException e) {
+            log.error("::: Failed to store the response for idempotency key {}; keeping it reserved.", key, e);
+            count("unstored");
+            wrapped.reset();
+            wrapped.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Não foi possível registrar a resposta desta Idempotency-Key.");
+        }
+    }
+
+    private void replay(String key, String fingerprint, HttpServletResponse response) throws IOException {
+        var existing = store.find(key).orElse(null);
+        if (existing != null && !existing.fingerprint().equals(fingerprint)) {
+            count("mismatch");
+            response.sendError(422, "Idempotency-Key já utilizada em outra requisição.");
+        } else if (existing == null || !existing.completed()) {
+            count("conflict");
+            response.sendError(HttpServletResponse.SC_CONFLICT, "Requisição com esta Idempotency-Key ainda em andamento.");
+        } else {
+            count("replayed");
+            response.setStatus(existing.status());
+            response.setHeader(REPLAYED_HEADER, "true");
+            if (existing.contentType() != null) {
+                response.setContentType(existing.contentType());
+            }
+            if (existing.body() != null && existing.body().length > 0) {
+                response.setContentLength(existing.body().length);
+                response.getOutputStream().write(existing.body());
+            }
+        }
+    }
+
+    private void count(String outcome) {
+        var meters = registry.get();
+        if (meters != null) {
+            meters.counter(REQUESTS, "outcome", outcome).increment();
+        }
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var charset = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(charset)));
+        }
+    }
+}
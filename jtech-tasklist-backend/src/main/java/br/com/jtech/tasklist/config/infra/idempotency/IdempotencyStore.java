@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /** Claims {@code key} for a new execution; {@code false} when an unexpired entry already holds it. */
+    boolean reserve(String key, String fingerprint, Instant expiresAt);
+
+    Optional<IdempotentResponse> find(String key);
+
+    void complete(String key, IdempotentResponse response, Instant expiresAt);
+
+    /** Forgets {@code key} so that a retry executes again. */
+    void release(String key);
+}
@@ -0,0 +1,16 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+/**
+ * A stored outcome for an idempotency key. A {@code status} of {@code 0} marks a request that
+ * is still running; {@code fingerprint} identifies the request the key was first used with.
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+
+    public static IdempotentResponse inProgress(String fingerprint) {
+        return new IdempotentResponse(fingerprint, 0, null, null);
+    }
+
+    public boolean completed() {
+        return status > 0;
+    }
+}
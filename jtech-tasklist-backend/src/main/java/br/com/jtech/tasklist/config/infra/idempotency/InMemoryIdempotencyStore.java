@@ -0,0 +1,86 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Node-local store bounded to {@code maxEntries}. Entries are kept in expiry order, so expired
+ * ones are dropped from the head on every write and the eldest completed one is evicted when
+ * full. In-progress reservations are never evicted: while every entry is one, the store grows
+ * past the bound rather than let a retry run the request twice.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized boolean reserve(String key, String fingerprint, Instant expiresAt) {
+        purgeExpired();
+        var existing = entries.get(key);
+        if (existing != null && existing.expiresAt().isAfter(clock.instant())) {
+            return false;
+        }
+        entries.remove(key);
+        entries.put(key, new Entry(IdempotentResponse.inProgress(fingerprint), expiresAt));
+        evictCompleted(key);
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<IdempotentResponse> find(String key) {
+        var entry = entries.get(key);
+        if (entry == null || !entry.expiresAt().isAfter(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.response());
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response, Instant expiresAt) {
+        purgeExpired();
+        entries.remove(key);
+        entries.put(key, new Entry(response, expiresAt));
+        evictCompleted(key);
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired() {
+        Instant now = clock.instant();
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext() && !it.next().expiresAt().isAfter(now)) {
+            it.remove();
+        }
+    }
+
+    private void evictCompleted(String written) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            var next = it.next();
+            if (next.getValue().response().completed() && !next.getKey().equals(written)) {
+                it.remove();
+            }
+        }
+    }
+
+    private record Entry(IdempotentResponse response, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Store shared by all nodes, kept in the {@code idempotency_keys} table. The primary key on
+ * {@code idempotency_key} makes {@link #reserve} the cross-node claim.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbc;
+    private final Clock clock;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbc, Clock clock) {
+        this.jdbc = jdbc;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Instant expiresAt) {
+        jdbc.update("delete from idempotency_keys where idempotency_key = ? and expires_at <= ?", key, now());
+        try {
+            jdbc.update("insert into idempotency_keys (idempotency_key, fingerprint, status, expires_at) values (?, ?, 0, ?)",
+                    key, fingerprint, Timestamp.from(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return jdbc.query("select fingerprint, status, content_type, body from idempotency_keys " +
+                                  "where idempotency_key = ? and expires_at > ?",
+                        (rs, n) -> new IdempotentResponse(rs.getString(1), rs.getInt(2), rs.getString(3), rs.getBytes(4)),
+                        key, now())
+                .stream().findFirst();
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Instant expiresAt) {
+        int updated = jdbc.update("update idempotency_keys set status = ?, content_type = ?, body = ?, expires_at = ? " +
+                                  "where idempotency_key = ?",
+                response.status(), response.contentType(), response.body(), Timestamp.from(expiresAt), key);
+        if (updated == 0) {
+            jdbc.update("insert into idempotency_keys (idempotency_key, fingerprint, status, content_type, body, expires_at) " +
+                        "values (?, ?, ?, ?, ?, ?)",
+                    key, response.fingerprint(), response.status(), response.contentType(), response.body(), Timestamp.from(expiresAt));
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        jdbc.update("delete from idempotency_keys where idempotency_key = ?", key);
+    }
+
+    public int purgeExpired() {
+        return jdbc.update("delete from idempotency_keys where expires_at <= ?", now());
+    }
+
+    private Timestamp now() {
+        return Timestamp.from(clock.instant());
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Claims keys in the shared store and keeps completed responses in the local one, so replays
+ * on the node that served the original request do not reach the database.
+ */
+public class TieredIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyStore local;
+    private final IdempotencyStore shared;
+
+    public TieredIdempotencyStore(IdempotencyStore local, IdempotencyStore shared) {
+        this.local = local;
+        this.shared = shared;
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Instant expiresAt) {
+        return shared.reserve(key, fingerprint, expiresAt);
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        var cached = local.find(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return shared.find(key);
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response, Instant expiresAt) {
+        shared.complete(key, response, expiresAt);
+        local.complete(key, response, expiresAt);
+    }
+
+    @Override
+    public void release(String key) {
+        local.release(key);
+        shared.release(key);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.config.infra.events.DomainEventDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes the event dispatcher claim outbox rows whose lease ran out: events that never reached
+ * its buffer, events left by a crashed node and failed deliveries due for a retry.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventSweepJob {
+
+    private final DomainEventDispatcher dispatcher;
+
+    @Scheduled(fixedDelayString = "${tasklist.events.sweep-interval:10000}")
+    public void sweep() {
+        dispatcher.requestSweep();
+    }
+}
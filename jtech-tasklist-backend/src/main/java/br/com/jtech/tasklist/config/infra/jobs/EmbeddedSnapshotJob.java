@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.adapters.output.embedded.EmbeddedStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Folds the embedded store's log into a fresh snapshot, which bounds both the log file and the
+ * replay done on the next start.
+ */
+@Slf4j
+@Component
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedSnapshotJob {
+
+    private final EmbeddedStore store;
+
+    @Scheduled(fixedDelayString = "${tasklist.embedded.snapshot-interval:300000}")
+    public void snapshot() {
+        int records = store.snapshot();
+        if (records > 0) {
+            log.info("::: Embedded store snapshot folded {} log record(s).", records);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.config.infra.idempotency.JdbcIdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes expired rows of the shared idempotency store; the in-memory tier evicts on its own.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasklist.idempotency.store", havingValue = "jdbc")
+public class IdempotencyKeyPurgeJob {
+
+    private final JdbcIdempotencyStore store;
+
+    @Scheduled(cron = "${tasklist.idempotency.purge.cron:0 15 * * * *}")
+    public void purge() {
+        log.debug("::: Purged {} expired idempotency key(s).", store.purgeExpired());
+    }
+}
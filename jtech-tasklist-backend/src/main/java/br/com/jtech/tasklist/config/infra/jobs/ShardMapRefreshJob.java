@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.config.infra.sharding.ShardMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks up slots moved by a rebalance running on another node.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasklist.sharding.enabled", havingValue = "true")
+public class ShardMapRefreshJob {
+
+    private final ShardMap map;
+
+    @Scheduled(fixedDelayString = "${tasklist.sharding.refresh-interval:30000}")
+    public void refresh() {
+        map.load();
+    }
+}
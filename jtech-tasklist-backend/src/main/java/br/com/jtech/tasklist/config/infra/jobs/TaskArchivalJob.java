@@ -0,0 +1,48 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Moves tasks completed longer than {@code tasklist.tasks.archive.after} ago to the archive, in
+ * short transactions of {@code batch-size} tasks so hot rows are never locked for long.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasklist.tasks.archive.enabled", havingValue = "true")
+public class TaskArchivalJob {
+
+    private final TaskService service;
+
+    @Value("${tasklist.tasks.archive.after:90d}")
+    private Duration after;
+
+    @Value("${tasklist.tasks.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${tasklist.tasks.archive.max-batches:50}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${tasklist.tasks.archive.cron:0 30 2 * * *}")
+    public void archive() {
+        Instant cutoff = Instant.now().minus(after);
+        int archived = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int moved = service.archiveCompleted(cutoff, batchSize);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        log.debug("::: Archived {} completed task(s).", archived);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.application.core.services.TaskCompletionWriteBehind;
+import br.com.jtech.tasklist.config.infra.datasource.ReadYourWritesTracker;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the completion write-behind queue every few milliseconds and once more on shutdown;
+ * toggles it cannot write stay in the write-behind journal for the next start.
+ * The flush runs without a request user, so the users it wrote for are pinned to the primary
+ * here, as a request-thread write would have been.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasklist.tasks.write-behind.enabled", havingValue = "true")
+public class TaskCompletionFlushJob {
+
+    private final TaskCompletionWriteBehind writeBehind;
+    private final ObjectProvider<ReadYourWritesTracker> tracker;
+
+    @Scheduled(fixedDelayString = "${tasklist.tasks.write-behind.flush-interval:20}")
+    public void flush() {
+        var written = writeBehind.flushAll();
+        var readYourWrites = tracker.getIfAvailable();
+        if (readYourWrites != null) {
+            written.forEach(userId -> readYourWrites.recordWrite(userId.toString()));
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+        int pending = writeBehind.pendingCount();
+        if (pending > 0) {
+            log.error("::: {} completion toggle(s) could not be written before shutdown; they are kept for the next start.", pending);
+        }
+    }
+}
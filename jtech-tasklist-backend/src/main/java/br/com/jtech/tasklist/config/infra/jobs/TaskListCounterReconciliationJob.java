@@ -0,0 +1,31 @@
+package br.com.jtech.tasklist.config.infra.jobs;
+
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the per-list task counters from the tasks table, repairing any
+ * drift left by writes that bypassed {@code TaskService} (manual SQL, partial restores).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tasklist.counters.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskListCounterReconciliationJob {
+
+    private final TaskListService service;
+
+    @Scheduled(cron = "${tasklist.counters.reconcile.cron:0 0 3 * * *}")
+    public void reconcile() {
+        int repaired = service.reconcileCounters();
+        if (repaired > 0) {
+            log.warn("::: Repaired task counters of {} list(s).", repaired);
+        } else {
+            log.debug("::: Task counters are consistent.");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records a timer, an error counter and a result-size summary for every call on the wrapped
+ * component. Meters are resolved once per method and cached, so the hot path is two
+ * {@code nanoTime} reads, a map lookup and the histogram update.
+ */
+public class MeteredInvocationInterceptor implements MethodInterceptor {
+
+    static final String CALLS = "tasklist.port.calls";
+    static final String ERRORS = "tasklist.port.errors";
+    static final String RESULT_SIZE = "tasklist.port.result.size";
+
+    private final String component;
+    private final Supplier<MeterRegistry> registry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MeteredInvocationInterceptor(String component, Supplier<MeterRegistry> registry) {
+        this.component = component;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        MethodMeters m = meters.computeIfAbsent(method, this::register);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            m.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            int size = sizeOf(result);
+            if (size >= 0) {
+                m.resultSize.record(size);
+            }
+            return result;
+        } catch (Throwable e) {
+            m.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Counter.builder(ERRORS)
+                    .tag("component", component)
+                    .tag("method", method.getName())
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(registry.get())
+                    .increment();
+            throw e;
+        }
+    }
+
+    private MethodMeters register(Method method) {
+        MeterRegistry r = registry.get();
+        return new MethodMeters(timer(r, method, "success"), timer(r, method, "error"),
+                DistributionSummary.builder(RESULT_SIZE)
+                        .tag("component", component)
+                        .tag("method", method.getName())
+                        .publishPercentileHistogram()
+                        .register(r));
+    }
+
+    private Timer timer(MeterRegistry r, Method method, String outcome) {
+        return Timer.builder(CALLS)
+                .tag("component", component)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(r);
+    }
+
+    private static int sizeOf(Object result) {
+        if (result instanceof Collection<?> c) {
+            return c.size();
+        }
+        if (result instanceof Optional<?> o) {
+            return o.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private record MethodMeters(Timer success, Timer failure, DistributionSummary resultSize) {
+    }
+}
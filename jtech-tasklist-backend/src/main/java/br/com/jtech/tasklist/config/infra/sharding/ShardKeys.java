@@ -0,0 +1,73 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Slot arithmetic of the id scheme. The top {@value #SLOT_BITS} bits of a user id pick one of
+ * {@link #SLOTS} slots (uniformly, as the rest of a version 4 id is random), and every row a
+ * user owns gets an id carrying the same bits, so the slot, and through the {@link ShardMap}
+ * the shard, of any task, list or refresh token is read straight off its id.
+ */
+public final class ShardKeys {
+
+    public static final int SLOT_BITS = 10;
+    public static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final ThreadLocal<Integer> CURRENT_SLOT = new ThreadLocal<>();
+
+    private ShardKeys() {
+    }
+
+    public static int slotOf(UUID id) {
+        return (int) (id.getMostSignificantBits() >>> (Long.SIZE - SLOT_BITS));
+    }
+
+    /**
+     * Slot of the user registered with {@code email}, from a hash of its trimmed, lower-cased form.
+     * Every sign-up for an email lands on the same shard, so its unique constraint holds globally.
+     */
+    public static int slotOfEmail(String email) {
+        int hash = email.trim().toLowerCase(Locale.ROOT).hashCode();
+        return (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    }
+
+    public static boolean isId(String value) {
+        if (value == null) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** A random id whose top bits hold {@code slot}; version and variant bits are kept. */
+    public static UUID newId(int slot) {
+        UUID random = UUID.randomUUID();
+        long msb = (random.getMostSignificantBits() << SLOT_BITS >>> SLOT_BITS) | ((long) slot << (Long.SIZE - SLOT_BITS));
+        return new UUID(msb, random.getLeastSignificantBits());
+    }
+
+    /** A new id in the slot the current {@link ShardRouter} call is routed by, or a plain random one. */
+    public static UUID newId() {
+        Integer slot = CURRENT_SLOT.get();
+        return slot != null ? newId(slot) : UUID.randomUUID();
+    }
+
+    static Integer enter(int slot) {
+        Integer previous = CURRENT_SLOT.get();
+        CURRENT_SLOT.set(slot);
+        return previous;
+    }
+
+    static void exit(Integer previous) {
+        if (previous == null) {
+            CURRENT_SLOT.remove();
+        } else {
+            CURRENT_SLOT.set(previous);
+        }
+    }
+}
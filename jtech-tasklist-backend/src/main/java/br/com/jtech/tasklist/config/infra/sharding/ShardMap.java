@@ -0,0 +1,174 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Slot to shard assignment, kept in the {@code shard_slots} table of shard 0 and cached here.
+ * An empty table is seeded round robin ({@code slot % shards}), or entirely onto shard 0 when
+ * it already holds users, as a single database turned into shard 0 does. Seeding is refused
+ * while lists or tasks carry ids created before their owner's slot was encoded in them, since id
+ * routing could not find those rows once their slot moves.
+ *
+ * <p>Every load also records this node in {@code shard_nodes}, so a {@link ShardRebalancer} can
+ * tell whether other nodes are running. The first load refuses to start when another node seen
+ * within {@code nodeTimeout} registered the same {@code tasklist.node-id}, since both would mint
+ * the same time-ordered ids.
+ */
+@Slf4j
+public class ShardMap {
+
+    /** Id columns routed by their slot, with the table they are in; the owner is {@code user_id}. */
+    private static final List<String[]> ROUTED_IDS = List.of(
+            new String[]{"task_lists", "id"},
+            new String[]{"tasks", "id"},
+            new String[]{"tasks", "list_id"},
+            new String[]{"archived_tasks", "id"},
+            new String[]{"archived_tasks", "list_id"});
+
+    private final ShardRoutingDataSource shards;
+    private final JdbcTemplate catalog;
+    private final int shardCount;
+    private final String node = UUID.randomUUID().toString();
+    private final int nodeId;
+    private final Duration nodeTimeout;
+    private volatile int[] slots;
+
+    public ShardMap(ShardRoutingDataSource shards, int nodeId, Duration nodeTimeout) {
+        this.shards = shards;
+        this.catalog = new JdbcTemplate(shards.shard(0));
+        this.shardCount = shards.shardCount();
+        this.nodeId = nodeId;
+        this.nodeTimeout = nodeTimeout;
+    }
+
+    public synchronized void load() {
+        int[] loaded = new int[ShardKeys.SLOTS];
+        Arrays.fill(loaded, -1);
+        catalog.query("select slot, shard from shard_slots", rs -> {
+            loaded[rs.getInt(1)] = rs.getInt(2);
+        });
+        if (Arrays.stream(loaded).allMatch(shard -> shard < 0)) {
+            int home = seedHome();
+            List<Object[]> rows = new ArrayList<>(ShardKeys.SLOTS);
+            for (int slot = 0; slot < ShardKeys.SLOTS; slot++) {
+                loaded[slot] = home >= 0 ? home : slot % shardCount;
+                rows.add(new Object[]{slot, loaded[slot]});
+            }
+            catalog.batchUpdate("insert into shard_slots (slot, shard) values (?, ?)", rows);
+        }
+        for (int slot = 0; slot < ShardKeys.SLOTS; slot++) {
+            if (loaded[slot] < 0 || loaded[slot] >= shardCount) {
+                throw new IllegalStateException("Slot " + slot + " sem shard válido: " + loaded[slot]);
+            }
+        }
+        boolean first = slots == null;
+        slots = loaded;
+        heartbeat();
+        if (first) {
+            refuseDuplicateNodeId();
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(int slot) {
+        return slots[slot];
+    }
+
+    public int[] slotsPerShard() {
+        int[] counts = new int[shardCount];
+        for (int shard : slots) {
+            counts[shard]++;
+        }
+        return counts;
+    }
+
+    /** Nodes other than this one that loaded the map within {@code within}. */
+    public int otherNodes(Duration within) {
+        return catalog.queryForObject("select count(*) from shard_nodes where node <> ? and seen_at > ?",
+                Integer.class, node, Timestamp.from(Instant.now().minus(within)));
+    }
+
+    /** Removes this node from {@code shard_nodes} on shutdown. */
+    public void leave() {
+        catalog.update("delete from shard_nodes where node = ?", node);
+    }
+
+    synchronized void assign(int slot, int shard) {
+        catalog.update("update shard_slots set shard = ? where slot = ?", shard, slot);
+        int[] next = slots.clone();
+        next[slot] = shard;
+        slots = next;
+    }
+
+    private void heartbeat() {
+        var now = Timestamp.from(Instant.now());
+        if (catalog.update("update shard_nodes set seen_at = ? where node = ?", now, node) == 0) {
+            catalog.update("insert into shard_nodes (node, node_id, seen_at) values (?, ?, ?)", node, nodeId, now);
+        }
+    }
+
+    private void refuseDuplicateNodeId() {
+        int holders = catalog.queryForObject("select count(*) from shard_nodes where node_id = ? and node <> ? and seen_at > ?",
+                Integer.class, nodeId, node, Timestamp.from(Instant.now().minus(nodeTimeout)));
+        if (holders > 0) {
+            slots = null;
+            leave();
+            throw new IllegalStateException("tasklist.node-id " + nodeId
+                    + " já está em uso por outra instância ativa; configure um valor único por instância.");
+        }
+    }
+
+    /** The only shard already holding users, or -1 when none does. */
+    private int seedHome() {
+        int home = -1;
+        for (int shard = 0; shard < shardCount; shard++) {
+            var jdbc = new JdbcTemplate(shards.shard(shard));
+            long unroutable = 0;
+            for (String[] column : ROUTED_IDS) {
+                unroutable += unroutable(jdbc, column[0], column[1]);
+            }
+            if (unroutable > 0) {
+                throw new IllegalStateException("Shard " + shard + " tem " + unroutable
+                        + " id(s) criados antes do sharding, fora do slot do dono; migre-os antes de ativar o sharding.");
+            }
+            if (!jdbc.queryForList("select id from users fetch first 1 rows only").isEmpty()) {
+                if (home >= 0) {
+                    throw new IllegalStateException("shard_slots está vazio, mas os shards " + home + " e " + shard
+                            + " já têm usuários.");
+                }
+                home = shard;
+            }
+        }
+        if (home >= 0) {
+            log.info("::: Seeding every slot onto shard {}, which already holds users.", home);
+        }
+        return home;
+    }
+
+    private static long unroutable(JdbcTemplate jdbc, String table, String column) {
+        long[] count = {0};
+        jdbc.query("select " + column + ", user_id from " + table, (RowCallbackHandler) rs -> {
+            if (ShardKeys.slotOf(uuid(rs.getObject(1))) != ShardKeys.slotOf(uuid(rs.getObject(2)))) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    private static UUID uuid(Object value) {
+        return value instanceof UUID id ? id : UUID.fromString(value.toString());
+    }
+}
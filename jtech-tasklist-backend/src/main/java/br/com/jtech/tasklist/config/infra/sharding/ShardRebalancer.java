@@ -0,0 +1,154 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Moves slots between shards while the application keeps serving: the slot is frozen (its calls
+ * wait in {@link ShardRouter}), its rows are copied to the target, the {@link ShardMap} flips,
+ * the slot thaws and the source rows are deleted. A failed copy leaves the map untouched; rows
+ * left behind by a failed delete are ignored by reads and removed by the next move of the slot.
+ *
+ * <p>The freeze only holds calls of this node, so a move is refused while any other node has
+ * loaded the map within {@code nodeTimeout}, both before the freeze and again before the flip.
+ * Run rebalances with a single instance up.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    /** Tables holding per-user rows, parents first, with the column naming the owner. */
+    private record Owned(String table, String owner, boolean text) {
+    }
+
+    private static final List<Owned> TABLES = List.of(
+            new Owned("users", "id", false),
+            new Owned("task_lists", "user_id", false),
+            new Owned("tasks", "user_id", false),
+            new Owned("archived_tasks", "user_id", false),
+            new Owned("refresh_tokens", "user_id", false),
+            new Owned("outbox_events", "user_id", true));
+
+    private final ShardMap map;
+    private final ShardRouter router;
+    private final ShardRoutingDataSource shards;
+    private final Duration drainTimeout;
+    private final Duration nodeTimeout;
+
+    public ShardRebalancer(ShardMap map, ShardRouter router, ShardRoutingDataSource shards, Duration drainTimeout,
+                           Duration nodeTimeout) {
+        this.map = map;
+        this.router = router;
+        this.shards = shards;
+        this.drainTimeout = drainTimeout;
+        this.nodeTimeout = nodeTimeout;
+    }
+
+    /** Moves slots from the fullest shards to the emptiest ones until counts differ by at most one. */
+    public synchronized int rebalance() {
+        int moved = 0;
+        while (true) {
+            int[] counts = map.slotsPerShard();
+            int fullest = 0;
+            int emptiest = 0;
+            for (int shard = 1; shard < counts.length; shard++) {
+                if (counts[shard] > counts[fullest]) {
+                    fullest = shard;
+                }
+                if (counts[shard] < counts[emptiest]) {
+                    emptiest = shard;
+                }
+            }
+            if (counts[fullest] - counts[emptiest] <= 1) {
+                log.info("Rebalanceamento concluído: {} slot(s) movido(s).", moved);
+                return moved;
+            }
+            for (int slot = ShardKeys.SLOTS - 1; slot >= 0; slot--) {
+                if (map.shardOf(slot) == fullest) {
+                    moveSlot(slot, emptiest);
+                    moved++;
+                    break;
+                }
+            }
+        }
+    }
+
+    public synchronized void moveSlot(int slot, int target) {
+        if (target < 0 || target >= map.shardCount()) {
+            throw new IllegalArgumentException("Shard inexistente: " + target);
+        }
+        int source = map.shardOf(slot);
+        if (source == target) {
+            return;
+        }
+        requireSingleNode();
+        router.freeze(slot, drainTimeout);
+        try {
+            new TransactionTemplate(new DataSourceTransactionManager(shards.shard(target))).executeWithoutResult(status -> {
+                var from = new JdbcTemplate(shards.shard(source));
+                var to = new JdbcTemplate(shards.shard(target));
+                for (var table : TABLES) {
+                    delete(to, table, slot);
+                    copy(from, to, table, slot);
+                }
+            });
+            requireSingleNode();
+            map.assign(slot, target);
+        } finally {
+            router.unfreeze(slot);
+        }
+        try {
+            new TransactionTemplate(new DataSourceTransactionManager(shards.shard(source))).executeWithoutResult(status -> {
+                var from = new JdbcTemplate(shards.shard(source));
+                for (var table : TABLES.reversed()) {
+                    delete(from, table, slot);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Slot {} movido para o shard {}, mas a limpeza do shard {} falhou.", slot, target, source, e);
+        }
+        log.info("Slot {} movido do shard {} para o shard {}.", slot, source, target);
+    }
+
+    private void requireSingleNode() {
+        int others = map.otherNodes(nodeTimeout);
+        if (others > 0) {
+            throw new IllegalStateException(others + " outra(s) instância(s) ativa(s); mova slots com uma só instância no ar.");
+        }
+    }
+
+    private static void copy(JdbcTemplate from, JdbcTemplate to, Owned table, int slot) {
+        List<Map<String, Object>> rows = from.queryForList(
+                "select * from " + table.table() + " where " + table.owner() + " between ? and ?", bounds(table, slot));
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = List.copyOf(rows.get(0).keySet());
+        String insert = "insert into " + table.table() + " (" + String.join(", ", columns) + ") values ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        to.batchUpdate(insert, rows.stream().map(row -> columns.stream().map(row::get).toArray()).toList());
+    }
+
+    private static void delete(JdbcTemplate jdbc, Owned table, int slot) {
+        jdbc.update("delete from " + table.table() + " where " + table.owner() + " between ? and ?", bounds(table, slot));
+    }
+
+    /**
+     * First and last id of {@code slot}. UUIDs compare as unsigned 128-bit numbers and their
+     * lowercase text keeps that order, so the slot is one contiguous range on either column type.
+     */
+    private static Object[] bounds(Owned table, int slot) {
+        long top = (long) slot << (Long.SIZE - ShardKeys.SLOT_BITS);
+        long last = top | (-1L >>> ShardKeys.SLOT_BITS);
+        UUID first = new UUID(top, 0);
+        UUID end = new UUID(last, -1L);
+        return table.text() ? new Object[]{first.toString(), end.toString()} : new Object[]{first, end};
+    }
+}
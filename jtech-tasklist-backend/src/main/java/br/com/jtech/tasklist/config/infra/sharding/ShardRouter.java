@@ -0,0 +1,237 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Routes repository calls to the shard owning the user or id they are made for. A transaction
+ * is pinned to the shard of its first routed call; touching another shard in it fails instead
+ * of silently writing across databases. Calls on a slot that {@link ShardRebalancer} is moving
+ * wait for the move to finish.
+ *
+ * <p>The single-shard router only sets the id slot, so rows created before sharding is turned
+ * on already carry their owner's slot.
+ */
+public class ShardRouter {
+
+    private static final Object PIN_KEY = new Object();
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+    private static final long PAUSE_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final ShardMap map;
+    private final TransactionOperations requiresNew;
+    private final long freezeTimeoutNanos;
+    private final AtomicIntegerArray active = new AtomicIntegerArray(ShardKeys.SLOTS);
+    private final AtomicIntegerArray frozen = new AtomicIntegerArray(ShardKeys.SLOTS);
+
+    private record Pin(int shard, int slot) {
+    }
+
+    private ShardRouter() {
+        this.map = null;
+        this.requiresNew = TransactionOperations.withoutTransaction();
+        this.freezeTimeoutNanos = 0;
+    }
+
+    public ShardRouter(ShardMap map, PlatformTransactionManager transactionManager, Duration freezeTimeout) {
+        this.map = map;
+        var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.requiresNew = template;
+        this.freezeTimeoutNanos = freezeTimeout.toNanos();
+    }
+
+    public static ShardRouter single() {
+        return new ShardRouter();
+    }
+
+    /** Shard the current statement goes to: the routed call's, else the transaction's pin, else 0. */
+    public static int currentShard() {
+        Integer shard = CURRENT_SHARD.get();
+        if (shard != null) {
+            return shard;
+        }
+        var pin = (Pin) TransactionSynchronizationManager.getResource(PIN_KEY);
+        return pin != null ? pin.shard() : 0;
+    }
+
+    public int shardCount() {
+        return map == null ? 1 : map.shardCount();
+    }
+
+    public int shardOfUser(UUID userId) {
+        return map == null ? 0 : map.shardOf(ShardKeys.slotOf(userId));
+    }
+
+    /** Whether rows of {@code userId} read from {@code shard} are the live copy and not a leftover of a move. */
+    public boolean owns(int shard, UUID userId) {
+        return map == null || map.shardOf(ShardKeys.slotOf(userId)) == shard;
+    }
+
+    public <T> T forUser(UUID userId, Supplier<T> call) {
+        return forSlot(ShardKeys.slotOf(userId), call);
+    }
+
+    public void forUser(UUID userId, Runnable call) {
+        forSlot(ShardKeys.slotOf(userId), asSupplier(call));
+    }
+
+    /** Routes by the slot embedded in {@code id}, the id of a row or of its owner. */
+    public <T> T forId(UUID id, Supplier<T> call) {
+        return forSlot(ShardKeys.slotOf(id), call);
+    }
+
+    public void forId(UUID id, Runnable call) {
+        forSlot(ShardKeys.slotOf(id), asSupplier(call));
+    }
+
+    /** Routes by the slot of the user registered with {@code email}, see {@link ShardKeys#slotOfEmail}. */
+    public <T> T forEmail(String email, Supplier<T> call) {
+        return forSlot(ShardKeys.slotOfEmail(email), call);
+    }
+
+    /**
+     * Runs {@code call} once per shard, each in its own transaction, and concatenates the results.
+     * Callers drop rows they do not {@link #owns own} so a move in progress never yields duplicates.
+     */
+    public <T> List<T> onEveryShard(IntFunction<List<T>> call) {
+        if (map == null) {
+            return call.apply(0);
+        }
+        List<T> all = new ArrayList<>();
+        for (int shard = 0; shard < map.shardCount(); shard++) {
+            int target = shard;
+            all.addAll(onShard(target, () -> requiresNew.execute(status -> call.apply(target))));
+        }
+        return all;
+    }
+
+    /** Runs {@code call} against a fixed shard, for maintenance work outside any user's scope. */
+    public <T> T onShard(int shard, Supplier<T> call) {
+        Integer previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previous);
+            }
+        }
+    }
+
+    public <T> T forSlot(int slot, Supplier<T> call) {
+        Integer previousSlot = ShardKeys.enter(slot);
+        try {
+            if (map == null) {
+                return call.get();
+            }
+            var pin = (Pin) TransactionSynchronizationManager.getResource(PIN_KEY);
+            if (pin != null) {
+                int shard = map.shardOf(slot);
+                if (shard != pin.shard()) {
+                    throw new IllegalStateException("Operação envolve mais de um shard.");
+                }
+                return onShard(shard, call);
+            }
+            acquire(slot);
+            boolean pinned = false;
+            try {
+                int shard = map.shardOf(slot);
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    pin(new Pin(shard, slot));
+                    pinned = true;
+                }
+                return onShard(shard, call);
+            } finally {
+                if (!pinned) {
+                    release(slot);
+                }
+            }
+        } finally {
+            ShardKeys.exit(previousSlot);
+        }
+    }
+
+    private void pin(Pin pin) {
+        TransactionSynchronizationManager.bindResource(PIN_KEY, pin);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PIN_KEY);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(PIN_KEY, pin);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PIN_KEY);
+                release(pin.slot());
+            }
+        });
+    }
+
+    private void acquire(int slot) {
+        long deadline = 0;
+        while (true) {
+            if (frozen.get(slot) == 0) {
+                active.incrementAndGet(slot);
+                if (frozen.get(slot) == 0) {
+                    return;
+                }
+                active.decrementAndGet(slot);
+            }
+            if (deadline == 0) {
+                deadline = System.nanoTime() + freezeTimeoutNanos;
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Dados em migração entre shards, tente novamente.");
+            }
+            LockSupport.parkNanos(PAUSE_NANOS);
+        }
+    }
+
+    private void release(int slot) {
+        active.decrementAndGet(slot);
+    }
+
+    /** Stops new calls on {@code slot} and waits for the running ones to finish. */
+    void freeze(int slot, Duration drainTimeout) {
+        frozen.set(slot, 1);
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while (active.get(slot) > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                frozen.set(slot, 0);
+                throw new IllegalStateException("Slot " + slot + " ainda em uso após " + drainTimeout + ".");
+            }
+            LockSupport.parkNanos(PAUSE_NANOS);
+        }
+    }
+
+    void unfreeze(int slot) {
+        frozen.set(slot, 0);
+    }
+
+    private static <T> Supplier<T> asSupplier(Runnable call) {
+        return () -> {
+            call.run();
+            return null;
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * UUID id generated in the slot of the owner the row is saved for, see {@link ShardKeys#newId()}.
+ */
+@IdGeneratorType(ShardedIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardedId {
+}
@@ -0,0 +1,59 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Milliseconds since 2025, then a 12-bit per-millisecond counter, then the 10-bit node id set
+ * through {@link #useNode(int)} from {@code tasklist.node-id}. Monotonic within a node, and
+ * unique across nodes as long as no two running nodes share an id.
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    private static final long EPOCH = 1_735_689_600_000L;
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 12;
+    private static volatile long node = -1;
+
+    private static long lastMillis;
+    private static long counter;
+
+    public static void useNode(int id) {
+        if (id < 0 || id >= 1 << NODE_BITS) {
+            throw new IllegalStateException("Configure tasklist.node-id com um valor de 0 a " + ((1 << NODE_BITS) - 1)
+                    + ", único por instância; recebido: " + id + ".");
+        }
+        node = id;
+    }
+
+    public static synchronized long next() {
+        if (node < 0) {
+            throw new IllegalStateException("tasklist.node-id ainda não foi configurado.");
+        }
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            counter = (counter + 1) & ((1 << COUNTER_BITS) - 1);
+            if (counter == 0) {
+                now++;
+            }
+        } else {
+            counter = 0;
+        }
+        lastMillis = now;
+        return (now - EPOCH) << (COUNTER_BITS + NODE_BITS) | counter << NODE_BITS | node;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a handler method is expected to issue per request.
+ * Can be overridden with {@code tasklist.sql.budget.<Controller>.<method>}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
@@ -0,0 +1,90 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the statements issued while each handler runs and compares them with its
+ * {@link StatementBudget}. Violations and statements repeated past the N+1 threshold are
+ * logged and counted; the outcome is left on the request for tests to assert on.
+ */
+@Slf4j
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    public static final String COUNT_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".count";
+    public static final String BUDGET_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".budget";
+    private static final String SCOPE_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".scope";
+
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> registry;
+    private final int defaultBudget;
+    private final int repeatThreshold;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public StatementBudgetInterceptor(Environment environment, ObjectProvider<MeterRegistry> registry,
+                                      int defaultBudget, int repeatThreshold) {
+        this.environment = environment;
+        this.registry = registry;
+        this.defaultBudget = defaultBudget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(SCOPE_ATTRIBUTE, StatementCounter.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof StatementCounter.Scope scope)
+                || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        scope.close();
+        var endpoint = endpoints.computeIfAbsent(method.getMethod(), this::endpoint);
+        int count = scope.count();
+        request.setAttribute(COUNT_ATTRIBUTE, count);
+        request.setAttribute(BUDGET_ATTRIBUTE, endpoint.budget());
+        if (endpoint.statements() != null) {
+            endpoint.statements().record(count);
+        }
+        if (count > endpoint.budget()) {
+            log.warn("::: {} issued {} SQL statements, budget is {}.", endpoint.name(), count, endpoint.budget());
+            var meters = registry.getIfAvailable();
+            if (meters != null) {
+                meters.counter("tasklist.sql.budget.exceeded", "endpoint", endpoint.name()).increment();
+            }
+        }
+        scope.repeated(repeatThreshold).forEach((sql, times) ->
+                log.warn("::: Possible N+1 in {}: {} executions of [{}].", endpoint.name(), times, sql));
+    }
+
+    private Endpoint endpoint(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        var annotation = method.getAnnotation(StatementBudget.class);
+        int budget = environment.getProperty("tasklist.sql.budget." + name, Integer.class,
+                annotation != null ? annotation.value() : defaultBudget);
+        var meters = registry.getIfAvailable();
+        var statements = meters == null ? null : DistributionSummary.builder("tasklist.sql.statements")
+                .tag("endpoint", name)
+                .register(meters);
+        return new Endpoint(name, budget, statements);
+    }
+
+    private record Endpoint(String name, int budget, DistributionSummary statements) {
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is
+ * open. Scopes nest: a statement is counted by every open scope, so a test can wrap a request
+ * that the web layer is also counting.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static Scope open() {
+        var scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** Makes {@code task} count its statements in the scopes open on the calling thread. */
+    public static Runnable propagate(Runnable task) {
+        var scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            var previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    static void record(String sql) {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            synchronized (scope) {
+                scope.count++;
+                scope.bySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public synchronized int count() {
+            return count;
+        }
+
+        /** Statements issued at least {@code threshold} times, the usual signature of an N+1. */
+        public synchronized Map<String, Integer> repeated(int threshold) {
+            var repeated = new LinkedHashMap<String, Integer>();
+            bySql.forEach((sql, times) -> {
+                if (times >= threshold) {
+                    repeated.put(sql, times);
+                }
+            });
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds every statement Hibernate prepares to {@link StatementCounter}, then hands it to the
+ * inspector that was configured before, if any.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    public StatementCountingInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.record(sql);
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+}
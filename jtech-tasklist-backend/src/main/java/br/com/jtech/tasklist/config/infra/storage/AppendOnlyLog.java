@@ -0,0 +1,258 @@
+package br.com.jtech.tasklist.config.infra.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable byte records in a directory: the newest {@code snapshot-<generation>.bin} plus the
+ * memory-mapped {@code log-<generation>.bin} files of records appended since, one per
+ * generation. Every record and every snapshot is framed as {@code length, crc32c, bytes}; the
+ * length is written last, so a record torn by a crash reads as the end of the log and is dropped
+ * on recovery.
+ *
+ * <p>{@link #rotate()} closes the current log and starts the next generation; the snapshot of
+ * that generation, the state as of the rotation, may be written later and older files are deleted
+ * only once it is complete, so a crash at any point leaves a snapshot and the logs after it to
+ * start from. Not thread safe on its own: the owner serializes every call except
+ * {@link #snapshot(long, byte[])}, which touches no log and may run alongside appends.
+ */
+@Slf4j
+public class AppendOnlyLog implements Closeable {
+
+    private static final int HEADER = 2 * Integer.BYTES;
+    private static final Pattern FILE = Pattern.compile("(snapshot|log)-(\\d+)\\.bin");
+
+    private final Path dir;
+    private final int capacity;
+    private final boolean sync;
+    private long generation;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+
+    public AppendOnlyLog(Path dir, int capacity, boolean sync) {
+        this.dir = dir;
+        this.capacity = capacity;
+        this.sync = sync;
+    }
+
+    /** Hands the newest snapshot, if any, and then every intact record of the logs after it to the consumers. */
+    public void recover(Consumer<byte[]> snapshot, Consumer<byte[]> record) {
+        try {
+            Files.createDirectories(dir);
+            long base = latest("snapshot");
+            if (base >= 0) {
+                snapshot.accept(readSnapshot(base));
+            } else {
+                base = 0;
+            }
+            long from = base;
+            List<Long> logs = generations().stream()
+                    .filter(g -> g.kind().equals("log") && g.number() >= from)
+                    .map(Generation::number)
+                    .toList();
+            generation = base;
+            int records = 0;
+            for (long number : logs) {
+                closeLog();
+                generation = number;
+                openLog();
+                records += replay(record);
+            }
+            if (channel == null) {
+                openLog();
+            }
+            deleteOlderThan(base);
+            log.info("::: Recovered generation {} with {} log record(s) from {} log(s).", generation, records, logs.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean fits(int length) {
+        return (long) position + HEADER + length <= capacity;
+    }
+
+    public void append(byte[] record) {
+        if (!fits(record.length)) {
+            throw new IllegalStateException("Registro de " + record.length + " bytes não cabe no log.");
+        }
+        int at = position;
+        buffer.put(at + HEADER, record);
+        buffer.putInt(at + Integer.BYTES, crc(record));
+        buffer.putInt(at, record.length);
+        if (sync) {
+            buffer.force(at, HEADER + record.length);
+        }
+        position = at + HEADER + record.length;
+    }
+
+    /** Persists {@code state} as the next generation and starts an empty log after it. */
+    public void snapshot(byte[] state) {
+        snapshot(rotate(), state);
+    }
+
+    /** Closes the current log and starts an empty one for the next generation, whose number is returned. */
+    public long rotate() {
+        try {
+            closeLog();
+            generation++;
+            openLog();
+            return generation;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Persists {@code state}, taken when {@code next} was {@link #rotate() rotated} in, as the
+     * snapshot of that generation and deletes the files it replaces.
+     */
+    public void snapshot(long next, byte[] state) {
+        try {
+            Path tmp = dir.resolve("snapshot-" + next + ".tmp");
+            try (var out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                var header = ByteBuffer.allocate(HEADER).putInt(state.length).putInt(crc(state)).flip();
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                var body = ByteBuffer.wrap(state);
+                while (body.hasRemaining()) {
+                    out.write(body);
+                }
+                out.force(true);
+            }
+            Files.move(tmp, file("snapshot", next), StandardCopyOption.ATOMIC_MOVE);
+            deleteOlderThan(next);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    @Override
+    public void close() {
+        try {
+            closeLog();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openLog() throws IOException {
+        channel = FileChannel.open(file("log", generation),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        position = 0;
+    }
+
+    private void closeLog() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private int replay(Consumer<byte[]> record) {
+        int records = 0;
+        while (position + HEADER <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || (long) position + HEADER + length > capacity) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(position + HEADER, bytes);
+            if (crc(bytes) != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            record.accept(bytes);
+            records++;
+            position += HEADER + length;
+        }
+        if (position + Integer.BYTES <= capacity && buffer.getInt(position) != 0) {
+            log.warn("::: Discarding torn record at offset {} of log generation {}.", position, generation);
+            for (int i = position; i < capacity; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        return records;
+    }
+
+    private byte[] readSnapshot(long snapshot) throws IOException {
+        var bytes = ByteBuffer.wrap(Files.readAllBytes(file("snapshot", snapshot)));
+        int length = bytes.getInt();
+        int crc = bytes.getInt();
+        byte[] state = new byte[length];
+        bytes.get(state);
+        if (crc(state) != crc) {
+            throw new IllegalStateException("Snapshot " + snapshot + " corrompido em " + dir + ".");
+        }
+        return state;
+    }
+
+    private long latest(String kind) throws IOException {
+        return generations().stream()
+                .filter(g -> g.kind().equals(kind))
+                .mapToLong(Generation::number)
+                .max().orElse(-1);
+    }
+
+    private void deleteOlderThan(long keep) throws IOException {
+        for (Generation old : generations()) {
+            if (old.number() < keep) {
+                Files.deleteIfExists(file(old.kind(), old.number()));
+            }
+        }
+    }
+
+    private List<Generation> generations() throws IOException {
+        List<Generation> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(path -> {
+                var matcher = FILE.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    found.add(new Generation(matcher.group(1), Long.parseLong(matcher.group(2))));
+                }
+            });
+        }
+        found.sort(Comparator.comparingLong(Generation::number));
+        return found;
+    }
+
+    private Path file(String kind, long number) {
+        return dir.resolve(kind + "-" + number + ".bin");
+    }
+
+    private static int crc(byte[] bytes) {
+        var crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private record Generation(String kind, long number) {
+    }
+}
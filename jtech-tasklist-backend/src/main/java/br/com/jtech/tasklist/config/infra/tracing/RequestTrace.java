@@ -0,0 +1,134 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Phase timings of one sampled request, confined to the thread serving it. Every hook is a
+ * no-op when the current request was not sampled, so unsampled traffic only pays a
+ * {@link ThreadLocal} read per hook.
+ */
+public final class RequestTrace {
+
+    static final int MAX_STATEMENTS = 20;
+    private static final int MAX_SQL_LENGTH = 200;
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final String path;
+    private final Instant startedAt = Instant.now();
+    private final long start = System.nanoTime();
+
+    private long handlerStart;
+    private long handlerEnd;
+    private long serializationStart;
+    private long serializationEnd;
+    private int serviceDepth;
+    private long serviceStart;
+    private long serviceNanos;
+    private long statementStart;
+    private String pendingSql;
+    private long dbNanos;
+    private int statementCount;
+    private final List<Statement> statements = new ArrayList<>();
+
+    private RequestTrace(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    public record Statement(String sql, double ms) {
+    }
+
+    public record Snapshot(Instant at, String method, String path, int status, double totalMs,
+                           Map<String, Double> phases, int statementCount, List<Statement> statements) {
+    }
+
+    static RequestTrace begin(String method, String path) {
+        var trace = new RequestTrace(method, path);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    void handlerStarted() {
+        handlerStart = System.nanoTime();
+    }
+
+    void handlerFinished() {
+        handlerEnd = System.nanoTime();
+    }
+
+    void serializationStarted() {
+        if (serializationStart == 0) {
+            serializationStart = System.nanoTime();
+        }
+    }
+
+    void serializationFinished() {
+        if (serializationStart != 0 && serializationEnd == 0) {
+            serializationEnd = System.nanoTime();
+        }
+    }
+
+    void serviceEntered() {
+        if (serviceDepth++ == 0) {
+            serviceStart = System.nanoTime();
+        }
+    }
+
+    void serviceExited() {
+        if (--serviceDepth == 0) {
+            serviceNanos += System.nanoTime() - serviceStart;
+        }
+    }
+
+    void statementPrepared(String sql) {
+        pendingSql = sql;
+    }
+
+    void statementStarted() {
+        statementStart = System.nanoTime();
+    }
+
+    void statementFinished() {
+        long elapsed = System.nanoTime() - statementStart;
+        dbNanos += elapsed;
+        if (statementCount++ < MAX_STATEMENTS) {
+            String sql = pendingSql == null ? "?" : pendingSql;
+            statements.add(new Statement(sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) : sql, ms(elapsed)));
+        }
+    }
+
+    /**
+     * Closes the trace. {@code db} overlaps {@code service}; {@code controller} is the handler
+     * time left after service and serialization, i.e. argument binding and entity-to-DTO mapping.
+     */
+    Snapshot finish(int status) {
+        long total = System.nanoTime() - start;
+        long handler = handlerStart == 0 ? 0 : (handlerEnd == 0 ? System.nanoTime() : handlerEnd) - handlerStart;
+        long serialization = serializationStart == 0 ? 0
+                : (serializationEnd == 0 ? handlerStart + handler : serializationEnd) - serializationStart;
+        Map<String, Double> phases = new LinkedHashMap<>();
+        phases.put("filters", ms(total - handler));
+        phases.put("controller", ms(Math.max(0, handler - serviceNanos - serialization)));
+        phases.put("service", ms(serviceNanos));
+        phases.put("db", ms(dbNanos));
+        phases.put("serialization", ms(serialization));
+        return new Snapshot(startedAt, method, path, status, ms(total), phases, statementCount, List.copyOf(statements));
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
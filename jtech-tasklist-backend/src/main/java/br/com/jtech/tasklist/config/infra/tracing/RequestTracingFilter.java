@@ -0,0 +1,67 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outermost filter: decides whether the request is sampled, opens its {@link RequestTrace} and
+ * records the result in the {@link SlowRequestLog}. With {@code serverTiming} on, the body is
+ * buffered so the phase breakdown can still be sent as a {@code Server-Timing} header.
+ */
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final SlowRequestLog log;
+    private final double sampleRate;
+    private final boolean serverTiming;
+
+    public RequestTracingFilter(SlowRequestLog log, double sampleRate, boolean serverTiming) {
+        this.log = log;
+        this.sampleRate = sampleRate;
+        this.serverTiming = serverTiming;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        var trace = RequestTrace.begin(request.getMethod(), request.getRequestURI());
+        var wrapped = serverTiming ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            RequestTrace.clear();
+            var snapshot = trace.finish(response.getStatus());
+            log.record(snapshot);
+            if (wrapped != null) {
+                response.setHeader(SERVER_TIMING, header(snapshot));
+                wrapped.copyBodyToResponse();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    static String header(RequestTrace.Snapshot snapshot) {
+        var header = new StringBuilder();
+        snapshot.phases().forEach((phase, ms) -> header.append(phase).append(";dur=")
+                .append(String.format(Locale.ROOT, "%.3f", ms)).append(", "));
+        return header.append("total;dur=").append(String.format(Locale.ROOT, "%.3f", snapshot.totalMs()))
+                .append(";desc=\"").append(snapshot.statementCount()).append(" sql\"").toString();
+    }
+}
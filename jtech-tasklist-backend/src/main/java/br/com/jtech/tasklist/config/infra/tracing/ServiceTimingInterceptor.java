@@ -0,0 +1,25 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Adds the time spent in application services to the current trace. Nested service calls are
+ * counted once, by the outermost one.
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var trace = RequestTrace.current();
+        if (trace == null) {
+            return invocation.proceed();
+        }
+        trace.serviceEntered();
+        try {
+            return invocation.proceed();
+        } finally {
+            trace.serviceExited();
+        }
+    }
+}
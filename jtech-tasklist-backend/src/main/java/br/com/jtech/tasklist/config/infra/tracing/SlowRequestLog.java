@@ -0,0 +1,37 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent sampled requests. Recording is a single slot write;
+ * ranking by latency is deferred to the (rare) read.
+ */
+public class SlowRequestLog {
+
+    private final AtomicReferenceArray<RequestTrace.Snapshot> window;
+    private final AtomicLong next = new AtomicLong();
+
+    public SlowRequestLog(int capacity) {
+        this.window = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void record(RequestTrace.Snapshot snapshot) {
+        window.set((int) (next.getAndIncrement() % window.length()), snapshot);
+    }
+
+    public List<RequestTrace.Snapshot> slowest(int limit) {
+        List<RequestTrace.Snapshot> recent = new ArrayList<>(window.length());
+        for (int i = 0; i < window.length(); i++) {
+            var snapshot = window.get(i);
+            if (snapshot != null) {
+                recent.add(snapshot);
+            }
+        }
+        recent.sort(Comparator.comparingDouble(RequestTrace.Snapshot::totalMs).reversed());
+        return recent.subList(0, Math.min(limit, recent.size()));
+    }
+}
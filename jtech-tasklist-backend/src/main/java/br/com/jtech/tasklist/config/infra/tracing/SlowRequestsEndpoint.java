@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowrequests}: the slowest sampled requests among the recent window,
+ * with their phase breakdown and the first statements they ran.
+ */
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog log;
+    private final int limit;
+
+    public SlowRequestsEndpoint(SlowRequestLog log, int limit) {
+        this.log = log;
+        this.limit = limit;
+    }
+
+    @ReadOperation
+    public List<RequestTrace.Snapshot> slowest() {
+        return log.slowest(limit);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Times every JDBC execution Hibernate performs on behalf of a sampled request. Hibernate
+ * creates one listener per session from {@code hibernate.session.events.auto}; the SQL text is
+ * captured by {@link Inspector} when the statement is prepared.
+ */
+public class StatementTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        var trace = RequestTrace.current();
+        if (trace != null) {
+            trace.statementStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        var trace = RequestTrace.current();
+        if (trace != null) {
+            trace.statementFinished();
+        }
+    }
+
+    public static class Inspector implements StatementInspector {
+
+        private final StatementInspector delegate;
+
+        public Inspector(StatementInspector delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            var trace = RequestTrace.current();
+            if (trace != null) {
+                trace.statementPrepared(sql);
+            }
+            return delegate != null ? delegate.inspect(sql) : sql;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks the handler boundaries and the body write. Spring MVC writes {@code @ResponseBody} and
+ * {@code ResponseEntity} bodies before {@code postHandle}, so serialization spans from
+ * {@link #beforeBodyWrite} to {@link #postHandle}.
+ */
+@ControllerAdvice
+public class TracingHandlerInterceptor implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var trace = RequestTrace.current();
+        if (trace != null) {
+            trace.handlerStarted();
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        var trace = RequestTrace.current();
+        if (trace != null) {
+            trace.serializationFinished();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        var trace = RequestTrace.current();
+        if (trace != null) {
+            trace.serializationFinished();
+            trace.handlerFinished();
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        var trace = RequestTrace.current();
+        if (trace != null) {
+            trace.serializationStarted();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.function.Function;
+
+/**
+ * Writes {@link TaskId}, {@link ListId} and {@link UserId} as their UUID string and reads them
+ * back from it, so request bodies, responses, archived tasks and the embedded log keep the
+ * plain string ids they always had. A malformed id fails the read as a bad request.
+ */
+public class IdModule extends SimpleModule {
+
+    public IdModule() {
+        super("IdModule");
+        add(TaskId.class, TaskId::of);
+        add(ListId.class, ListId::of);
+        add(UserId.class, UserId::of);
+    }
+
+    private <T> void add(Class<T> type, Function<String, T> parse) {
+        addSerializer(type, ToStringSerializer.instance);
+        addDeserializer(type, new FromStringDeserializer<>(type) {
+            @Override
+            protected T _deserialize(String value, DeserializationContext context) {
+                return parse.apply(value);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.jtech.tasklist.config.infra.utils;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Decorates the beans assignable to one of the given types with an interceptor created per type.
+ * Beans that are already proxied (transactional services, Spring Data repositories) get the
+ * interceptor as their outermost advice; plain beans are wrapped in a new proxy. Processors run
+ * in {@code order}, so the one with the highest order ends up outermost; the constants below fix
+ * that nesting, all of it outside the transaction advice.
+ */
+public class InterceptingPostProcessor implements BeanPostProcessor, Ordered {
+
+    /** Innermost: sees the committed write when it returns. */
+    public static final int COALESCING = Ordered.LOWEST_PRECEDENCE - 30;
+    /** Service timing includes the wait for a coalesced call. */
+    public static final int TRACING = Ordered.LOWEST_PRECEDENCE - 20;
+    /** Outermost: counts every call, coalesced or not. */
+    public static final int METRICS = Ordered.LOWEST_PRECEDENCE - 10;
+
+    private final int order;
+    private final List<Class<?>> targets;
+    private final Function<Class<?>, MethodInterceptor> interceptors;
+
+    public InterceptingPostProcessor(int order, List<Class<?>> targets, Function<Class<?>, MethodInterceptor> interceptors) {
+        this.order = order;
+        this.targets = targets;
+        this.interceptors = interceptors;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Class<?> target : targets) {
+            if (target.isInstance(bean)) {
+                var interceptor = interceptors.apply(target);
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvice(0, interceptor);
+                    return bean;
+                }
+                var factory = new ProxyFactory(bean);
+                if (target.isInterface()) {
+                    factory.addInterface(target);
+                } else {
+                    factory.setProxyTargetClass(true);
+                }
+                factory.addAdvice(interceptor);
+                return factory.getProxy(bean.getClass().getClassLoader());
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
@@ -17,7 +17,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
@@ -51,10 +51,14 @@ public class Jsons {
     private static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd";
 
     static {
-        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
-        builder.serializerByType(Long.class, ToStringSerializer.instance);
-        builder.serializerByType(Long.TYPE, ToStringSerializer.instance);
-        builder.serializerByType(long.class, ToStringSerializer.instance);
+        mapper = configure(new Jackson2ObjectMapperBuilder()).build();
+    }
+
+    /**
+     * Applies the application's JSON settings. The resulting mapper is also the one Spring MVC
+     * uses, so utility code and controllers serialize the same way.
+     */
+    public static Jackson2ObjectMapperBuilder configure(Jackson2ObjectMapperBuilder builder) {
         builder.simpleDateFormat(DEFAULT_DATETIME_PATTERN);
         JavaTimeModule javaTimeModule = new JavaTimeModule();
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(DEFAULT_DATETIME_PATTERN);
@@ -65,11 +69,13 @@ public class Jsons {
         javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(dateFormatter));
         builder.timeZone("America/Sao_Paulo");
 
-        builder.modules(new ParameterNamesModule(), new Jdk8Module(), javaTimeModule);
+        builder.modules(new ParameterNamesModule(), new Jdk8Module(), javaTimeModule, new IdModule());
 
         builder.featuresToEnable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY,
                 DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS, JsonParser.Feature.ALLOW_SINGLE_QUOTES);
-        mapper = builder.build();
+        builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        return builder;
     }
 
     public static ObjectMapper getMapper() {
@@ -0,0 +1,103 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import br.com.jtech.tasklist.config.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = StartTasklist.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BinaryContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ObjectMapper smile = Jsons.configure(Jackson2ObjectMapperBuilder.smile()).build();
+    private final ObjectMapper cbor = Jsons.configure(Jackson2ObjectMapperBuilder.cbor()).build();
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID().toString();
+        token = jwtUtil.generateToken(userId, userId + "@jtech.com.br");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token).header("X-User-Id", userId);
+    }
+
+    @Test
+    @DisplayName("Lista criada em CBOR e tarefa em Smile são lidas de volta no mesmo formato")
+    void binaryRoundTrip() throws Exception {
+        byte[] listBody = mvc.perform(authorized(post("/tasklists"))
+                        .contentType(MediaType.APPLICATION_CBOR).accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(Map.of("name", "Mercado", "userId", userId))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        String listId = cbor.readTree(listBody).get("id").asText();
+
+        mvc.perform(authorized(post("/tasks"))
+                        .contentType(SMILE).accept(SMILE)
+                        .content(smile.writeValueAsBytes(Map.of("title", "Comprar pão", "dueDate", "2025-03-14",
+                                "userId", userId, "listId", listId))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE));
+
+        byte[] tasks = mvc.perform(authorized(get("/tasks/list/" + listId)).accept(SMILE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode first = smile.readTree(tasks).get(0);
+
+        assertThat(first.get("title").asText()).isEqualTo("Comprar pão");
+        assertThat(first.get("dueDate").asText()).isEqualTo("2025-03-14");
+    }
+
+    @Test
+    @DisplayName("Sem Accept binário a resposta continua em JSON")
+    void jsonRemainsDefault() throws Exception {
+        mvc.perform(authorized(get("/tasks/user/" + userId)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Id malformado no caminho ou no corpo retorna 400")
+    void malformedIdIsBadRequest() throws Exception {
+        mvc.perform(authorized(get("/tasks/list/abc")))
+                .andExpect(status().isBadRequest());
+        mvc.perform(authorized(post("/tasks"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Ler\",\"listId\":\"abc\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.config.infra.sql.StatementCounter;
+import br.com.jtech.tasklist.config.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static br.com.jtech.tasklist.config.infra.sql.StatementAssertions.withinStatementBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the SQL statement budgets of the task and list endpoints against regressions such
+ * as N+1 lookups, running the real persistence stack on H2.
+ */
+@SpringBootTest(classes = StartTasklist.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ControllerStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private String userId;
+    private String token;
+    private String listId;
+    private String taskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userId = UUID.randomUUID().toString();
+        token = jwtUtil.generateToken(userId, userId + "@jtech.com.br");
+        listId = id(perform(post("/tasklists"), Map.of("name", "Lista", "userId", userId)));
+        for (int i = 0; i < 5; i++) {
+            taskId = id(perform(post("/tasks"), Map.of("title", "Tarefa " + i, "userId", userId, "listId", listId)));
+        }
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        request.header("Authorization", "Bearer " + token).header("X-User-Id", userId);
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(mapper.writeValueAsBytes(body));
+        }
+        return mvc.perform(request).andExpect(status().is2xxSuccessful()).andExpect(withinStatementBudget());
+    }
+
+    private String id(ResultActions actions) throws Exception {
+        JsonNode body = mapper.readTree(actions.andReturn().getResponse().getContentAsByteArray());
+        return body.get("id").asText();
+    }
+
+    @Test
+    @DisplayName("Endpoints de tarefas respeitam orçamento de SQL")
+    void taskEndpointsStayWithinBudget() throws Exception {
+        perform(get("/tasks/list/" + listId), null);
+        perform(get("/tasks/list/" + listId + "?completed=false&sort=title&limit=3"), null);
+        perform(get("/tasks"), null);
+        perform(get("/tasks/" + taskId), null);
+        perform(get("/tasks/suggestions?prefix=tar&listId=" + listId), null);
+        perform(post("/tasks/_mget"), Map.of("ids", List.of(taskId, UUID.randomUUID().toString())));
+        perform(put("/tasks/" + taskId), Map.of("title", "Renomeada", "userId", userId, "listId", listId));
+        perform(patch("/tasks/" + taskId), Map.of("completed", true));
+        perform(delete("/tasks/" + taskId), null);
+    }
+
+    @Test
+    @DisplayName("Campos esparsos restringem as colunas lidas do banco")
+    void sparseFieldsNarrowColumns() throws Exception {
+        try (var scope = StatementCounter.open()) {
+            ResultActions actions = perform(get("/tasks/list/" + listId + "?fields=id,title,completed,dueDate&sort=title"), null);
+            JsonNode first = mapper.readTree(actions.andReturn().getResponse().getContentAsByteArray()).get(0);
+
+            assertThat(first.fieldNames()).toIterable().containsExactly("id", "title", "dueDate", "completed");
+            String sql = scope.repeated(1).keySet().iterator().next();
+            assertThat(sql.substring(0, sql.indexOf(" from ")))
+                    .contains("title").doesNotContain("description", "user_id", "list_id");
+        }
+    }
+
+    @Test
+    @DisplayName("Quadro traz listas e primeira página de tarefas com consultas constantes")
+    void boardStaysWithinBudget() throws Exception {
+        perform(post("/tasklists"), Map.of("name", "Vazia", "userId", userId));
+
+        JsonNode board = mapper.readTree(perform(get("/board?tasksPerList=3"), null)
+                .andReturn().getResponse().getContentAsByteArray());
+
+        assertThat(board).hasSize(2);
+        JsonNode list = board.get(0).get("id").asText().equals(listId) ? board.get(0) : board.get(1);
+        assertThat(list.get("total").asLong()).isEqualTo(5);
+        assertThat(list.get("tasks")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Endpoints de listas respeitam orçamento de SQL")
+    void taskListEndpointsStayWithinBudget() throws Exception {
+        perform(get("/tasklists"), null);
+        perform(get("/tasklists/summary"), null);
+        perform(get("/tasklists/" + listId), null);
+        perform(put("/tasklists/" + listId), Map.of("name", "Outra", "userId", userId));
+        String emptyListId = id(perform(post("/tasklists"), Map.of("name", "Vazia", "userId", userId)));
+        perform(delete("/tasklists/" + emptyListId), null);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.config.infra.idempotency.IdempotencyFilter;
+import br.com.jtech.tasklist.config.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = StartTasklist.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyKeyTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private String userId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID().toString();
+        token = jwtUtil.generateToken(userId, userId + "@jtech.com.br");
+    }
+
+    private ResultActions createList(String key, String name) throws Exception {
+        return mvc.perform(post("/tasklists")
+                .header("Authorization", "Bearer " + token).header("X-User-Id", userId)
+                .header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsBytes(Map.of("name", name, "userId", userId))));
+    }
+
+    @Test
+    @DisplayName("Repetição com a mesma Idempotency-Key devolve a resposta original sem nova escrita")
+    void retryIsReplayed() throws Exception {
+        String first = createList("k-1", "Mercado").andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String retry = createList("k-1", "Mercado").andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(retry).isEqualTo(first);
+        var lists = mapper.readTree(mvc.perform(get("/tasklists/user/" + userId)
+                        .header("Authorization", "Bearer " + token).header("X-User-Id", userId))
+                .andReturn().getResponse().getContentAsByteArray());
+        assertThat(lists).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key reutilizada com outro corpo é rejeitada")
+    void keyReusedWithOtherBody() throws Exception {
+        createList("k-2", "Mercado").andExpect(status().isOk());
+
+        createList("k-2", "Farmácia").andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("Chaves diferentes executam requisições diferentes")
+    void distinctKeysExecute() throws Exception {
+        createList("k-3", "Mercado").andExpect(status().isOk());
+
+        createList("k-4", "Feira").andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+}
@@ -1,8 +1,18 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.dtos.TaskDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskIdsDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskMultiGetDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskQueryParams;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.adapters.input.dtos.TitleSuggestionDTO;
+import br.com.jtech.tasklist.application.core.search.TitleTrie;
 import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.TitleSuggestionService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +23,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -24,19 +38,30 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TaskControllerUnitTest {
 
+    private static final TaskId TASK_1 = new TaskId(new UUID(0, 1));
+    private static final TaskId TASK_2 = new TaskId(new UUID(0, 2));
+    private static final TaskId TASK_3 = new TaskId(new UUID(0, 3));
+    private static final TaskId TASK_999 = new TaskId(new UUID(0, 999));
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_2 = new UserId(new UUID(1, 2));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+
     @Mock
     private TaskService service;
 
+    @Mock
+    private TitleSuggestionService titleSuggestions;
+
     @InjectMocks
     private TaskController controller;
 
     @Test
     @DisplayName("Criar tarefa com userId válido retorna OK")
     void createTaskSuccess() {
-        Task task = Task.builder().userId("user1").title("Test").build();
+        Task task = Task.builder().userId(USER_1).title("Test").build();
         when(service.create(any(Task.class))).thenReturn(task);
 
-        ResponseEntity<TaskDTO> response = controller.create(task, "user1");
+        ResponseEntity<TaskDTO> response = controller.create(task, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         verify(service).create(task);
@@ -45,9 +70,9 @@ class TaskControllerUnitTest {
     @Test
     @DisplayName("Criar tarefa com userId diferente retorna Forbidden")
     void createTaskForbidden() {
-        Task task = Task.builder().userId("user1").title("Test").build();
+        Task task = Task.builder().userId(USER_1).title("Test").build();
 
-        ResponseEntity<TaskDTO> response = controller.create(task, "user2");
+        ResponseEntity<TaskDTO> response = controller.create(task, USER_2);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
         verify(service, never()).create(any());
@@ -56,21 +81,21 @@ class TaskControllerUnitTest {
     @Test
     @DisplayName("Buscar tarefa por ID existente retorna OK")
     void getByIdFound() {
-        Task task = Task.builder().id("1").userId("user1").title("Test").completed(false).build();
-        when(service.getById("1", "user1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).title("Test").completed(false).build();
+        when(service.getById(TASK_1, USER_1)).thenReturn(Optional.of(task));
 
-        ResponseEntity<TaskDTO> response = controller.getById("1", "user1");
+        ResponseEntity<TaskDTO> response = controller.getById(TASK_1, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody().getId()).isEqualTo("1");
+        assertThat(response.getBody().getId()).isEqualTo(TASK_1.toString());
     }
 
     @Test
     @DisplayName("Buscar tarefa por ID inexistente retorna Not Found")
     void getByIdNotFound() {
-        when(service.getById("999", "user1")).thenReturn(Optional.empty());
+        when(service.getById(TASK_999, USER_1)).thenReturn(Optional.empty());
 
-        ResponseEntity<TaskDTO> response = controller.getById("999", "user1");
+        ResponseEntity<TaskDTO> response = controller.getById(TASK_999, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -78,34 +103,103 @@ class TaskControllerUnitTest {
     @Test
     @DisplayName("Buscar tarefas por usuário retorna lista")
     void getByUser() {
-        List<Task> tasks = List.of(Task.builder().id("1").userId("user1").completed(false).build());
-        when(service.getByUser("user1")).thenReturn(tasks);
+        List<Task> tasks = List.of(Task.builder().id(TASK_1).userId(USER_1).completed(false).build());
+        when(service.getByUser(USER_1)).thenReturn(tasks);
 
-        ResponseEntity<List<TaskDTO>> response = controller.getByUser("user1");
+        ResponseEntity<List<TaskDTO>> response = controller.getByUser(USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Buscar várias tarefas retorna encontradas e ids ausentes")
+    void getByIds() {
+        List<TaskId> ids = List.of(TASK_1, TASK_2, TASK_2, TASK_3);
+        when(service.getByIds(ids, USER_1)).thenReturn(List.of(Task.builder().id(TASK_1).userId(USER_1).build()));
+
+        ResponseEntity<TaskMultiGetDTO> response = controller.getByIds(new TaskIdsDTO(ids), USER_1);
+
+        assertThat(response.getBody().getFound()).extracting(TaskDTO::getId).containsExactly(TASK_1.toString());
+        assertThat(response.getBody().getMissing()).containsExactly(TASK_2, TASK_3);
+    }
+
     @Test
     @DisplayName("Buscar tarefas por lista retorna lista filtrada")
     void getByList() {
-        List<Task> tasks = List.of(Task.builder().id("1").listId("list1").completed(false).build());
-        when(service.getByList("list1", "user1")).thenReturn(tasks);
+        List<Task> tasks = List.of(Task.builder().id(TASK_1).listId(LIST_1).completed(false).build());
+        when(service.search(TaskQuery.builder().userId(USER_1).listId(LIST_1).build())).thenReturn(tasks);
 
-        ResponseEntity<List<TaskDTO>> response = controller.getByList("list1", "user1");
+        ResponseEntity<List<TaskDTO>> response = controller.getByList(LIST_1, new TaskQueryParams(), USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Buscar tarefas por lista repassa filtros e ordenação")
+    void getByListWithFilters() {
+        TaskQueryParams params = new TaskQueryParams(false, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), "com", "dueDate", "desc", 20, false);
+        TaskQuery expected = TaskQuery.builder().userId(USER_1).listId(LIST_1).completed(false)
+                .dueFrom(LocalDate.of(2024, 1, 1)).dueTo(LocalDate.of(2024, 1, 31)).titlePrefix("com")
+                .sortField(TaskQuery.SortField.DUE_DATE).descending(true).limit(20).build();
+        when(service.search(expected)).thenReturn(List.of());
+
+        ResponseEntity<List<TaskDTO>> response = controller.getByList(LIST_1, params, USER_1);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(service).search(expected);
+    }
+
+    @Test
+    @DisplayName("Buscar tarefas por lista com fields retorna só os campos pedidos")
+    void getByListFields() {
+        TaskQuery expected = TaskQuery.builder().userId(USER_1).listId(LIST_1)
+                .fields(EnumSet.of(TaskQuery.Field.ID, TaskQuery.Field.TITLE, TaskQuery.Field.COMPLETED)).build();
+        when(service.search(expected)).thenReturn(List.of(Task.builder().id(TASK_1).title("Ler").completed(true).build()));
+
+        ResponseEntity<List<Map<String, Object>>> response = controller.getByListFields(LIST_1, new TaskQueryParams(), "completed, title,id", USER_1);
+
+        assertThat(response.getBody()).containsExactly(Map.of("id", TASK_1.toString(), "title", "Ler", "completed", true));
+        assertThat(response.getBody().get(0).keySet()).containsExactly("id", "title", "completed");
+    }
+
+    @Test
+    @DisplayName("Buscar tarefas com campo inválido lança exceção")
+    void getAllFieldsInvalid() {
+        assertThatThrownBy(() -> controller.getAllFields(new TaskQueryParams(), "id,secret", USER_1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> controller.getAllFields(new TaskQueryParams(), " , ", USER_1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(service, never()).search(any());
+    }
+
+    @Test
+    @DisplayName("Buscar tarefas com ordenação inválida lança exceção")
+    void getAllInvalidSort() {
+        TaskQueryParams params = new TaskQueryParams(null, null, null, null, "description", null, null, false);
+
+        assertThatThrownBy(() -> controller.getAll(params, USER_1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(service, never()).search(any());
+    }
+
+    @Test
+    @DisplayName("Buscar tarefas com limite fora do intervalo lança exceção")
+    void getAllInvalidLimit() {
+        TaskQueryParams params = new TaskQueryParams(null, null, null, null, null, null, 0, false);
+
+        assertThatThrownBy(() -> controller.getAll(params, USER_1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("Buscar todas as tarefas retorna lista do usuário")
     void getAll() {
-        List<Task> tasks = List.of(Task.builder().id("1").userId("user1").completed(false).build());
-        when(service.getByUser("user1")).thenReturn(tasks);
+        List<Task> tasks = List.of(Task.builder().id(TASK_1).userId(USER_1).completed(false).build());
+        when(service.search(TaskQuery.builder().userId(USER_1).build())).thenReturn(tasks);
 
-        ResponseEntity<List<TaskDTO>> response = controller.getAll("user1");
+        ResponseEntity<List<TaskDTO>> response = controller.getAll(new TaskQueryParams(), USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
@@ -114,10 +208,10 @@ class TaskControllerUnitTest {
     @Test
     @DisplayName("Atualizar tarefa retorna tarefa atualizada")
     void updateTask() {
-        Task task = Task.builder().id("1").userId("user1").title("Updated").completed(false).build();
-        when(service.update(any(Task.class), eq("user1"))).thenReturn(task);
+        Task task = Task.builder().id(TASK_1).userId(USER_1).title("Updated").completed(false).build();
+        when(service.update(any(Task.class), eq(USER_1))).thenReturn(task);
 
-        ResponseEntity<TaskDTO> response = controller.update("1", task, "user1");
+        ResponseEntity<TaskDTO> response = controller.update(TASK_1, task, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getTitle()).isEqualTo("Updated");
@@ -126,23 +220,23 @@ class TaskControllerUnitTest {
     @Test
     @DisplayName("Deletar tarefa retorna No Content")
     void deleteTask() {
-        doNothing().when(service).delete("1", "user1");
+        doNothing().when(service).delete(TASK_1, USER_1);
 
-        ResponseEntity<Void> response = controller.delete("1", "user1");
+        ResponseEntity<Void> response = controller.delete(TASK_1, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-        verify(service).delete("1", "user1");
+        verify(service).delete(TASK_1, USER_1);
     }
 
     @Test
     @DisplayName("Toggle completed retorna tarefa atualizada")
     void toggleCompleted() {
-        Task task = Task.builder().id("1").userId("user1").completed(true).build();
-        when(service.toggleCompleted("1", true, "user1")).thenReturn(task);
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(true).build();
+        when(service.toggleCompleted(TASK_1, true, USER_1)).thenReturn(task);
 
         TaskController.ToggleRequest req = new TaskController.ToggleRequest();
         req.completed = true;
-        ResponseEntity<TaskDTO> response = controller.toggleCompleted("1", req, "user1");
+        ResponseEntity<TaskDTO> response = controller.toggleCompleted(TASK_1, req, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getCompleted()).isTrue();
@@ -152,18 +246,18 @@ class TaskControllerUnitTest {
     @DisplayName("MapToDTO converte Task com dueDate")
     void mapToDtoWithDueDate() {
         Task task = Task.builder()
-                .id("1")
+                .id(TASK_1)
                 .title("Test")
                 .description("Desc")
                 .dueDate(LocalDate.of(2024, 1, 1))
                 .completed(true)
-                .userId("user1")
-                .listId("list1")
+                .userId(USER_1)
+                .listId(LIST_1)
                 .build();
 
         TaskDTO dto = controller.mapToDTO(task);
 
-        assertThat(dto.getId()).isEqualTo("1");
+        assertThat(dto.getId()).isEqualTo(TASK_1.toString());
         assertThat(dto.getDueDate()).isEqualTo("2024-01-01");
         assertThat(dto.getCompleted()).isTrue();
     }
@@ -171,10 +265,22 @@ class TaskControllerUnitTest {
     @Test
     @DisplayName("MapToDTO converte Task sem dueDate")
     void mapToDtoWithoutDueDate() {
-        Task task = Task.builder().id("1").title("Test").completed(false).build();
+        Task task = Task.builder().id(TASK_1).title("Test").completed(false).build();
 
         TaskDTO dto = controller.mapToDTO(task);
 
         assertThat(dto.getDueDate()).isNull();
     }
+
+    @Test
+    @DisplayName("Sugerir títulos retorna sugestões do usuário")
+    void suggestTitles() {
+        when(titleSuggestions.suggest(USER_1, "com", LIST_1, 5))
+                .thenReturn(List.of(new TitleTrie.Suggestion("Comprar pão", true)));
+
+        ResponseEntity<List<TitleSuggestionDTO>> response = controller.suggestTitles("com", LIST_1, 5, USER_1);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(new TitleSuggestionDTO("Comprar pão", true));
+    }
 }
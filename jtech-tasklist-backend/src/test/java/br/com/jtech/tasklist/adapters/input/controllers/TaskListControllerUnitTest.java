@@ -1,7 +1,11 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.dtos.TaskListDTO;
+import br.com.jtech.tasklist.adapters.input.dtos.TaskListSummaryDTO;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.services.TaskListService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +28,10 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TaskListControllerUnitTest {
 
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+    private static final ListId LIST_999 = new ListId(new UUID(2, 999));
+
     @Mock
     private TaskListService service;
 
@@ -32,23 +41,23 @@ class TaskListControllerUnitTest {
     @Test
     @DisplayName("Criar lista retorna OK")
     void createTaskList() {
-        TaskList taskList = TaskList.builder().id("1").name("Lista").userId("user1").build();
+        TaskList taskList = TaskList.builder().id(LIST_1).name("Lista").userId(USER_1).build();
         when(service.create(any(TaskList.class))).thenReturn(taskList);
 
         ResponseEntity<TaskListDTO> response = controller.create(taskList);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody().getId()).isEqualTo("1");
+        assertThat(response.getBody().getId()).isEqualTo(LIST_1.toString());
         verify(service).create(taskList);
     }
 
     @Test
     @DisplayName("Buscar lista por ID existente retorna OK")
     void getByIdFound() {
-        TaskList taskList = TaskList.builder().id("1").name("Lista").userId("user1").build();
-        when(service.getById("1", "user1")).thenReturn(Optional.of(taskList));
+        TaskList taskList = TaskList.builder().id(LIST_1).name("Lista").userId(USER_1).build();
+        when(service.getById(LIST_1, USER_1)).thenReturn(Optional.of(taskList));
 
-        ResponseEntity<TaskListDTO> response = controller.getById("1", "user1");
+        ResponseEntity<TaskListDTO> response = controller.getById(LIST_1, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getName()).isEqualTo("Lista");
@@ -57,9 +66,9 @@ class TaskListControllerUnitTest {
     @Test
     @DisplayName("Buscar lista por ID inexistente retorna Not Found")
     void getByIdNotFound() {
-        when(service.getById("999", "user1")).thenReturn(Optional.empty());
+        when(service.getById(LIST_999, USER_1)).thenReturn(Optional.empty());
 
-        ResponseEntity<TaskListDTO> response = controller.getById("999", "user1");
+        ResponseEntity<TaskListDTO> response = controller.getById(LIST_999, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -67,10 +76,10 @@ class TaskListControllerUnitTest {
     @Test
     @DisplayName("Buscar listas por usuário retorna lista")
     void getByUser() {
-        List<TaskList> lists = List.of(TaskList.builder().id("1").name("Lista").userId("user1").build());
-        when(service.getByUser("user1")).thenReturn(lists);
+        List<TaskList> lists = List.of(TaskList.builder().id(LIST_1).name("Lista").userId(USER_1).build());
+        when(service.getByUser(USER_1)).thenReturn(lists);
 
-        ResponseEntity<List<TaskListDTO>> response = controller.getByUser("user1");
+        ResponseEntity<List<TaskListDTO>> response = controller.getByUser(USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
@@ -79,10 +88,10 @@ class TaskListControllerUnitTest {
     @Test
     @DisplayName("Buscar todas as listas retorna listas do usuário")
     void getAll() {
-        List<TaskList> lists = List.of(TaskList.builder().id("1").name("Lista").userId("user1").build());
-        when(service.getByUser("user1")).thenReturn(lists);
+        List<TaskList> lists = List.of(TaskList.builder().id(LIST_1).name("Lista").userId(USER_1).build());
+        when(service.getByUser(USER_1)).thenReturn(lists);
 
-        ResponseEntity<List<TaskListDTO>> response = controller.getAll("user1");
+        ResponseEntity<List<TaskListDTO>> response = controller.getAll(USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
@@ -91,10 +100,10 @@ class TaskListControllerUnitTest {
     @Test
     @DisplayName("Atualizar lista retorna lista atualizada")
     void updateTaskList() {
-        TaskList taskList = TaskList.builder().id("1").name("Updated").userId("user1").build();
-        when(service.update(any(TaskList.class), eq("user1"))).thenReturn(taskList);
+        TaskList taskList = TaskList.builder().id(LIST_1).name("Updated").userId(USER_1).build();
+        when(service.update(any(TaskList.class), eq(USER_1))).thenReturn(taskList);
 
-        ResponseEntity<TaskListDTO> response = controller.update("1", taskList, "user1");
+        ResponseEntity<TaskListDTO> response = controller.update(LIST_1, taskList, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getName()).isEqualTo("Updated");
@@ -103,23 +112,35 @@ class TaskListControllerUnitTest {
     @Test
     @DisplayName("Deletar lista retorna No Content")
     void deleteTaskList() {
-        doNothing().when(service).delete("1", "user1");
+        doNothing().when(service).delete(LIST_1, USER_1);
 
-        ResponseEntity<Void> response = controller.delete("1", "user1");
+        ResponseEntity<Void> response = controller.delete(LIST_1, USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
-        verify(service).delete("1", "user1");
+        verify(service).delete(LIST_1, USER_1);
     }
 
     @Test
     @DisplayName("MapToDTO converte TaskList corretamente")
     void mapToDto() {
-        TaskList taskList = TaskList.builder().id("1").name("Lista").userId("user1").build();
+        TaskList taskList = TaskList.builder().id(LIST_1).name("Lista").userId(USER_1).build();
 
         TaskListDTO dto = controller.mapToDTO(taskList);
 
-        assertThat(dto.getId()).isEqualTo("1");
+        assertThat(dto.getId()).isEqualTo(LIST_1.toString());
         assertThat(dto.getName()).isEqualTo("Lista");
-        assertThat(dto.getUserId()).isEqualTo("user1");
+        assertThat(dto.getUserId()).isEqualTo(USER_1.toString());
+    }
+
+    @Test
+    @DisplayName("Resumo das listas retorna contadores por lista")
+    void getSummary() {
+        when(service.getSummaries(USER_1)).thenReturn(List.of(
+                TaskListSummary.builder().listId(LIST_1).name("Lista").total(5).completed(2).overdue(1).build()));
+
+        ResponseEntity<List<TaskListSummaryDTO>> response = controller.getSummary(USER_1);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(new TaskListSummaryDTO(LIST_1.toString(), "Lista", 5L, 2L, 1L));
     }
 }
@@ -4,6 +4,7 @@ import br.com.jtech.tasklist.adapters.input.dtos.LoginDto;
 import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
 import br.com.jtech.tasklist.application.core.domains.RefreshToken;
 import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.services.RefreshTokenService;
 import br.com.jtech.tasklist.application.core.services.UserService;
 import br.com.jtech.tasklist.config.security.JwtUtil;
@@ -27,6 +28,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class UserControllerUnitTest {
 
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_999 = new UserId(new UUID(1, 999));
+
     @Mock
     private UserService service;
 
@@ -43,23 +47,23 @@ class UserControllerUnitTest {
     @DisplayName("Registrar usuário retorna OK")
     void registerUser() {
         UserDto dto = new UserDto("Test", "test@test.com", "123");
-        User user = User.builder().id("1").name("Test").email("test@test.com").build();
+        User user = User.builder().id(USER_1).name("Test").email("test@test.com").build();
         when(service.create(dto)).thenReturn(user);
 
         ResponseEntity<User> response = controller.create(dto);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody().getId()).isEqualTo("1");
+        assertThat(response.getBody().getId()).isEqualTo(USER_1);
         verify(service).create(dto);
     }
 
     @Test
     @DisplayName("Buscar usuário por ID existente retorna OK")
     void getByIdFound() {
-        User user = User.builder().id("1").name("Test").email("test@test.com").build();
-        when(service.getById("1")).thenReturn(Optional.of(user));
+        User user = User.builder().id(USER_1).name("Test").email("test@test.com").build();
+        when(service.getById(USER_1)).thenReturn(Optional.of(user));
 
-        ResponseEntity<User> response = controller.getById("1");
+        ResponseEntity<User> response = controller.getById(USER_1);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getName()).isEqualTo("Test");
@@ -68,9 +72,9 @@ class UserControllerUnitTest {
     @Test
     @DisplayName("Buscar usuário por ID inexistente retorna Not Found")
     void getByIdNotFound() {
-        when(service.getById("999")).thenReturn(Optional.empty());
+        when(service.getById(USER_999)).thenReturn(Optional.empty());
 
-        ResponseEntity<User> response = controller.getById("999");
+        ResponseEntity<User> response = controller.getById(USER_999);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -79,12 +83,12 @@ class UserControllerUnitTest {
     @DisplayName("Login com credenciais válidas retorna token")
     void loginSuccess() {
         LoginDto loginDto = new LoginDto("test@test.com", "123");
-        User user = User.builder().id("1").name("Test").email("test@test.com").build();
+        User user = User.builder().id(USER_1).name("Test").email("test@test.com").build();
         RefreshToken refreshToken = RefreshToken.builder().token("refresh123").build();
         
         when(service.login("test@test.com", "123")).thenReturn(user);
-        when(jwtUtil.generateToken("1", "test@test.com")).thenReturn("token123");
-        when(refreshTokenService.create("1")).thenReturn(refreshToken);
+        when(jwtUtil.generateToken(USER_1.toString(), "test@test.com")).thenReturn("token123");
+        when(refreshTokenService.create(USER_1)).thenReturn(refreshToken);
 
         ResponseEntity<?> response = controller.login(loginDto);
 
@@ -112,11 +116,11 @@ class UserControllerUnitTest {
     void refreshTokenSuccess() {
         Map<String, String> request = Map.of("refreshToken", "refresh123");
         RefreshToken refreshToken = RefreshToken.builder().userId(UUID.randomUUID()).build();
-        User user = User.builder().id("1").email("test@test.com").build();
+        User user = User.builder().id(USER_1).email("test@test.com").build();
         
         when(refreshTokenService.validate("refresh123")).thenReturn(Optional.of(refreshToken));
-        when(service.getById(refreshToken.getUserId().toString())).thenReturn(Optional.of(user));
-        when(jwtUtil.generateToken("1", "test@test.com")).thenReturn("newToken123");
+        when(service.getById(new UserId(refreshToken.getUserId()))).thenReturn(Optional.of(user));
+        when(jwtUtil.generateToken(USER_1.toString(), "test@test.com")).thenReturn("newToken123");
 
         ResponseEntity<?> response = controller.refreshToken(request);
 
@@ -145,7 +149,7 @@ class UserControllerUnitTest {
         RefreshToken refreshToken = RefreshToken.builder().userId(UUID.randomUUID()).build();
         
         when(refreshTokenService.validate("refresh123")).thenReturn(Optional.of(refreshToken));
-        when(service.getById(refreshToken.getUserId().toString())).thenReturn(Optional.empty());
+        when(service.getById(new UserId(refreshToken.getUserId()))).thenReturn(Optional.empty());
 
         ResponseEntity<?> response = controller.refreshToken(request);
 
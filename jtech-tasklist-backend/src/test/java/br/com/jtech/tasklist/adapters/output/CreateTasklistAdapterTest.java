@@ -0,0 +1,74 @@
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = StartTasklist.class, properties = "tasklist.tasklists.group-commit.window=200ms")
+@ActiveProfiles("test")
+class CreateTasklistAdapterTest {
+
+    @Autowired
+    private CreateTasklistAdapter adapter;
+
+    @Autowired
+    private TaskListRepositoryPort repository;
+
+    @Test
+    @DisplayName("Criações concorrentes são gravadas e só a duplicada falha")
+    void concurrentCreatesWithDuplicate() throws Exception {
+        UserId userId = new UserId(UUID.randomUUID());
+        var names = List.of("Casa", "Trabalho", "Casa", "Estudos");
+        var gate = new CountDownLatch(1);
+        List<Future<TaskList>> results;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = names.stream()
+                    .map(name -> executor.submit(() -> {
+                        gate.await();
+                        return adapter.create(TaskList.builder().userId(userId).name(name).build());
+                    }))
+                    .toList();
+            gate.countDown();
+        }
+
+        int failures = 0;
+        for (Future<TaskList> result : results) {
+            try {
+                assertThat(result.get().getId()).isNotNull();
+            } catch (Exception e) {
+                failures++;
+                assertThat(e).hasCauseInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("Já existe uma lista com esse nome.");
+            }
+        }
+        assertThat(failures).isEqualTo(1);
+        assertThat(repository.findAllByUserId(userId)).extracting(TaskList::getName)
+                .containsExactlyInAnyOrder("Casa", "Trabalho", "Estudos");
+    }
+
+    @Test
+    @DisplayName("Criação isolada de nome repetido é rejeitada")
+    void duplicateAlone() {
+        UserId userId = new UserId(UUID.randomUUID());
+        adapter.create(TaskList.builder().userId(userId).name("Mercado").build());
+
+        assertThatThrownBy(() -> adapter.create(TaskList.builder().userId(userId).name("Mercado").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Já existe uma lista com esse nome.");
+    }
+}
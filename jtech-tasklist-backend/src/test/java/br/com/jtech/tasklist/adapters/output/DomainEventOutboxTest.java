@@ -0,0 +1,168 @@
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.adapters.output.repositories.SpringDataOutboxEventRepository;
+import br.com.jtech.tasklist.adapters.output.repositories.entities.OutboxEventEntity;
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.search.TitleTrie;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.TitleSuggestionService;
+import br.com.jtech.tasklist.application.ports.output.DomainEventConsumer;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.config.infra.events.DomainEventDispatcher;
+import br.com.jtech.tasklist.config.infra.utils.Jsons;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {StartTasklist.class, DomainEventOutboxTest.Recorder.class})
+@ActiveProfiles("test")
+class DomainEventOutboxTest {
+
+    @TestConfiguration
+    static class Recorder {
+        static final LinkedBlockingQueue<DomainEvent> RECEIVED = new LinkedBlockingQueue<>();
+
+        @Bean
+        DomainEventConsumer recordingConsumer() {
+            return RECEIVED::addAll;
+        }
+    }
+
+    @Autowired
+    private TaskService tasks;
+
+    @Autowired
+    private TaskListService lists;
+
+    @Autowired
+    private SpringDataOutboxEventRepository outbox;
+
+    @Autowired
+    private DomainEventOutboxPort port;
+
+    @Autowired
+    private DomainEventDispatcher dispatcher;
+
+    @Autowired
+    private TransactionTemplate transactions;
+
+    @Autowired
+    private TitleSuggestionService titles;
+
+    private DomainEvent next(String aggregateId) throws InterruptedException {
+        while (true) {
+            DomainEvent event = Recorder.RECEIVED.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("evento de " + aggregateId).isNotNull();
+            if (aggregateId.equals(event.getAggregateId())) {
+                return event;
+            }
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição atingida a tempo").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Mutações confirmadas chegam aos consumidores em ordem e saem do outbox")
+    void committedMutationsAreDispatched() throws Exception {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = lists.create(TaskList.builder().name("Eventos").userId(userId).build());
+        Task task = tasks.create(Task.builder().title("Publicar").userId(userId).listId(list.getId()).build());
+        tasks.toggleCompleted(task.getId(), true, userId);
+        tasks.delete(task.getId(), userId);
+
+        assertThat(next(list.getId().toString()).getType()).isEqualTo(DomainEvent.Type.CREATED);
+        DomainEvent created = next(task.getId().toString());
+        assertThat(created.getType()).isEqualTo(DomainEvent.Type.CREATED);
+        assertThat(((Task) created.getPayload()).getTitle()).isEqualTo("Publicar");
+        assertThat(next(task.getId().toString()).getType()).isEqualTo(DomainEvent.Type.COMPLETION_CHANGED);
+        DomainEvent deleted = next(task.getId().toString());
+        assertThat(deleted.getType()).isEqualTo(DomainEvent.Type.DELETED);
+        assertThat(deleted.getSequence()).isGreaterThan(created.getSequence());
+    }
+
+    @Test
+    @DisplayName("Índice de títulos acompanha as tarefas pelos eventos e o outbox esvazia")
+    void titleIndexFollowsEvents() throws Exception {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = lists.create(TaskList.builder().name("Índice").userId(userId).build());
+        assertThat(titles.suggest(userId, "", null, 10)).isEmpty();
+
+        Task task = tasks.create(Task.builder().title("Regar plantas").userId(userId).listId(list.getId()).build());
+        await(() -> titles.suggest(userId, "reg", list.getId(), 10).contains(new TitleTrie.Suggestion("Regar plantas", true)));
+
+        tasks.delete(task.getId(), userId);
+        await(() -> titles.suggest(userId, "reg", null, 10).isEmpty());
+        await(() -> outbox.findAll().stream().noneMatch(e -> e.getUserId().equals(userId.toString())));
+    }
+
+    @Test
+    @DisplayName("Transação desfeita não grava nem entrega eventos")
+    void rolledBackMutationIsNotDispatched() {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = lists.create(TaskList.builder().name("Desfeita").userId(userId).build());
+        assertThatThrownBy(() -> transactions.executeWithoutResult(status -> {
+            tasks.create(Task.builder().title("Nunca").userId(userId).listId(list.getId()).build());
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outbox.findAll()).noneMatch(e -> e.getPayload().contains("Nunca"));
+        assertThat(Recorder.RECEIVED).noneMatch(e -> e.getPayload() instanceof Task t && "Nunca".equals(t.getTitle()));
+    }
+
+    @Test
+    @DisplayName("Evento com lease vencido é reivindicado por uma só varredura")
+    void expiredLeaseIsClaimedOnce() {
+        dispatcher.stop();
+        try {
+            claimOnce();
+        } finally {
+            dispatcher.start();
+        }
+    }
+
+    /** Runs with the dispatcher stopped, so its own sweeps cannot take the row first. */
+    private void claimOnce() {
+        UserId userId = new UserId(UUID.randomUUID());
+        var row = outbox.save(OutboxEventEntity.builder()
+                .aggregate(DomainEvent.Aggregate.TASK.name())
+                .aggregateId(UUID.randomUUID().toString())
+                .type(DomainEvent.Type.CREATED.name())
+                .userId(userId.toString())
+                .occurredAt(Instant.now())
+                .payload(Jsons.toJsonString(Task.builder().title("Perdido").userId(userId).build()))
+                .pending(",recordingConsumer,")
+                .leasedUntil(Instant.now().minusSeconds(1))
+                .build());
+
+        assertThat(port.claim(1000)).extracting(DomainEvent::getSequence).contains(row.getId());
+        assertThat(port.claim(1000)).extracting(DomainEvent::getSequence).doesNotContain(row.getId());
+
+        port.delete(List.of(row.getId()));
+    }
+}
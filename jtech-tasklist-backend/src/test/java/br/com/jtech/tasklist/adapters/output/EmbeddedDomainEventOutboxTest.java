@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.adapters.output;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/** The same service flows, with tasks and lists in the embedded store instead of JPA. */
+@ActiveProfiles({"embedded", "test"})
+class EmbeddedDomainEventOutboxTest extends DomainEventOutboxTest {
+
+    @DynamicPropertySource
+    static void storeDir(DynamicPropertyRegistry registry) throws IOException {
+        var dir = Files.createTempDirectory("tasklist-embedded-events");
+        registry.add("tasklist.embedded.dir", dir::toString);
+        registry.add("tasklist.embedded.sync", () -> "false");
+    }
+}
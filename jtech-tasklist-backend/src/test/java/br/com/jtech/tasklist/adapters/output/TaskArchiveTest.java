@@ -0,0 +1,123 @@
+package br.com.jtech.tasklist.adapters.output;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.TitleSuggestionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = StartTasklist.class)
+@ActiveProfiles("test")
+class TaskArchiveTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private TitleSuggestionService titleSuggestions;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("Tarefas concluídas antigas vão para o arquivo e saem das consultas padrão")
+    void archivesOldCompletedTasks() {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Arquivo").build());
+        Task old = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Antiga").completed(true).build());
+        Task recent = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Recente").completed(true).build());
+        Task open = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Aberta").build());
+        jdbc.update("update tasks set completed_at = ? where id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(120))), old.getId().value());
+
+        int archived = taskService.archiveCompleted(Instant.now().minus(Duration.ofDays(90)), 10);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(taskService.getById(old.getId(), userId)).isEmpty();
+        assertThat(taskService.getById(old.getId(), userId, true)).get()
+                .extracting(Task::getTitle, Task::isCompleted).containsExactly("Antiga", true);
+        var query = TaskQuery.builder().userId(userId).listId(list.getId());
+        assertThat(taskService.search(query.build())).extracting(Task::getId)
+                .containsExactlyInAnyOrder(recent.getId(), open.getId());
+        assertThat(taskService.search(query.includeArchived(true).build())).extracting(Task::getId)
+                .containsExactlyInAnyOrder(old.getId(), recent.getId(), open.getId());
+        assertThat(taskListService.getSummaries(userId)).singleElement()
+                .extracting(TaskListSummary::getTotal, TaskListSummary::getCompleted).containsExactly(2L, 1L);
+        assertThat(taskListService.reconcileCounters()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pesquisa com campos, ordenação e arquivadas ordena pela coluna mesmo fora dos campos")
+    void searchWithFieldsSortsArchivedAndLiveTogether() {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Campos").build());
+        Task a = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("A antiga").completed(true).build());
+        Task b = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("B atual").build());
+        Task c = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("C antiga").completed(true).build());
+        taskService.create(Task.builder().userId(userId).listId(list.getId()).title("D atual").build());
+        jdbc.update("update tasks set completed_at = ? where list_id = ? and completed = true",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(120))), list.getId().value());
+        taskService.archiveCompleted(Instant.now().minus(Duration.ofDays(90)), 1000);
+
+        var result = taskService.search(TaskQuery.builder().userId(userId).listId(list.getId())
+                .sortField(TaskQuery.SortField.TITLE).fields(EnumSet.of(TaskQuery.Field.ID))
+                .limit(3).includeArchived(true).build());
+
+        assertThat(result).extracting(Task::getId).containsExactly(a.getId(), b.getId(), c.getId());
+        assertThat(result).extracting(Task::getTitle).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Tarefa reaberta perde a data de conclusão e não é arquivada")
+    void reopenedTaskIsNotArchived() {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Reaberta").build());
+        Task task = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Ida e volta").completed(true).build());
+
+        taskService.toggleCompleted(task.getId(), false, userId);
+
+        assertThat(jdbc.queryForObject("select completed_at from tasks where id = ?", Timestamp.class,
+                task.getId().value())).isNull();
+        assertThat(taskService.archiveCompleted(Instant.now().plusSeconds(60), 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("Tarefa arquivada sai das sugestões de título pelo evento de arquivamento")
+    void archivedTaskLeavesSuggestions() throws InterruptedException {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Sugestões").build());
+        Task task = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Arquivar notas").completed(true).build());
+        jdbc.update("update tasks set completed_at = ? where id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(120))), task.getId().value());
+        assertThat(titleSuggestions.suggest(userId, "arq", null, 10)).isNotEmpty();
+
+        assertThat(taskService.archiveCompleted(Instant.now().minus(Duration.ofDays(90)), 10)).isPositive();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!titleSuggestions.suggest(userId, "arq", null, 10).isEmpty()) {
+            assertThat(System.nanoTime()).as("evento de arquivamento aplicado a tempo").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.jtech.tasklist.adapters.output.embedded;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.UserService;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.exceptions.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = StartTasklist.class)
+@ActiveProfiles({"embedded", "test"})
+class EmbeddedStoreTest {
+
+    private static Path dir;
+
+    @DynamicPropertySource
+    static void storeDir(DynamicPropertyRegistry registry) throws IOException {
+        dir = Files.createTempDirectory("tasklist-embedded");
+        registry.add("tasklist.embedded.dir", dir::toString);
+        registry.add("tasklist.embedded.sync", () -> "false");
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepositoryPort repository;
+
+    private EmbeddedStore reopen() {
+        var store = new EmbeddedStore(dir, DataSize.ofMegabytes(64), false);
+        store.recover();
+        return store;
+    }
+
+    @Test
+    @DisplayName("Perfil embedded troca os repositórios JPA pelo armazenamento em log")
+    void usesEmbeddedAdapters() {
+        assertThat(AopProxyUtils.ultimateTargetClass(repository)).isEqualTo(EmbeddedTaskRepository.class);
+    }
+
+    @Test
+    @DisplayName("Usuários são gravados no log e o email continua único")
+    void usersAreUniqueByEmail() {
+        User user = userService.create(new UserDto("Ana", "ana@embedded.com", "segredo"));
+
+        assertThat(userService.login("ana@embedded.com", "segredo").getId()).isEqualTo(user.getId());
+        assertThatThrownBy(() -> userService.create(new UserDto("Outra", "ana@embedded.com", "x")))
+                .isInstanceOf(BusinessException.class);
+        Optional<User> recovered = reopen().read(view -> view.userByEmail("ana@embedded.com"));
+        assertThat(recovered).get().extracting(User::getId).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("Fluxo de listas e tarefas usa os índices e sobrevive à reabertura")
+    void tasksAndListsFlow() {
+        UserId userId = new UserId(UUID.randomUUID());
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Mercado").build());
+        Task bread = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Pão").dueDate(yesterday).build());
+        Task milk = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Leite").build());
+        Task eggs = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Ovos").build());
+
+        assertThatThrownBy(() -> taskListService.create(TaskList.builder().userId(userId).name("Mercado").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Pão").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        taskService.toggleCompleted(milk.getId(), true, userId);
+        taskService.delete(eggs.getId(), userId);
+
+        assertThat(taskService.search(TaskQuery.builder().userId(userId).sortField(TaskQuery.SortField.TITLE).build()))
+                .extracting(Task::getTitle).containsExactly("Leite", "Pão");
+        assertThat(taskService.search(TaskQuery.builder().userId(userId).titlePrefix("pã").build()))
+                .extracting(Task::getId).containsExactly(bread.getId());
+        assertThat(taskListService.getSummaries(userId)).singleElement()
+                .extracting(TaskListSummary::getTotal, TaskListSummary::getCompleted, TaskListSummary::getOverdue)
+                .containsExactly(2L, 1L, 1L);
+        assertThat(repository.findFirstPageOfEachList(userId, 1)).extracting(Task::getId).containsExactly(bread.getId());
+        assertThatThrownBy(() -> taskListService.delete(list.getId(), userId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        var reopened = reopen();
+        List<Task> tasks = reopened.read(view -> view.tasksOfUser(userId));
+        boolean eggsTitled = reopened.read(view -> view.titleExists(list.getId(), "Ovos"));
+        List<TaskList> lists = reopened.read(view -> view.listsOfUser(userId));
+        assertThat(tasks)
+                .extracting(Task::getTitle, Task::isCompleted)
+                .containsExactly(tuple("Pão", false), tuple("Leite", true));
+        assertThat(eggsTitled).isFalse();
+        assertThat(lists).extracting(TaskList::getName).containsExactly("Mercado");
+    }
+
+    @Test
+    @DisplayName("Log cheio rotaciona e grava o snapshot fora do lock sem perder escritas")
+    void fullLogRotatesAndSnapshots() throws IOException {
+        Path own = Files.createTempDirectory("tasklist-embedded-rotation");
+        var store = new EmbeddedStore(own, DataSize.ofKilobytes(4), false);
+        store.recover();
+        UserId userId = new UserId(UUID.randomUUID());
+        ListId listId = new ListId(UUID.randomUUID());
+        store.write(List.of(EmbeddedStore.Entry.put(TaskList.builder().id(listId).userId(userId).name("Cheia").build())));
+        for (int i = 0; i < 100; i++) {
+            store.write(List.of(EmbeddedStore.Entry.put(Task.builder().id(new TaskId(UUID.randomUUID()))
+                    .userId(userId).listId(listId).title("Tarefa " + i).build())));
+        }
+        store.snapshot();
+        store.write(List.of(EmbeddedStore.Entry.put(Task.builder().id(new TaskId(UUID.randomUUID()))
+                .userId(userId).listId(listId).title("Depois").build())));
+        store.close();
+
+        var reopened = new EmbeddedStore(own, DataSize.ofKilobytes(4), false);
+        reopened.recover();
+        List<Task> tasks = reopened.read(view -> view.tasksOfList(listId));
+        assertThat(tasks).hasSize(101);
+        try (var files = Files.list(own.resolve("store"))) {
+            assertThat(files.filter(p -> p.getFileName().toString().startsWith("snapshot-"))).hasSize(1);
+        }
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Conclusão em lote concorrente com exclusão não ressuscita a tarefa")
+    void updateCompletedDoesNotReviveDeletedTasks() throws Exception {
+        Path own = Files.createTempDirectory("tasklist-embedded-race");
+        var store = new EmbeddedStore(own, DataSize.ofMegabytes(4), false);
+        store.recover();
+        var tasks = new EmbeddedTaskRepository(store);
+        UserId userId = new UserId(UUID.randomUUID());
+        ListId listId = new ListId(UUID.randomUUID());
+        for (int round = 0; round < 50; round++) {
+            List<TaskId> ids = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ids.add(tasks.save(Task.builder().userId(userId).listId(listId).title(round + "-" + i).build()).getId());
+            }
+            var start = new CountDownLatch(1);
+            try (var executor = Executors.newFixedThreadPool(2)) {
+                executor.submit(() -> {
+                    start.await();
+                    return tasks.updateCompleted(ids, true);
+                });
+                executor.submit(() -> {
+                    start.await();
+                    ids.forEach(tasks::deleteById);
+                    return null;
+                });
+                start.countDown();
+            }
+            assertThat(tasks.findAllByListId(listId)).isEmpty();
+        }
+        store.close();
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = StartTasklist.class)
+@ActiveProfiles({"memory", "test"})
+class InMemoryProfileTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private TaskRepositoryPort repository;
+
+    @Test
+    @DisplayName("Perfil memory atende os serviços sem os repositórios JPA")
+    void servicesRunOnMemoryAdapters() {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Mercado").build());
+        Task bread = taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Pão").build());
+        taskService.create(Task.builder().userId(userId).listId(list.getId()).title("Leite").completed(true).build());
+
+        assertThatThrownBy(() -> taskListService.create(TaskList.builder().userId(userId).name("Mercado").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(AopProxyUtils.ultimateTargetClass(repository)).isEqualTo(InMemoryTaskRepository.class);
+        assertThat(taskService.getByList(list.getId(), userId)).extracting(Task::getTitle).containsExactly("Pão", "Leite");
+
+        taskService.toggleCompleted(bread.getId(), true, userId);
+
+        assertThat(taskListService.getSummaries(userId)).singleElement()
+                .extracting(TaskListSummary::getTotal, TaskListSummary::getCompleted).containsExactly(2L, 2L);
+    }
+}
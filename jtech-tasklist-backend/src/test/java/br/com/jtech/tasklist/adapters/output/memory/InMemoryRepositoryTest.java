@@ -0,0 +1,124 @@
+package br.com.jtech.tasklist.adapters.output.memory;
+
+import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class InMemoryRepositoryTest {
+
+    private final InMemoryStore store = new InMemoryStore(4);
+    private final InMemoryTaskRepository tasks = new InMemoryTaskRepository(store);
+    private final InMemoryTaskListRepository lists = new InMemoryTaskListRepository(store);
+    private final InMemoryUserRepository users = new InMemoryUserRepository(store);
+
+    private Task task(UserId userId, ListId listId, String title) {
+        return Task.builder().userId(userId).listId(listId).title(title).build();
+    }
+
+    @Test
+    @DisplayName("Índices por usuário e por lista acompanham gravação, mudança de lista e exclusão")
+    void indexesFollowWrites() {
+        UserId userId = new UserId(UUID.randomUUID());
+        TaskList home = lists.save(TaskList.builder().userId(userId).name("Casa").build());
+        TaskList work = lists.save(TaskList.builder().userId(userId).name("Trabalho").build());
+        Task sweep = tasks.save(task(userId, home.getId(), "Varrer"));
+        Task report = tasks.save(task(userId, home.getId(), "Relatório"));
+
+        report.setListId(work.getId());
+        report.setDueDate(LocalDate.of(2025, 3, 14));
+        tasks.update(report);
+        tasks.updateCompleted(List.of(sweep.getId()), true);
+
+        assertThat(tasks.findAllByListId(home.getId())).extracting(Task::getTitle).containsExactly("Varrer");
+        assertThat(tasks.findAllByListId(work.getId())).singleElement()
+                .extracting(Task::getDueDate).isEqualTo(LocalDate.of(2025, 3, 14));
+        assertThat(tasks.findById(sweep.getId())).get().extracting(Task::isCompleted).isEqualTo(true);
+        assertThat(tasks.existsByTitleAndListId("Relatório", work.getId())).isTrue();
+        assertThat(tasks.existsByTitleAndListId("Relatório", home.getId())).isFalse();
+        assertThat(tasks.findAll(TaskQuery.builder().userId(userId).titlePrefix("va").build()))
+                .extracting(Task::getId).containsExactly(sweep.getId());
+
+        tasks.deleteById(sweep.getId());
+
+        assertThat(tasks.existsByListId(home.getId())).isFalse();
+        assertThat(tasks.findAllByUserId(userId)).extracting(Task::getId).containsExactly(report.getId());
+        assertThat(lists.findSummariesByUserId(userId, LocalDate.of(2025, 4, 1)))
+                .extracting(TaskListSummary::getName, TaskListSummary::getTotal, TaskListSummary::getOverdue)
+                .containsExactly(tuple("Casa", 0L, 0L),
+                        tuple("Trabalho", 1L, 1L));
+    }
+
+    @Test
+    @DisplayName("Nome de lista repetido falha o lote inteiro")
+    void duplicateListNameFailsBatch() {
+        UserId userId = new UserId(UUID.randomUUID());
+        UserId otherId = new UserId(UUID.randomUUID());
+        lists.save(TaskList.builder().userId(userId).name("Casa").build());
+
+        assertThatThrownBy(() -> lists.saveAll(List.of(
+                TaskList.builder().userId(otherId).name("Casa").build(),
+                TaskList.builder().userId(userId).name("Casa").build())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(lists.findAllByUserId(otherId)).isEmpty();
+        assertThat(lists.saveAll(List.of(TaskList.builder().userId(otherId).name("Casa").build()))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Email repetido é recusado e o usuário é encontrado por email e id")
+    void usersByEmail() {
+        User user = users.save(new UserDto("Ana", "ana@memory.com", "segredo"));
+
+        assertThatThrownBy(() -> users.save(new UserDto("Outra", "ana@memory.com", "x")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(users.findByEmail("ana@memory.com")).get().extracting(User::getId).isEqualTo(user.getId());
+        assertThat(users.findById(user.getId())).get().extracting(User::getName).isEqualTo("Ana");
+    }
+
+    @Test
+    @DisplayName("Gravações concorrentes de vários usuários não se perdem")
+    void concurrentWriters() throws Exception {
+        List<Future<UserId>> owners = new ArrayList<>();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int u = 0; u < 16; u++) {
+                owners.add(executor.submit(() -> {
+                    UserId userId = new UserId(UUID.randomUUID());
+                    ListId listId = lists.save(TaskList.builder().userId(userId).name("Lista").build()).getId();
+                    for (int i = 0; i < 200; i++) {
+                        Task saved = tasks.save(task(userId, listId, "T" + i));
+                        if (i % 2 == 0) {
+                            tasks.deleteById(saved.getId());
+                        }
+                        tasks.findAllByUserId(userId);
+                    }
+                    return userId;
+                }));
+            }
+        }
+
+        for (Future<UserId> owner : owners) {
+            assertThat(tasks.findAllByUserId(owner.get())).hasSize(100);
+        }
+        assertThat(tasks.findAll()).hasSize(1600);
+        assertThat(lists.findAll()).hasSize(16);
+    }
+}
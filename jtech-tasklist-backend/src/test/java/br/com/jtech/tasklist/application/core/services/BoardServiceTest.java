@@ -0,0 +1,110 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import br.com.jtech.tasklist.application.core.domains.BoardList;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardServiceTest {
+
+    private static final TaskId TASK_1 = new TaskId(new UUID(0, 1));
+    private static final TaskId TASK_2 = new TaskId(new UUID(0, 2));
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+    private static final ListId LIST_2 = new ListId(new UUID(2, 2));
+
+    @Mock
+    private TaskListRepositoryPort taskListRepository;
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskCompletionWriteBehind writeBehind;
+
+    private BoardService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BoardService(taskListRepository, taskRepository, task -> task, writeBehind);
+    }
+
+    private TaskListSummary summary(ListId listId) {
+        return TaskListSummary.builder().listId(listId).name(listId.toString()).total(2).build();
+    }
+
+    @Test
+    @DisplayName("Quadro agrupa a primeira página de tarefas em cada lista")
+    void boardGroupsTasksByList() {
+        Task first = Task.builder().id(TASK_1).listId(LIST_1).build();
+        Task second = Task.builder().id(TASK_2).listId(LIST_1).build();
+        when(taskListRepository.findSummariesByUserId(eq(USER_1), any())).thenReturn(List.of(summary(LIST_1), summary(LIST_2)));
+        when(taskRepository.findFirstPageOfEachList(USER_1, 20)).thenReturn(List.of(first, second));
+
+        List<BoardList> board = service.getBoard(USER_1, 20);
+
+        assertThat(board).containsExactly(new BoardList(summary(LIST_1), List.of(first, second)),
+                new BoardList(summary(LIST_2), List.of()));
+    }
+
+    @Test
+    @DisplayName("Quadro consulta listas e tarefas em paralelo")
+    void boardReadsConcurrently() {
+        var bothStarted = new CountDownLatch(2);
+        when(taskListRepository.findSummariesByUserId(eq(USER_1), any())).thenAnswer(inv -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of(summary(LIST_1));
+        });
+        when(taskRepository.findFirstPageOfEachList(USER_1, 5)).thenAnswer(inv -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of();
+        });
+
+        assertThat(service.getBoard(USER_1, 5)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Falha de uma consulta do quadro é repassada ao chamador")
+    void boardPropagatesFailure() {
+        when(taskListRepository.findSummariesByUserId(eq(USER_1), any())).thenThrow(new IllegalArgumentException("falhou"));
+        lenient().when(taskRepository.findFirstPageOfEachList(USER_1, 5)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.getBoard(USER_1, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("falhou");
+    }
+
+    @Test
+    @DisplayName("Quadro com tarefas por lista fora do intervalo lança exceção")
+    void boardInvalidPageSize() {
+        assertThatThrownBy(() -> service.getBoard(USER_1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getBoard(USER_1, BoardService.MAX_TASKS_PER_LIST + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskListRepository, taskRepository);
+    }
+}
@@ -1,12 +1,15 @@
 package br.com.jtech.tasklist.application.core.services;
 
 import br.com.jtech.tasklist.application.core.domains.RefreshToken;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.core.repositories.RefreshTokenRepository;
+import br.com.jtech.tasklist.config.infra.sharding.ShardRouter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -24,6 +27,9 @@ class RefreshTokenServiceTest {
     @Mock
     private RefreshTokenRepository repository;
 
+    @Spy
+    private ShardRouter shards = ShardRouter.single();
+
     @InjectMocks
     private RefreshTokenService service;
 
@@ -31,11 +37,11 @@ class RefreshTokenServiceTest {
     @DisplayName("Criar refresh token retorna token válido")
     void createRefreshToken() {
         ReflectionTestUtils.setField(service, "refreshExpiration", 604800000L);
-        String userId = UUID.randomUUID().toString();
+        UserId userId = new UserId(UUID.randomUUID());
         RefreshToken savedToken = RefreshToken.builder()
                 .id(UUID.randomUUID())
                 .token("token123")
-                .userId(UUID.fromString(userId))
+                .userId(userId.value())
                 .expiresAt(Instant.now().plusMillis(604800000L))
                 .revoked(false)
                 .build();
@@ -0,0 +1,225 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.storage.AppendOnlyLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCompletionWriteBehindTest {
+
+    private static final TaskId TASK_1 = new TaskId(new UUID(0, 1));
+    private static final TaskId TASK_2 = new TaskId(new UUID(0, 2));
+    private static final TaskId TASK_3 = new TaskId(new UUID(0, 3));
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_2 = new UserId(new UUID(1, 2));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+    private static final ListId LIST_2 = new ListId(new UUID(2, 2));
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskListRepositoryPort taskListRepository;
+
+    @Mock
+    private DomainEventOutboxPort events;
+
+    @TempDir
+    private Path dir;
+
+    private TaskCompletionWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = restart(1 << 16);
+    }
+
+    /** A fresh instance over the journal left by the previous one, as after a crash. */
+    private TaskCompletionWriteBehind restart(int logSize) {
+        var restarted = new TaskCompletionWriteBehind(taskRepository, taskListRepository, events,
+                TransactionOperations.withoutTransaction(), true, new AppendOnlyLog(dir, logSize, false));
+        restarted.recover();
+        return restarted;
+    }
+
+    private Task task(TaskId id, ListId listId, boolean completed) {
+        return Task.builder().id(id).userId(USER_1).listId(listId).title(id.toString()).completed(completed).build();
+    }
+
+    private Task toggle(TaskId id, boolean completed, Task stored) {
+        return writeBehind.toggle(id, completed, USER_1, () -> stored);
+    }
+
+    @Test
+    @DisplayName("Toggle é respondido ao ser enfileirado, antes da gravação")
+    void toggleIsAnsweredWhenQueued() {
+        when(taskRepository.updateCompleted(List.of(TASK_1), true)).thenReturn(List.of(TASK_1));
+
+        assertThat(toggle(TASK_1, true, task(TASK_1, LIST_1, false)).isCompleted()).isTrue();
+
+        verifyNoInteractions(taskRepository, taskListRepository);
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+        assertThat(writeBehind.flushAll()).containsExactly(USER_1);
+
+        verify(taskListRepository).incrementCounters(LIST_1, 0, 1);
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Tarefa é carregada fora da trava e relida se a fila foi descarregada")
+    void loaderRunsOutsideTheQueueLock() {
+        var loads = new AtomicInteger();
+        Supplier<Task> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                CompletableFuture.runAsync(() -> writeBehind.flush(USER_1)).orTimeout(5, TimeUnit.SECONDS).join();
+            }
+            return task(TASK_1, LIST_1, false);
+        };
+
+        Task result = writeBehind.toggle(TASK_1, true, USER_1, loader);
+
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(loads).hasValue(2);
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Toggles repetidos carregam a tarefa uma vez e prevalece o último")
+    void togglesCoalesce() {
+        var loads = new AtomicInteger();
+        Supplier<Task> loader = () -> {
+            loads.incrementAndGet();
+            return task(TASK_1, LIST_1, false);
+        };
+        when(taskRepository.updateCompleted(List.of(TASK_1), true)).thenReturn(List.of(TASK_1));
+
+        assertThat(writeBehind.toggle(TASK_1, true, USER_1, loader).isCompleted()).isTrue();
+        assertThat(writeBehind.toggle(TASK_1, false, USER_1, loader).isCompleted()).isFalse();
+        Task third = writeBehind.toggle(TASK_1, true, USER_1, loader);
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+        writeBehind.flush(USER_1);
+
+        assertThat(third.isCompleted()).isTrue();
+        assertThat(third.getTitle()).isEqualTo(TASK_1.toString());
+        assertThat(loads).hasValue(1);
+        verify(taskRepository).updateCompleted(List.of(TASK_1), true);
+    }
+
+    @Test
+    @DisplayName("Descarga agrupa atualizações e ajusta contadores por lista")
+    void flushBatchesUpdates() {
+        toggle(TASK_1, true, task(TASK_1, LIST_1, false));
+        toggle(TASK_2, true, task(TASK_2, LIST_1, false));
+        toggle(TASK_3, false, task(TASK_3, LIST_2, true));
+        when(taskRepository.updateCompleted(List.of(TASK_1, TASK_2), true)).thenReturn(List.of(TASK_1, TASK_2));
+        when(taskRepository.updateCompleted(List.of(TASK_3), false)).thenReturn(List.of(TASK_3));
+
+        assertThat(writeBehind.flush(USER_1)).isTrue();
+
+        verify(taskListRepository).incrementCounters(LIST_1, 0, 2);
+        verify(taskListRepository).incrementCounters(LIST_2, 0, -1);
+        verify(events).append(argThat(appended -> appended.size() == 3
+                && appended.stream().allMatch(e -> e.getType() == DomainEvent.Type.COMPLETION_CHANGED)));
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Toggle desfeito antes da descarga não gera escrita")
+    void revertedToggleIsNotWritten() {
+        toggle(TASK_1, true, task(TASK_1, LIST_1, false));
+        toggle(TASK_1, false, task(TASK_1, LIST_1, false));
+
+        assertThat(writeBehind.flush(USER_1)).isFalse();
+        assertThat(writeBehind.flush(USER_2)).isFalse();
+
+        verifyNoInteractions(taskRepository, taskListRepository);
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Falha na descarga mantém os toggles para a próxima")
+    void failedFlushKeepsToggles() {
+        toggle(TASK_1, true, task(TASK_1, LIST_1, false));
+        when(taskRepository.updateCompleted(List.of(TASK_1), true))
+                .thenThrow(new IllegalStateException("down"), new IllegalStateException("down"))
+                .thenReturn(List.of(TASK_1));
+
+        assertThat(writeBehind.flushAll()).isEmpty();
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+        assertThatThrownBy(() -> writeBehind.flush(USER_1)).hasMessageContaining("down");
+        verifyNoInteractions(taskListRepository);
+
+        assertThat(writeBehind.flushAll()).containsExactly(USER_1);
+        verify(taskListRepository).incrementCounters(LIST_1, 0, 1);
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Tarefa arquivada ou alterada por outro caminho não volta a mexer nos contadores")
+    void unchangedRowsAreNotCounted() {
+        toggle(TASK_1, false, task(TASK_1, LIST_1, true));
+        toggle(TASK_2, false, task(TASK_2, LIST_1, true));
+        when(taskRepository.updateCompleted(List.of(TASK_1, TASK_2), false)).thenReturn(List.of(TASK_2));
+
+        assertThat(writeBehind.flush(USER_1)).isTrue();
+
+        verify(taskListRepository).incrementCounters(LIST_1, 0, -1);
+        verify(events).append(argThat(appended -> appended.size() == 1 && appended.get(0).getAggregateId().equals(TASK_2.toString())));
+    }
+
+    @Test
+    @DisplayName("Toggles respondidos e não gravados voltam à fila após reinício")
+    void answeredTogglesSurviveRestart() {
+        writeBehind = restart(2048);
+        for (int i = 0; i < 20; i++) {
+            toggle(TASK_1, i % 2 == 0, task(TASK_1, LIST_1, false));
+            toggle(TASK_2, true, task(TASK_2, LIST_1, false));
+        }
+        toggle(TASK_3, true, task(TASK_3, LIST_2, false));
+        when(taskRepository.updateCompleted(List.of(TASK_2, TASK_3), true)).thenReturn(List.of(TASK_2, TASK_3));
+        writeBehind.flush(USER_1);
+        toggle(TASK_1, true, task(TASK_1, LIST_1, false));
+        toggle(TASK_2, true, task(TASK_2, LIST_1, false));
+
+        writeBehind = restart(2048);
+
+        assertThat(writeBehind.pendingCount()).isEqualTo(2);
+        when(taskRepository.updateCompleted(List.of(TASK_1, TASK_2), true)).thenReturn(List.of(TASK_1, TASK_2));
+        assertThat(writeBehind.flushAll()).containsExactly(USER_1);
+        verify(taskRepository).updateCompleted(List.of(TASK_1, TASK_2), true);
+        verify(taskListRepository).incrementCounters(LIST_1, 0, 2);
+        verify(events, times(2)).append(argThat(appended -> appended.size() == 2
+                && appended.stream().allMatch(e -> ((Task) e.getPayload()).getTitle() != null)));
+
+        assertThat(restart(2048).pendingCount()).isZero();
+    }
+}
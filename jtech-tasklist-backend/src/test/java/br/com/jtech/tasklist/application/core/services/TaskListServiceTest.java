@@ -1,6 +1,12 @@
 package br.com.jtech.tasklist.application.core.services;
 
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.TaskListSummary;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.input.CreateTasklistInputGateway;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
 import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +16,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -20,46 +28,63 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class TaskListServiceTest {
 
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_2 = new UserId(new UUID(1, 2));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+    private static final ListId LIST_999 = new ListId(new UUID(2, 999));
+
     @Mock
     private TaskListRepositoryPort repository;
 
     @Mock
     private TaskRepositoryPort taskRepository;
 
+    @Mock
+    private TaskCompletionWriteBehind writeBehind;
+
+    @Mock
+    private CreateTasklistInputGateway createTasklist;
+
+    @Mock
+    private DomainEventOutboxPort events;
+
+    @Mock
+    private TaskArchivePort archive;
+
     @InjectMocks
     private TaskListService service;
 
     @Test
     @DisplayName("Criar lista retorna lista salva")
     void createTaskList() {
-        TaskList taskList = TaskList.builder().name("Lista").userId("user1").build();
-        when(repository.save(taskList)).thenReturn(taskList);
+        TaskList taskList = TaskList.builder().name("Lista").userId(USER_1).build();
+        when(createTasklist.create(taskList)).thenReturn(taskList);
 
         TaskList result = service.create(taskList);
 
         assertThat(result).isEqualTo(taskList);
-        verify(repository).save(taskList);
+        verify(createTasklist).create(taskList);
     }
 
     @Test
     @DisplayName("Buscar lista por ID com usuário correto retorna lista")
     void getByIdAuthorized() {
-        TaskList taskList = TaskList.builder().id("1").userId("user1").build();
-        when(repository.findById("1")).thenReturn(Optional.of(taskList));
+        TaskList taskList = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(taskList));
 
-        Optional<TaskList> result = service.getById("1", "user1");
+        Optional<TaskList> result = service.getById(LIST_1, USER_1);
 
         assertThat(result).isPresent();
-        assertThat(result.get().getId()).isEqualTo("1");
+        assertThat(result.get().getId()).isEqualTo(LIST_1);
     }
 
     @Test
     @DisplayName("Buscar lista por ID com usuário incorreto lança exceção")
     void getByIdUnauthorized() {
-        TaskList taskList = TaskList.builder().id("1").userId("user1").build();
-        when(repository.findById("1")).thenReturn(Optional.of(taskList));
+        TaskList taskList = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(taskList));
 
-        assertThatThrownBy(() -> service.getById("1", "user2"))
+        assertThatThrownBy(() -> service.getById(LIST_1, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para acessar esta lista.");
     }
@@ -67,9 +92,9 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Buscar lista inexistente retorna vazio")
     void getByIdNotFound() {
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        when(repository.findById(LIST_999)).thenReturn(Optional.empty());
 
-        Optional<TaskList> result = service.getById("999", "user1");
+        Optional<TaskList> result = service.getById(LIST_999, USER_1);
 
         assertThat(result).isEmpty();
     }
@@ -77,19 +102,19 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Buscar listas por usuário retorna lista")
     void getByUser() {
-        List<TaskList> lists = List.of(TaskList.builder().id("1").userId("user1").build());
-        when(repository.findAllByUserId("user1")).thenReturn(lists);
+        List<TaskList> lists = List.of(TaskList.builder().id(LIST_1).userId(USER_1).build());
+        when(repository.findAllByUserId(USER_1)).thenReturn(lists);
 
-        List<TaskList> result = service.getByUser("user1");
+        List<TaskList> result = service.getByUser(USER_1);
 
         assertThat(result).hasSize(1);
-        verify(repository).findAllByUserId("user1");
+        verify(repository).findAllByUserId(USER_1);
     }
 
     @Test
     @DisplayName("Buscar todas as listas retorna todas")
     void getAll() {
-        List<TaskList> lists = List.of(TaskList.builder().id("1").build());
+        List<TaskList> lists = List.of(TaskList.builder().id(LIST_1).build());
         when(repository.findAll()).thenReturn(lists);
 
         List<TaskList> result = service.getAll();
@@ -101,21 +126,22 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Deletar lista autorizada sem tarefas vinculadas")
     void deleteAuthorized() {
-        TaskList taskList = TaskList.builder().id("1").userId("user1").build();
-        when(repository.findById("1")).thenReturn(Optional.of(taskList));
-        when(taskRepository.existsByListId("1")).thenReturn(false);
+        TaskList taskList = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(taskList));
+        when(taskRepository.existsByListId(LIST_1)).thenReturn(false);
 
-        service.delete("1", "user1");
+        service.delete(LIST_1, USER_1);
 
-        verify(repository).deleteById("1");
+        verify(archive).deleteAllByListId(LIST_1);
+        verify(repository).deleteById(LIST_1);
     }
 
     @Test
     @DisplayName("Deletar lista inexistente lança exceção")
     void deleteNotFound() {
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        when(repository.findById(LIST_999)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.delete("999", "user1"))
+        assertThatThrownBy(() -> service.delete(LIST_999, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Lista não encontrada.");
     }
@@ -123,10 +149,10 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Deletar lista não autorizada lança exceção")
     void deleteUnauthorized() {
-        TaskList taskList = TaskList.builder().id("1").userId("user1").build();
-        when(repository.findById("1")).thenReturn(Optional.of(taskList));
+        TaskList taskList = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(taskList));
 
-        assertThatThrownBy(() -> service.delete("1", "user2"))
+        assertThatThrownBy(() -> service.delete(LIST_1, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para excluir esta lista.");
     }
@@ -134,11 +160,11 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Deletar lista com tarefas vinculadas lança exceção")
     void deleteWithTasks() {
-        TaskList taskList = TaskList.builder().id("1").userId("user1").build();
-        when(repository.findById("1")).thenReturn(Optional.of(taskList));
-        when(taskRepository.existsByListId("1")).thenReturn(true);
+        TaskList taskList = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(taskList));
+        when(taskRepository.existsByListId(LIST_1)).thenReturn(true);
 
-        assertThatThrownBy(() -> service.delete("1", "user1"))
+        assertThatThrownBy(() -> service.delete(LIST_1, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Existem tarefas vinculadas a esta lista. Exclua as tarefas antes de excluir a lista.");
     }
@@ -146,12 +172,12 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Atualizar lista autorizada retorna lista atualizada")
     void updateAuthorized() {
-        TaskList existing = TaskList.builder().id("1").userId("user1").name("Old").build();
-        TaskList updated = TaskList.builder().id("1").userId("user1").name("New").build();
-        when(repository.findById("1")).thenReturn(Optional.of(existing));
+        TaskList existing = TaskList.builder().id(LIST_1).userId(USER_1).name("Old").build();
+        TaskList updated = TaskList.builder().id(LIST_1).userId(USER_1).name("New").build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(existing));
         when(repository.update(updated)).thenReturn(updated);
 
-        TaskList result = service.update(updated, "user1");
+        TaskList result = service.update(updated, USER_1);
 
         assertThat(result.getName()).isEqualTo("New");
         verify(repository).update(updated);
@@ -160,10 +186,10 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Atualizar lista inexistente lança exceção")
     void updateNotFound() {
-        TaskList taskList = TaskList.builder().id("999").build();
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        TaskList taskList = TaskList.builder().id(LIST_999).build();
+        when(repository.findById(LIST_999)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.update(taskList, "user1"))
+        assertThatThrownBy(() -> service.update(taskList, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Lista não encontrada.");
     }
@@ -171,12 +197,33 @@ class TaskListServiceTest {
     @Test
     @DisplayName("Atualizar lista não autorizada lança exceção")
     void updateUnauthorized() {
-        TaskList existing = TaskList.builder().id("1").userId("user1").build();
-        TaskList updated = TaskList.builder().id("1").userId("user1").build();
-        when(repository.findById("1")).thenReturn(Optional.of(existing));
+        TaskList existing = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        TaskList updated = TaskList.builder().id(LIST_1).userId(USER_1).build();
+        when(repository.findById(LIST_1)).thenReturn(Optional.of(existing));
 
-        assertThatThrownBy(() -> service.update(updated, "user2"))
+        assertThatThrownBy(() -> service.update(updated, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para atualizar esta lista.");
     }
+
+    @Test
+    @DisplayName("Resumo das listas usa contadores do repositório")
+    void getSummaries() {
+        List<TaskListSummary> summaries = List.of(TaskListSummary.builder().listId(LIST_1).name("Lista").total(3).completed(1).overdue(1).build());
+        when(repository.findSummariesByUserId(eq(USER_1), any(LocalDate.class))).thenReturn(summaries);
+
+        List<TaskListSummary> result = service.getSummaries(USER_1);
+
+        assertThat(result).isEqualTo(summaries);
+        verify(repository).findSummariesByUserId(USER_1, LocalDate.now());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Reconciliar contadores retorna quantidade de listas corrigidas")
+    void reconcileCounters() {
+        when(repository.reconcileCounters()).thenReturn(2);
+
+        assertThat(service.reconcileCounters()).isEqualTo(2);
+    }
 }
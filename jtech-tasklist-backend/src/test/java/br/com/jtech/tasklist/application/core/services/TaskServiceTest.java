@@ -1,6 +1,14 @@
 package br.com.jtech.tasklist.application.core.services;
 
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskQuery;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,40 +17,73 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
 
+    private static final TaskId TASK_1 = new TaskId(new UUID(0, 1));
+    private static final TaskId TASK_2 = new TaskId(new UUID(0, 2));
+    private static final TaskId TASK_3 = new TaskId(new UUID(0, 3));
+    private static final TaskId TASK_999 = new TaskId(new UUID(0, 999));
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_2 = new UserId(new UUID(1, 2));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+    private static final ListId LIST_2 = new ListId(new UUID(2, 2));
+
     @Mock
     private TaskRepositoryPort repository;
 
+    @Mock
+    private TaskListRepositoryPort taskListRepository;
+
+    @Mock
+    private TaskCompletionWriteBehind writeBehind;
+
+    @Mock
+    private DomainEventOutboxPort events;
+
+    @Mock
+    private TaskArchivePort archive;
+
     @InjectMocks
     private TaskService service;
 
     @Test
     @DisplayName("Criar tarefa com título único retorna tarefa salva")
     void createTaskSuccess() {
-        Task task = Task.builder().title("Task").listId("list1").userId("user1").completed(false).build();
-        when(repository.existsByTitleAndListId("Task", "list1")).thenReturn(false);
+        Task task = Task.builder().title("Task").listId(LIST_1).userId(USER_1).completed(false).build();
+        when(repository.existsByTitleAndListId("Task", LIST_1)).thenReturn(false);
         when(repository.save(task)).thenReturn(task);
 
         Task result = service.create(task);
 
         assertThat(result).isEqualTo(task);
         verify(repository).save(task);
+        verify(events).append(argThat(e -> e.size() == 1 && e.get(0).getType() == DomainEvent.Type.CREATED
+                && e.get(0).getPayload() == task));
+        verify(taskListRepository).incrementCounters(LIST_1, 1, 0);
     }
 
     @Test
     @DisplayName("Criar tarefa com título duplicado lança exceção")
     void createTaskDuplicate() {
-        Task task = Task.builder().title("Task").listId("list1").build();
-        when(repository.existsByTitleAndListId("Task", "list1")).thenReturn(true);
+        Task task = Task.builder().title("Task").listId(LIST_1).build();
+        when(repository.existsByTitleAndListId("Task", LIST_1)).thenReturn(true);
 
         assertThatThrownBy(() -> service.create(task))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -52,22 +93,22 @@ class TaskServiceTest {
     @Test
     @DisplayName("Buscar tarefa por ID com usuário correto retorna tarefa")
     void getByIdAuthorized() {
-        Task task = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
 
-        Optional<Task> result = service.getById("1", "user1");
+        Optional<Task> result = service.getById(TASK_1, USER_1);
 
         assertThat(result).isPresent();
-        assertThat(result.get().getId()).isEqualTo("1");
+        assertThat(result.get().getId()).isEqualTo(TASK_1);
     }
 
     @Test
     @DisplayName("Buscar tarefa por ID com usuário incorreto lança exceção")
     void getByIdUnauthorized() {
-        Task task = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
 
-        assertThatThrownBy(() -> service.getById("1", "user2"))
+        assertThatThrownBy(() -> service.getById(TASK_1, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para acessar esta tarefa.");
     }
@@ -75,9 +116,9 @@ class TaskServiceTest {
     @Test
     @DisplayName("Buscar tarefa inexistente retorna vazio")
     void getByIdNotFound() {
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        when(repository.findById(TASK_999)).thenReturn(Optional.empty());
 
-        Optional<Task> result = service.getById("999", "user1");
+        Optional<Task> result = service.getById(TASK_999, USER_1);
 
         assertThat(result).isEmpty();
     }
@@ -85,34 +126,61 @@ class TaskServiceTest {
     @Test
     @DisplayName("Buscar tarefas por usuário retorna lista")
     void getByUser() {
-        List<Task> tasks = List.of(Task.builder().id("1").userId("user1").completed(false).build());
-        when(repository.findAllByUserId("user1")).thenReturn(tasks);
+        List<Task> tasks = List.of(Task.builder().id(TASK_1).userId(USER_1).completed(false).build());
+        when(repository.findAllByUserId(USER_1)).thenReturn(tasks);
 
-        List<Task> result = service.getByUser("user1");
+        List<Task> result = service.getByUser(USER_1);
 
         assertThat(result).hasSize(1);
-        verify(repository).findAllByUserId("user1");
+        verify(repository).findAllByUserId(USER_1);
+    }
+
+    @Test
+    @DisplayName("Buscar várias tarefas por id mantém a ordem pedida e ignora repetidos")
+    void getByIds() {
+        Task first = Task.builder().id(TASK_1).userId(USER_1).build();
+        Task second = Task.builder().id(TASK_2).userId(USER_1).build();
+        when(repository.findAllByIds(Set.of(TASK_2, TASK_1, TASK_3), USER_1)).thenReturn(List.of(first, second));
+
+        List<Task> result = service.getByIds(List.of(TASK_2, TASK_3, TASK_1, TASK_2), USER_1);
+
+        assertThat(result).containsExactly(second, first);
+        verify(repository, times(1)).findAllByIds(any(), eq(USER_1));
+    }
+
+    @Test
+    @DisplayName("Buscar várias tarefas sem ids ou com ids demais lança exceção")
+    void getByIdsInvalid() {
+        List<TaskId> tooMany = IntStream.rangeClosed(0, TaskService.MAX_IDS).mapToObj(i -> new TaskId(new UUID(0, i))).toList();
+
+        assertThatThrownBy(() -> service.getByIds(List.of(), USER_1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Informe ao menos um id.");
+        assertThatThrownBy(() -> service.getByIds(tooMany, USER_1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Informe no máximo " + TaskService.MAX_IDS + " ids.");
+        verifyNoInteractions(repository);
     }
 
     @Test
     @DisplayName("Buscar tarefas por lista filtra por usuário")
     void getByList() {
         List<Task> tasks = List.of(
-                Task.builder().id("1").listId("list1").userId("user1").completed(false).build(),
-                Task.builder().id("2").listId("list1").userId("user2").completed(false).build()
+                Task.builder().id(TASK_1).listId(LIST_1).userId(USER_1).completed(false).build(),
+                Task.builder().id(TASK_2).listId(LIST_1).userId(USER_2).completed(false).build()
         );
-        when(repository.findAllByListId("list1")).thenReturn(tasks);
+        when(repository.findAllByListId(LIST_1)).thenReturn(tasks);
 
-        List<Task> result = service.getByList("list1", "user1");
+        List<Task> result = service.getByList(LIST_1, USER_1);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getUserId()).isEqualTo("user1");
+        assertThat(result.get(0).getUserId()).isEqualTo(USER_1);
     }
 
     @Test
     @DisplayName("Buscar todas as tarefas retorna todas")
     void getAll() {
-        List<Task> tasks = List.of(Task.builder().id("1").completed(false).build());
+        List<Task> tasks = List.of(Task.builder().id(TASK_1).completed(false).build());
         when(repository.findAll()).thenReturn(tasks);
 
         List<Task> result = service.getAll();
@@ -124,31 +192,48 @@ class TaskServiceTest {
     @Test
     @DisplayName("Deletar tarefa autorizada")
     void deleteAuthorized() {
-        Task task = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
 
-        service.delete("1", "user1");
+        service.delete(TASK_1, USER_1);
 
-        verify(repository).deleteById("1");
+        verify(repository).deleteById(TASK_1);
+        verify(events).append(argThat(e -> e.size() == 1 && e.get(0).getType() == DomainEvent.Type.DELETED
+                && e.get(0).getPayload() == task));
+        verify(taskListRepository).incrementCounters(null, -1, 0);
     }
 
     @Test
     @DisplayName("Deletar tarefa inexistente lança exceção")
     void deleteNotFound() {
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        when(repository.findById(TASK_999)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.delete("999", "user1"))
+        assertThatThrownBy(() -> service.delete(TASK_999, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Tarefa não encontrada.");
     }
 
+    @Test
+    @DisplayName("Deletar tarefa arquivada remove do arquivo sem mexer nos contadores")
+    void deleteArchived() {
+        Task archived = Task.builder().id(TASK_1).userId(USER_1).listId(LIST_1).completed(true).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.empty());
+        when(archive.findById(TASK_1)).thenReturn(Optional.of(archived));
+
+        service.delete(TASK_1, USER_1);
+
+        verify(archive).deleteById(TASK_1);
+        verify(repository, never()).deleteById(any());
+        verifyNoInteractions(taskListRepository);
+    }
+
     @Test
     @DisplayName("Deletar tarefa não autorizada lança exceção")
     void deleteUnauthorized() {
-        Task task = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
 
-        assertThatThrownBy(() -> service.delete("1", "user2"))
+        assertThatThrownBy(() -> service.delete(TASK_1, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para excluir esta tarefa.");
     }
@@ -156,25 +241,28 @@ class TaskServiceTest {
     @Test
     @DisplayName("Atualizar tarefa autorizada retorna tarefa atualizada")
     void updateAuthorized() {
-        Task existing = Task.builder().id("1").userId("user1").title("Old").listId("list1").completed(false).build();
-        Task updated = Task.builder().id("1").userId("user1").title("New").listId("list1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(existing));
-        when(repository.existsByTitleAndListId("New", "list1")).thenReturn(false);
+        Task existing = Task.builder().id(TASK_1).userId(USER_1).title("Old").listId(LIST_1).completed(false).build();
+        Task updated = Task.builder().id(TASK_1).userId(USER_1).title("New").listId(LIST_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(existing));
+        when(repository.existsByTitleAndListId("New", LIST_1)).thenReturn(false);
         when(repository.update(updated)).thenReturn(updated);
 
-        Task result = service.update(updated, "user1");
+        Task result = service.update(updated, USER_1);
 
         assertThat(result.getTitle()).isEqualTo("New");
         verify(repository).update(updated);
+        verify(events).append(argThat(e -> e.size() == 1 && e.get(0).getType() == DomainEvent.Type.UPDATED
+                && e.get(0).getPayload() == updated));
+        verifyNoInteractions(taskListRepository);
     }
 
     @Test
     @DisplayName("Atualizar tarefa inexistente lança exceção")
     void updateNotFound() {
-        Task task = Task.builder().id("999").completed(false).build();
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        Task task = Task.builder().id(TASK_999).completed(false).build();
+        when(repository.findById(TASK_999)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.update(task, "user1"))
+        assertThatThrownBy(() -> service.update(task, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Tarefa não encontrada.");
     }
@@ -182,11 +270,11 @@ class TaskServiceTest {
     @Test
     @DisplayName("Atualizar tarefa não autorizada lança exceção")
     void updateUnauthorized() {
-        Task existing = Task.builder().id("1").userId("user1").completed(false).build();
-        Task updated = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(existing));
+        Task existing = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        Task updated = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(existing));
 
-        assertThatThrownBy(() -> service.update(updated, "user2"))
+        assertThatThrownBy(() -> service.update(updated, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para atualizar esta tarefa.");
     }
@@ -194,12 +282,12 @@ class TaskServiceTest {
     @Test
     @DisplayName("Atualizar tarefa com título duplicado lança exceção")
     void updateDuplicateTitle() {
-        Task existing = Task.builder().id("1").userId("user1").title("Old").listId("list1").completed(false).build();
-        Task updated = Task.builder().id("1").userId("user1").title("New").listId("list1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(existing));
-        when(repository.existsByTitleAndListId("New", "list1")).thenReturn(true);
+        Task existing = Task.builder().id(TASK_1).userId(USER_1).title("Old").listId(LIST_1).completed(false).build();
+        Task updated = Task.builder().id(TASK_1).userId(USER_1).title("New").listId(LIST_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(existing));
+        when(repository.existsByTitleAndListId("New", LIST_1)).thenReturn(true);
 
-        assertThatThrownBy(() -> service.update(updated, "user1"))
+        assertThatThrownBy(() -> service.update(updated, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Já existe uma tarefa com esse título nesta lista.");
     }
@@ -207,36 +295,37 @@ class TaskServiceTest {
     @Test
     @DisplayName("Atualizar tarefa mantendo mesmo título não verifica duplicação")
     void updateSameTitle() {
-        Task existing = Task.builder().id("1").userId("user1").title("Same").listId("list1").completed(false).build();
-        Task updated = Task.builder().id("1").userId("user1").title("Same").listId("list1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(existing));
+        Task existing = Task.builder().id(TASK_1).userId(USER_1).title("Same").listId(LIST_1).completed(false).build();
+        Task updated = Task.builder().id(TASK_1).userId(USER_1).title("Same").listId(LIST_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(existing));
         when(repository.update(updated)).thenReturn(updated);
 
-        Task result = service.update(updated, "user1");
+        Task result = service.update(updated, USER_1);
 
         assertThat(result).isEqualTo(updated);
-        verify(repository, never()).existsByTitleAndListId(anyString(), anyString());
+        verify(repository, never()).existsByTitleAndListId(anyString(), any());
     }
 
     @Test
     @DisplayName("Toggle completed autorizado retorna tarefa atualizada")
     void toggleCompletedAuthorized() {
-        Task task = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
         when(repository.update(task)).thenReturn(task);
 
-        Task result = service.toggleCompleted("1", true, "user1");
+        Task result = service.toggleCompleted(TASK_1, true, USER_1);
 
         assertThat(result.isCompleted()).isTrue();
         verify(repository).update(task);
+        verify(taskListRepository).incrementCounters(null, 0, 1);
     }
 
     @Test
     @DisplayName("Toggle completed tarefa inexistente lança exceção")
     void toggleCompletedNotFound() {
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        when(repository.findById(TASK_999)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.toggleCompleted("999", true, "user1"))
+        assertThatThrownBy(() -> service.toggleCompleted(TASK_999, true, USER_1))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Tarefa não encontrada.");
     }
@@ -244,11 +333,159 @@ class TaskServiceTest {
     @Test
     @DisplayName("Toggle completed não autorizado lança exceção")
     void toggleCompletedUnauthorized() {
-        Task task = Task.builder().id("1").userId("user1").completed(false).build();
-        when(repository.findById("1")).thenReturn(Optional.of(task));
+        Task task = Task.builder().id(TASK_1).userId(USER_1).completed(false).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
 
-        assertThatThrownBy(() -> service.toggleCompleted("1", true, "user2"))
+        assertThatThrownBy(() -> service.toggleCompleted(TASK_1, true, USER_2))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Você não tem permissão para alterar esta tarefa.");
     }
+
+    @Test
+    @DisplayName("Mutações registram evento no outbox")
+    void mutationsAppendEvents() {
+        Task task = Task.builder().id(TASK_1).userId(USER_1).listId(LIST_1).title("Task").completed(false).build();
+        when(repository.existsByTitleAndListId("Task", LIST_1)).thenReturn(false);
+        when(repository.save(task)).thenReturn(task);
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
+
+        service.create(task);
+        service.delete(TASK_1, USER_1);
+
+        verify(events).append(argThat(e -> e.size() == 1 && e.get(0).getType() == DomainEvent.Type.CREATED
+                && e.get(0).getAggregateId().equals(TASK_1.toString())));
+        verify(events).append(argThat(e -> e.size() == 1 && e.get(0).getType() == DomainEvent.Type.DELETED));
+    }
+
+    @Test
+    @DisplayName("Toggle completed com write-behind enfileira sem gravar")
+    void toggleCompletedWriteBehind() {
+        Task queued = Task.builder().id(TASK_1).userId(USER_1).completed(true).build();
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(writeBehind.toggle(eq(TASK_1), eq(true), eq(USER_1), any())).thenReturn(queued);
+
+        assertThat(service.toggleCompleted(TASK_1, true, USER_1)).isSameAs(queued);
+        verify(repository, never()).update(any());
+        verifyNoInteractions(taskListRepository);
+    }
+
+    @Test
+    @DisplayName("Leituras descarregam toggles pendentes do usuário antes de consultar")
+    void readsFlushPendingToggles() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of());
+
+        service.getByUser(USER_1);
+
+        var order = inOrder(writeBehind, repository);
+        order.verify(writeBehind).flush(USER_1);
+        order.verify(repository).findAllByUserId(USER_1);
+    }
+
+    @Test
+    @DisplayName("Pesquisar tarefas delega consulta ao repositório")
+    void searchDelegatesQuery() {
+        TaskQuery query = TaskQuery.builder().userId(USER_1).listId(LIST_1).completed(true).limit(10).build();
+        List<Task> tasks = List.of(Task.builder().id(TASK_1).userId(USER_1).completed(true).build());
+        when(repository.findAll(query)).thenReturn(tasks);
+
+        List<Task> result = service.search(query);
+
+        assertThat(result).isEqualTo(tasks);
+        verifyNoInteractions(archive);
+    }
+
+    @Test
+    @DisplayName("Pesquisar com arquivadas filtra, ordena e limita o conjunto mesclado")
+    void searchIncludingArchived() {
+        TaskQuery query = TaskQuery.builder().userId(USER_1).listId(LIST_1).titlePrefix("re")
+                .sortField(TaskQuery.SortField.TITLE).limit(2).includeArchived(true).build();
+        Task live = Task.builder().id(TASK_1).userId(USER_1).listId(LIST_1).title("Revisar").build();
+        Task archivedMatch = Task.builder().id(TASK_2).userId(USER_1).listId(LIST_1).title("Relatório").completed(true).build();
+        Task archivedOther = Task.builder().id(TASK_3).userId(USER_1).listId(LIST_1).title("Comprar").completed(true).build();
+        when(repository.findAll(query)).thenReturn(List.of(live));
+        when(archive.findAllByListId(LIST_1)).thenReturn(List.of(archivedOther, archivedMatch));
+
+        List<Task> result = service.search(query);
+
+        assertThat(result).extracting(Task::getId).containsExactly(TASK_2, TASK_1);
+    }
+
+    @Test
+    @DisplayName("Pesquisar com arquivadas e campos lê a coluna de ordenação e projeta as arquivadas")
+    void searchIncludingArchivedWithFields() {
+        TaskQuery query = TaskQuery.builder().userId(USER_1).listId(LIST_1)
+                .sortField(TaskQuery.SortField.TITLE).fields(EnumSet.of(TaskQuery.Field.ID))
+                .limit(2).includeArchived(true).build();
+        Task live = Task.builder().id(TASK_1).title("Revisar").build();
+        Task archived = Task.builder().id(TASK_2).userId(USER_1).listId(LIST_1).title("Arquivar").completed(true).build();
+        Task archivedLast = Task.builder().id(TASK_3).userId(USER_1).listId(LIST_1).title("Varrer").completed(true).build();
+        when(repository.findAll(query.toBuilder().fields(EnumSet.of(TaskQuery.Field.ID, TaskQuery.Field.TITLE)).build()))
+                .thenReturn(List.of(live));
+        when(archive.findAllByListId(LIST_1)).thenReturn(List.of(archivedLast, archived));
+
+        List<Task> result = service.search(query);
+
+        assertThat(result).extracting(Task::getId).containsExactly(TASK_2, TASK_1);
+        assertThat(result).extracting(Task::getTitle, Task::getUserId, Task::isCompleted)
+                .containsOnly(tuple(null, null, false));
+    }
+
+    @Test
+    @DisplayName("Buscar tarefa arquivada só quando solicitado")
+    void getByIdIncludingArchived() {
+        Task archived = Task.builder().id(TASK_1).userId(USER_1).completed(true).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.empty());
+        when(archive.findById(TASK_1)).thenReturn(Optional.of(archived));
+
+        assertThat(service.getById(TASK_1, USER_1)).isEmpty();
+        assertThat(service.getById(TASK_1, USER_1, true)).contains(archived);
+        assertThatThrownBy(() -> service.getById(TASK_1, USER_2, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Pesquisar tarefas sem usuário lança exceção")
+    void searchWithoutUser() {
+        assertThatThrownBy(() -> service.search(TaskQuery.builder().listId(LIST_1).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Usuário não informado.");
+        verify(repository, never()).findAll(any(TaskQuery.class));
+    }
+
+    @Test
+    @DisplayName("Pesquisar tarefas com período invertido lança exceção")
+    void searchInvalidDueRange() {
+        TaskQuery query = TaskQuery.builder().userId(USER_1)
+                .dueFrom(LocalDate.of(2024, 2, 1)).dueTo(LocalDate.of(2024, 1, 1)).build();
+
+        assertThatThrownBy(() -> service.search(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Período de vencimento inválido.");
+    }
+
+    @Test
+    @DisplayName("Atualizar tarefa movendo de lista ajusta contadores das duas listas")
+    void updateMovesCounters() {
+        Task existing = Task.builder().id(TASK_1).userId(USER_1).title("Same").listId(LIST_1).completed(true).build();
+        Task updated = Task.builder().id(TASK_1).userId(USER_1).title("Same").listId(LIST_2).completed(true).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(existing));
+        when(repository.update(updated)).thenReturn(updated);
+
+        service.update(updated, USER_1);
+
+        verify(taskListRepository).incrementCounters(LIST_1, -1, -1);
+        verify(taskListRepository).incrementCounters(LIST_2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Toggle sem mudança de estado não altera contadores")
+    void toggleCompletedUnchanged() {
+        Task task = Task.builder().id(TASK_1).userId(USER_1).listId(LIST_1).completed(true).build();
+        when(repository.findById(TASK_1)).thenReturn(Optional.of(task));
+        when(repository.update(task)).thenReturn(task);
+
+        service.toggleCompleted(TASK_1, true, USER_1);
+
+        verifyNoInteractions(taskListRepository);
+    }
 }
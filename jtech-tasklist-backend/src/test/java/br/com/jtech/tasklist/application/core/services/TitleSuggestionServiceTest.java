@@ -0,0 +1,193 @@
+package br.com.jtech.tasklist.application.core.services;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskId;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.search.TitleTrie;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSuggestionServiceTest {
+
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+    private static final ListId LIST_2 = new ListId(new UUID(2, 2));
+    private static final ListId LIST_3 = new ListId(new UUID(2, 3));
+    private static final ListId LIST_4 = new ListId(new UUID(2, 4));
+
+    @Mock
+    private TaskRepositoryPort repository;
+
+    private TitleSuggestionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TitleSuggestionService(repository, 3);
+    }
+
+    private Task task(String title, ListId listId) {
+        return task(title + listId, title, listId);
+    }
+
+    private Task task(String key, String title, ListId listId) {
+        return Task.builder().id(new TaskId(UUID.nameUUIDFromBytes(key.getBytes()))).userId(USER_1).listId(listId).title(title).build();
+    }
+
+    private void on(DomainEvent.Type type, Task task) {
+        service.accept(List.of(DomainEvent.of(type, task)));
+    }
+
+    private List<String> titles(List<TitleTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(TitleTrie.Suggestion::title).toList();
+    }
+
+    @Test
+    @DisplayName("Sugestões carregam índice uma vez e ignoram maiúsculas")
+    void suggestLoadsOnce() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(
+                task("Comprar pão", LIST_1), task("Comprar leite", LIST_1), task("Correr", LIST_2)));
+
+        assertThat(titles(service.suggest(USER_1, "COMP", null, 10))).containsExactly("Comprar leite", "Comprar pão");
+        assertThat(titles(service.suggest(USER_1, "co", null, 10))).containsExactly("Correr", "Comprar leite", "Comprar pão");
+        verify(repository, times(1)).findAllByUserId(USER_1);
+    }
+
+    @Test
+    @DisplayName("Sugestões indicam título já existente na lista")
+    void suggestFlagsDuplicates() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(task("Estudar", LIST_1)));
+
+        assertThat(service.suggest(USER_1, "est", LIST_1, 5)).containsExactly(new TitleTrie.Suggestion("Estudar", true));
+        assertThat(service.suggest(USER_1, "est", LIST_2, 5)).containsExactly(new TitleTrie.Suggestion("Estudar", false));
+    }
+
+    @Test
+    @DisplayName("Sugestões respeitam top-k por recência")
+    void suggestTopKByRecency() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(
+                task("a1", LIST_3), task("a2", LIST_3), task("a3", LIST_3), task("a4", LIST_3)));
+
+        assertThat(titles(service.suggest(USER_1, "a", null, 10))).containsExactly("a4", "a3", "a2");
+
+        on(DomainEvent.Type.CREATED, task("a1", LIST_4));
+
+        assertThat(titles(service.suggest(USER_1, "a", null, 10))).containsExactly("a1", "a4", "a3");
+    }
+
+    @Test
+    @DisplayName("Mutações atualizam índice residente incrementalmente")
+    void mutationsUpdateIndex() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(task("Lavar", LIST_1)));
+        service.suggest(USER_1, "", null, 10);
+
+        on(DomainEvent.Type.CREATED, task("Ler", LIST_1));
+        on(DomainEvent.Type.UPDATED, task("Lavar" + LIST_1, "Levar", LIST_1));
+
+        assertThat(titles(service.suggest(USER_1, "l", null, 10))).containsExactly("Levar", "Ler");
+
+        on(DomainEvent.Type.DELETED, task("Ler", LIST_1));
+
+        assertThat(titles(service.suggest(USER_1, "le", null, 10))).containsExactly("Levar");
+        assertThat(service.suggest(USER_1, "lav", null, 10)).isEmpty();
+        verify(repository, times(1)).findAllByUserId(USER_1);
+    }
+
+    @Test
+    @DisplayName("Remoção mantém título usado em outra lista")
+    void deleteKeepsTitleUsedElsewhere() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(task("Pagar", LIST_1), task("Pagar", LIST_2)));
+
+        on(DomainEvent.Type.DELETED, task("Pagar", LIST_1));
+        service.suggest(USER_1, "", null, 10);
+        on(DomainEvent.Type.DELETED, task("Pagar", LIST_1));
+
+        assertThat(service.suggest(USER_1, "pa", LIST_2, 10)).containsExactly(new TitleTrie.Suggestion("Pagar", true));
+    }
+
+    @Test
+    @DisplayName("Mutações sem índice residente não consultam o repositório")
+    void mutationsWithoutResidentIndex() {
+        on(DomainEvent.Type.CREATED, task("Nada", LIST_1));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Evento entregue de novo não altera o índice")
+    void redeliveredEventsAreIdempotent() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(task("Pagar", LIST_1)));
+        service.suggest(USER_1, "", null, 10);
+        Task moved = task("Pagar" + LIST_1, "Pagar", LIST_2);
+
+        on(DomainEvent.Type.UPDATED, moved);
+        on(DomainEvent.Type.UPDATED, moved);
+        on(DomainEvent.Type.CREATED, task("Plantar", LIST_1));
+        on(DomainEvent.Type.CREATED, task("Plantar", LIST_1));
+
+        assertThat(service.suggest(USER_1, "pa", LIST_1, 10)).containsExactly(new TitleTrie.Suggestion("Pagar", false));
+        assertThat(service.suggest(USER_1, "pa", LIST_2, 10)).containsExactly(new TitleTrie.Suggestion("Pagar", true));
+
+        on(DomainEvent.Type.DELETED, task("Plantar", LIST_1));
+
+        assertThat(service.suggest(USER_1, "pl", LIST_1, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Eventos de listas são ignorados")
+    void listEventsAreIgnored() {
+        service.accept(List.of(DomainEvent.of(DomainEvent.Type.CREATED,
+                TaskList.builder().id(LIST_1).userId(USER_1).name("Casa").build())));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Eventos recebidos durante a construção do índice não se perdem")
+    void eventsDuringBuildAreReplayed() {
+        Task kept = task("Varrer", LIST_1);
+        Task removed = task("Secar", LIST_1);
+        when(repository.findAllByUserId(USER_1)).thenAnswer(invocation -> {
+            on(DomainEvent.Type.CREATED, task("Vender", LIST_1));
+            on(DomainEvent.Type.DELETED, removed);
+            return List.of(kept, removed);
+        });
+
+        assertThat(titles(service.suggest(USER_1, "", null, 10))).containsExactlyInAnyOrder("Vender", "Varrer");
+
+        on(DomainEvent.Type.CREATED, task("Visitar", LIST_1));
+
+        assertThat(titles(service.suggest(USER_1, "vi", null, 10))).containsExactly("Visitar");
+        verify(repository, times(1)).findAllByUserId(USER_1);
+    }
+
+    @Test
+    @DisplayName("Título na lista é comparado exatamente, como na criação")
+    void existsInListComparesTheExactTitle() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(task("Pagar", LIST_1)));
+        service.suggest(USER_1, "", null, 10);
+
+        on(DomainEvent.Type.CREATED, task("PAGAR", LIST_2));
+
+        assertThat(service.suggest(USER_1, "pa", LIST_1, 10)).containsExactly(new TitleTrie.Suggestion("PAGAR", false));
+        assertThat(service.suggest(USER_1, "pa", LIST_2, 10)).containsExactly(new TitleTrie.Suggestion("PAGAR", true));
+
+        on(DomainEvent.Type.DELETED, task("PAGAR", LIST_2));
+
+        assertThat(service.suggest(USER_1, "pa", LIST_1, 10)).containsExactly(new TitleTrie.Suggestion("Pagar", true));
+    }
+}
@@ -2,6 +2,7 @@ package br.com.jtech.tasklist.application.core.services;
 
 import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
 import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
 import br.com.jtech.tasklist.application.ports.output.UserRepositoryPort;
 import br.com.jtech.tasklist.config.infra.exceptions.BadCredentialsException;
 import br.com.jtech.tasklist.config.infra.exceptions.BusinessException;
@@ -11,9 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -22,6 +25,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
 
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_999 = new UserId(new UUID(1, 999));
+
     @Mock
     private UserRepositoryPort repository;
 
@@ -36,7 +42,7 @@ class UserServiceTest {
     void setUp() {
         validUserDto = new UserDto("John Doe", "john@example.com", "password123");
         existingUser = User.builder()
-                .id("1")
+                .id(USER_1)
                 .name("John Doe")
                 .email("john@example.com")
                 .password("$2a$10$encoded.password.hash")
@@ -81,20 +87,30 @@ class UserServiceTest {
                 .hasMessage("Já existe um usuário cadastrado com este email.");
     }
 
+    @Test
+    void create_WhenConcurrentSignUpWinsTheConstraint_ShouldThrowBusinessException() {
+        when(repository.findByEmail(validUserDto.email())).thenReturn(Optional.empty(), Optional.of(existingUser));
+        when(repository.save(validUserDto)).thenThrow(new DataIntegrityViolationException("Email duplicado"));
+
+        assertThatThrownBy(() -> userService.create(validUserDto))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Já existe um usuário cadastrado com este email.");
+    }
+
     @Test
     void getById_WithExistingId_ShouldReturnUser() {
-        when(repository.findById("1")).thenReturn(Optional.of(existingUser));
+        when(repository.findById(USER_1)).thenReturn(Optional.of(existingUser));
 
-        Optional<User> result = userService.getById("1");
+        Optional<User> result = userService.getById(USER_1);
 
         assertThat(result).isPresent().contains(existingUser);
     }
 
     @Test
     void getById_WithNonExistingId_ShouldReturnEmpty() {
-        when(repository.findById("999")).thenReturn(Optional.empty());
+        when(repository.findById(USER_999)).thenReturn(Optional.empty());
 
-        Optional<User> result = userService.getById("999");
+        Optional<User> result = userService.getById(USER_999);
 
         assertThat(result).isEmpty();
     }
@@ -104,7 +120,7 @@ class UserServiceTest {
         String plainPassword = "password123";
         String encodedPassword = passwordEncoder.encode(plainPassword);
         User userWithEncodedPassword = User.builder()
-                .id("1")
+                .id(USER_1)
                 .name("John Doe")
                 .email("john@example.com")
                 .password(encodedPassword)
@@ -121,7 +137,7 @@ class UserServiceTest {
     void login_WithPlainTextPassword_ShouldReturnUser() {
         String plainPassword = "password123";
         User userWithPlainPassword = User.builder()
-                .id("1")
+                .id(USER_1)
                 .name("John Doe")
                 .email("john@example.com")
                 .password(plainPassword)
@@ -147,7 +163,7 @@ class UserServiceTest {
     void login_WithWrongPassword_ShouldThrowBadCredentialsException() {
         String encodedPassword = passwordEncoder.encode("correctPassword");
         User userWithEncodedPassword = User.builder()
-                .id("1")
+                .id(USER_1)
                 .name("John Doe")
                 .email("john@example.com")
                 .password(encodedPassword)
@@ -0,0 +1,204 @@
+package br.com.jtech.tasklist.config.infra.batching;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitBatcherTest {
+
+    @Test
+    @DisplayName("Chamadas concorrentes são gravadas juntas e cada uma recebe o seu resultado")
+    void concurrentCallsShareCommits() throws Exception {
+        var batches = new CopyOnWriteArrayList<List<Integer>>();
+        var gate = new CountDownLatch(1);
+        try (var batcher = new GroupCommitBatcher<Integer, String>("test-commit", batch -> {
+            batches.add(batch);
+            return batch.stream().map(i -> "r" + i).toList();
+        }, 8, Duration.ofMillis(200), 64);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            List<Future<String>> results = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> {
+                        gate.await();
+                        return batcher.submit(i);
+                    }))
+                    .toList();
+            gate.countDown();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo("r" + i);
+            }
+        }
+        assertThat(batches.size()).isLessThan(8);
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(8);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(8));
+    }
+
+    @Test
+    @DisplayName("Falha do lote é isolada no item que a causou")
+    void failingItemOnlyFailsItsCaller() throws Exception {
+        var gate = new CountDownLatch(1);
+        try (var batcher = new GroupCommitBatcher<Integer, Integer>("test-commit", batch -> {
+            if (batch.contains(3)) {
+                throw new IllegalArgumentException("item 3");
+            }
+            return batch;
+        }, 10, Duration.ofMillis(200), 64);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            List<Future<Integer>> results = IntStream.range(0, 5)
+                    .mapToObj(i -> executor.submit(() -> {
+                        gate.await();
+                        return batcher.submit(i);
+                    }))
+                    .toList();
+            gate.countDown();
+
+            for (int i = 0; i < results.size(); i++) {
+                if (i == 3) {
+                    assertThatThrownBy(results.get(i)::get).hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasMessageContaining("item 3");
+                } else {
+                    assertThat(results.get(i).get()).isEqualTo(i);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Após fechar, novas chamadas são recusadas")
+    void closedBatcherRejects() {
+        var batcher = new GroupCommitBatcher<Integer, Integer>("test-commit", batch -> batch, 4, Duration.ZERO, 16);
+        assertThat(batcher.submit(1)).isEqualTo(1);
+
+        batcher.close();
+
+        assertThatThrownBy(() -> batcher.submit(2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Fila cheia recusa novas chamadas na hora")
+    void fullQueueRejects() throws Exception {
+        var committing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var batcher = new GroupCommitBatcher<Integer, Integer>("test-commit", batch -> {
+            committing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return batch;
+        }, 1, Duration.ZERO, 1);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            Future<Integer> first = executor.submit(() -> batcher.submit(1));
+            assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Integer> queued = executor.submit(() -> batcher.submit(2));
+            while (batcher.queued() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> batcher.submit(3)).isInstanceOf(RejectedExecutionException.class);
+
+            release.countDown();
+            assertThat(first.get()).isEqualTo(1);
+            assertThat(queued.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Chamada interrompida com o item na fila o retira e não é gravada")
+    void interruptedQueuedCallIsWithdrawn() throws Exception {
+        var committed = new CopyOnWriteArrayList<Integer>();
+        var committing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var batcher = new GroupCommitBatcher<Integer, Integer>("test-commit", batch -> {
+            committing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            committed.addAll(batch);
+            return batch;
+        }, 1, Duration.ZERO, 4);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            Future<Integer> first = executor.submit(() -> batcher.submit(1));
+            assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+            var failure = new CompletableFuture<Throwable>();
+            var caller = Thread.ofPlatform().start(() -> {
+                try {
+                    batcher.submit(2);
+                    failure.complete(null);
+                } catch (Throwable e) {
+                    failure.complete(e);
+                }
+            });
+            while (batcher.queued() == 0) {
+                Thread.onSpinWait();
+            }
+
+            caller.interrupt();
+
+            assertThat(failure.get(5, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class);
+            assertThat(batcher.queued()).isZero();
+            release.countDown();
+            assertThat(first.get()).isEqualTo(1);
+        }
+        assertThat(committed).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Chamada interrompida com o item já com o gravador aguarda o resultado")
+    void interruptedTakenCallWaitsForItsResult() throws Exception {
+        var committing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var batcher = new GroupCommitBatcher<Integer, Integer>("test-commit", batch -> {
+            committing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return batch;
+        }, 1, Duration.ZERO, 4)) {
+
+            var result = new CompletableFuture<Integer>();
+            var stillInterrupted = new AtomicBoolean();
+            var caller = Thread.ofPlatform().start(() -> {
+                try {
+                    result.complete(batcher.submit(1));
+                    stillInterrupted.set(Thread.currentThread().isInterrupted());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            caller.interrupt();
+            Thread.sleep(50);
+            assertThat(result).isNotDone();
+            release.countDown();
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            caller.join();
+            assertThat(stillInterrupted).isTrue();
+        }
+    }
+}
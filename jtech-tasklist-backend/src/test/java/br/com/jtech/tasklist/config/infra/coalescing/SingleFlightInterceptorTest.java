@@ -0,0 +1,197 @@
+package br.com.jtech.tasklist.config.infra.coalescing;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightInterceptorTest {
+
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final UserId USER_2 = new UserId(new UUID(1, 2));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+
+    @Mock
+    private TaskListRepositoryPort repository;
+
+    private SimpleMeterRegistry registry;
+    private TaskListRepositoryPort coalesced;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        var environment = new MockEnvironment()
+                .withProperty("tasklist.coalescing.timeout.TaskListRepositoryPort.findById", "50ms");
+        var factory = new ProxyFactory(repository);
+        factory.addInterface(TaskListRepositoryPort.class);
+        factory.addAdvice(new SingleFlightInterceptor("TaskListRepositoryPort", Set.of("findAllByUserId", "findById"),
+                environment, Duration.ofSeconds(5), () -> registry, new WriteEpochs(), USER_1::toString));
+        coalesced = (TaskListRepositoryPort) factory.getProxy();
+    }
+
+    private double calls(String method, String outcome) {
+        var counter = registry.find(SingleFlightInterceptor.CALLS).tags("method", method, "outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /** Starts {@code followers} callers once the leader is inside the call and waits until all of them are parked. */
+    private <T> List<CompletableFuture<T>> followers(int followers, CountDownLatch leaderStarted, Callable<T> call) throws Exception {
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        var futures = new ArrayList<CompletableFuture<T>>();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < followers; i++) {
+            var future = new CompletableFuture<T>();
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    future.complete(call.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }));
+            futures.add(future);
+        }
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.TIMED_WAITING && thread.isAlive()) {
+                Thread.onSpinWait();
+            }
+        }
+        return futures;
+    }
+
+    @Test
+    @DisplayName("Leituras idênticas simultâneas compartilham uma única chamada")
+    void collapsesConcurrentIdenticalCalls() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        List<TaskList> lists = List.of(new TaskList());
+        when(repository.findAllByUserId(USER_1)).thenAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return lists;
+        });
+
+        var leader = CompletableFuture.supplyAsync(() -> coalesced.findAllByUserId(USER_1));
+        var followers = followers(3, started, () -> coalesced.findAllByUserId(USER_1));
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(lists);
+        for (var follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(lists);
+        }
+        verify(repository, times(1)).findAllByUserId(USER_1);
+        assertThat(calls("findAllByUserId", "leader")).isEqualTo(1);
+        assertThat(calls("findAllByUserId", "collapsed")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Erro da chamada compartilhada chega a todos os participantes")
+    void sharesFailures() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(repository.findAllByUserId(USER_1)).thenAnswer(inv -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("falhou");
+        });
+
+        var leader = CompletableFuture.supplyAsync(() -> coalesced.findAllByUserId(USER_1));
+        var followers = followers(2, started, () -> coalesced.findAllByUserId(USER_1));
+        release.countDown();
+
+        for (var call : List.of(leader, followers.get(0), followers.get(1))) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalArgumentException.class);
+        }
+        verify(repository, times(1)).findAllByUserId(USER_1);
+    }
+
+    @Test
+    @DisplayName("Participante que excede o timeout faz a própria chamada")
+    void timedOutFollowerRunsItsOwnCall() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var first = new AtomicBoolean(true);
+        when(repository.findById(LIST_1)).thenAnswer(inv -> {
+            if (first.getAndSet(false)) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.empty();
+        });
+
+        var leader = CompletableFuture.supplyAsync(() -> coalesced.findById(LIST_1));
+        var follower = followers(1, started, () -> coalesced.findById(LIST_1)).get(0);
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEmpty();
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        verify(repository, times(2)).findById(LIST_1);
+        assertThat(calls("findById", "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Argumentos diferentes e métodos fora da lista não são agrupados")
+    void distinctKeysAreNotCollapsed() {
+        when(repository.findAllByUserId(any())).thenReturn(List.of());
+
+        coalesced.findAllByUserId(USER_1);
+        coalesced.findAllByUserId(USER_2);
+        coalesced.findAll();
+
+        verify(repository).findAllByUserId(USER_1);
+        verify(repository).findAllByUserId(USER_2);
+        assertThat(calls("findAll", "leader")).isZero();
+        assertThat(calls("findAllByUserId", "leader")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Após uma escrita do usuário, nova leitura não se junta à chamada anterior")
+    void readAfterWriteDoesNotJoinOlderCall() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var first = new AtomicBoolean(true);
+        when(repository.findAllByUserId(USER_1)).thenAnswer(inv -> {
+            if (first.getAndSet(false)) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return List.of();
+        });
+
+        var leader = CompletableFuture.supplyAsync(() -> coalesced.findAllByUserId(USER_1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        coalesced.save(new TaskList());
+
+        assertThat(coalesced.findAllByUserId(USER_1)).isEmpty();
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        verify(repository, times(2)).findAllByUserId(USER_1);
+        assertThat(calls("findAllByUserId", "leader")).isEqualTo(2);
+        assertThat(calls("findAllByUserId", "collapsed")).isZero();
+    }
+}
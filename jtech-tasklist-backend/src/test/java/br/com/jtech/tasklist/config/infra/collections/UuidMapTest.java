@@ -0,0 +1,62 @@
+package br.com.jtech.tasklist.config.infra.collections;
+
+import br.com.jtech.tasklist.config.infra.sharding.ShardKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidMapTest {
+
+    @Test
+    @DisplayName("Mapa primitivo se comporta como HashMap sob inserções e remoções aleatórias")
+    void matchesHashMap() {
+        var random = new Random(42);
+        var map = new UuidMap<Integer>();
+        Map<UUID, Integer> expected = new HashMap<>();
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            keys.add(ShardKeys.newId(random.nextInt(4)));
+        }
+        for (int i = 0; i < 20000; i++) {
+            UUID key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (UUID key : keys) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        Map<UUID, Integer> iterated = new HashMap<>();
+        map.forEach((hi, lo, value) -> iterated.put(new UUID(hi, lo), value));
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Lista de UUIDs remove mantendo a ordem")
+    void listKeepsOrder() {
+        var list = new UuidList();
+        for (int i = 0; i < 20; i++) {
+            list.add(i, -i);
+        }
+
+        assertThat(list.remove(5, -5)).isTrue();
+        assertThat(list.remove(5, -5)).isFalse();
+
+        assertThat(list.size()).isEqualTo(19);
+        assertThat(list.hi(4)).isEqualTo(4);
+        assertThat(list.hi(5)).isEqualTo(6);
+        assertThat(list.lo(18)).isEqualTo(-19);
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.config.DataSourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the routing against two independent in-memory databases. Nothing replicates between
+ * them, so whichever one answers a read is visible from the data it returns.
+ */
+@SpringBootTest(classes = StartTasklist.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "tasklist.datasource.replica.jdbc-url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "tasklist.datasource.replica.username=sa",
+        "tasklist.datasource.read-your-writes-window=300ms"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private TaskListService service;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        new JdbcTemplate(primary).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(sql -> sql.startsWith("CREATE") && !sql.startsWith("CREATE USER"))
+                .forEach(replicaJdbc::execute);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(UserId userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+
+    private List<String> names(List<TaskList> lists) {
+        return lists.stream().map(TaskList::getName).toList();
+    }
+
+    @Test
+    @DisplayName("Leituras somente leitura vão para a réplica")
+    void readOnlyTransactionsUseReplica() {
+        UserId userId = new UserId(UUID.randomUUID());
+        replicaJdbc.update("insert into task_lists (id, name, user_id) values (?, ?, ?)",
+                UUID.randomUUID(), "Só na réplica", userId.value());
+        authenticate(userId);
+
+        assertThat(names(service.getByUser(userId))).containsExactly("Só na réplica");
+    }
+
+    @Test
+    @DisplayName("Usuário lê a própria escrita no primário até a janela expirar")
+    void readYourWritesPinsUserToPrimary() throws InterruptedException {
+        UserId userId = new UserId(UUID.randomUUID());
+        authenticate(userId);
+
+        service.create(TaskList.builder().name("Nova").userId(userId).build());
+
+        assertThat(names(service.getByUser(userId))).containsExactly("Nova");
+
+        Thread.sleep(400);
+
+        assertThat(service.getByUser(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Escrita de um usuário não fixa outro no primário")
+    void otherUsersKeepReadingReplica() {
+        UserId writer = new UserId(UUID.randomUUID());
+        UserId reader = new UserId(UUID.randomUUID());
+        authenticate(writer);
+        service.create(TaskList.builder().name("Do escritor").userId(reader).build());
+
+        authenticate(reader);
+
+        assertThat(service.getByUser(reader)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Réplica combinada com sharding falha na subida com mensagem clara")
+    void replicaWithShardingFailsToStart() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(DataSourceConfig.class)
+                .withPropertyValues("tasklist.datasource.replica.jdbc-url=jdbc:h2:mem:other", "tasklist.sharding.enabled=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("não pode ser combinada com sharding"));
+    }
+}
@@ -0,0 +1,235 @@
+package br.com.jtech.tasklist.config.infra.events;
+
+import br.com.jtech.tasklist.application.core.domains.DomainEvent;
+import br.com.jtech.tasklist.application.ports.output.DomainEventConsumer;
+import br.com.jtech.tasklist.application.ports.output.DomainEventOutboxPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventDispatcherTest {
+
+    private static final Duration RETRY = Duration.ofSeconds(1);
+
+    /** Outbox kept in memory, ordered by sequence, with a clock the test moves by hand. */
+    private static class MemoryOutbox implements DomainEventOutboxPort {
+        record Row(DomainEvent event, long leasedUntil, int attempts, Set<String> pending) {
+        }
+
+        private final ConcurrentSkipListMap<Long, Row> rows = new ConcurrentSkipListMap<>();
+        private final Set<String> consumers;
+        private volatile long now;
+
+        MemoryOutbox(String... consumers) {
+            this.consumers = Set.of(consumers);
+        }
+
+        /** A row left behind by a crash: its lease has already run out. */
+        void leftOver(DomainEvent event) {
+            rows.put(event.getSequence(), new Row(event, now - 1, 0, consumers));
+        }
+
+        @Override
+        public void append(List<DomainEvent> events) {
+            events.forEach(e -> rows.put(e.getSequence(), new Row(e, now + 30_000, 0, consumers)));
+        }
+
+        @Override
+        public synchronized List<DomainEvent> claim(int limit) {
+            var claimed = rows.values().stream().filter(r -> r.leasedUntil() < now).limit(limit).toList();
+            claimed.forEach(r -> rows.put(r.event().getSequence(), new Row(r.event(), now + 30_000, r.attempts(), r.pending())));
+            return claimed.stream().map(Row::event).toList();
+        }
+
+        @Override
+        public List<Pending> pending(List<DomainEvent> batch) {
+            var aggregateIds = batch.stream().map(DomainEvent::getAggregateId).collect(Collectors.toSet());
+            long last = batch.stream().mapToLong(DomainEvent::getSequence).max().orElseThrow();
+            return rows.headMap(last, true).values().stream()
+                    .filter(r -> aggregateIds.contains(r.event().getAggregateId()))
+                    .map(r -> new Pending(r.event().getSequence(), r.event().getAggregateId(), r.pending()))
+                    .toList();
+        }
+
+        @Override
+        public void acknowledge(String consumer, Collection<Long> sequences) {
+            sequences.forEach(sequence -> rows.computeIfPresent(sequence, (k, r) -> {
+                var pending = new HashSet<>(r.pending());
+                pending.remove(consumer);
+                return new Row(r.event(), r.leasedUntil(), r.attempts(), Set.copyOf(pending));
+            }));
+        }
+
+        @Override
+        public void retryLater(Collection<Long> sequences, Duration firstDelay, Duration maxDelay) {
+            sequences.forEach(sequence -> rows.computeIfPresent(sequence, (k, r) ->
+                    new Row(r.event(), now + (firstDelay.toMillis() << r.attempts()), r.attempts() + 1, r.pending())));
+        }
+
+        @Override
+        public void postpone(Collection<Long> sequences, Duration delay) {
+            sequences.forEach(sequence -> rows.computeIfPresent(sequence, (k, r) ->
+                    new Row(r.event(), now + delay.toMillis(), r.attempts(), r.pending())));
+        }
+
+        @Override
+        public void delete(Collection<Long> sequences) {
+            sequences.forEach(rows::remove);
+        }
+    }
+
+    private static DomainEvent event(long sequence, String aggregateId) {
+        return DomainEvent.builder().sequence(sequence).aggregate(DomainEvent.Aggregate.TASK)
+                .aggregateId(aggregateId).type(DomainEvent.Type.UPDATED).build();
+    }
+
+    private static List<Long> sequences(List<DomainEvent> events) {
+        return events.stream().map(DomainEvent::getSequence).toList();
+    }
+
+    private static DomainEventDispatcher dispatcher(DomainEventOutboxPort outbox, Map<String, DomainEventConsumer> consumers,
+                                                    int batchSize) {
+        return new DomainEventDispatcher(outbox, consumers, 16, batchSize, RETRY, Duration.ofMinutes(1), () -> null);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição atingida a tempo").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Eventos que sobraram no outbox são varridos na partida, junto com os novos")
+    void sweepsLeftoversOnStart() throws Exception {
+        var outbox = new MemoryOutbox("recorder");
+        outbox.leftOver(event(1, "a"));
+        outbox.leftOver(event(2, "b"));
+        var received = new CopyOnWriteArrayList<DomainEvent>();
+        var dispatcher = dispatcher(outbox, Map.of("recorder", received::addAll), 2);
+
+        dispatcher.start();
+        outbox.append(List.of(event(3, "a"), event(4, "b")));
+        dispatcher.publish(List.of(event(3, "a"), event(4, "b")));
+        await(outbox.rows::isEmpty);
+        dispatcher.stop();
+
+        assertThat(sequences(received)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Evento em lease de outro nó não é varrido")
+    void leasedEventsAreNotSwept() throws Exception {
+        var outbox = new MemoryOutbox("recorder");
+        outbox.append(List.of(event(1, "a")));
+        var received = new CopyOnWriteArrayList<DomainEvent>();
+        var dispatcher = dispatcher(outbox, Map.of("recorder", received::addAll), 8);
+
+        dispatcher.start();
+        outbox.append(List.of(event(2, "b")));
+        dispatcher.publish(List.of(event(2, "b")));
+        await(() -> !received.isEmpty());
+        dispatcher.stop();
+
+        assertThat(sequences(received)).containsExactly(2L);
+        assertThat(outbox.rows).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("Falha de um consumidor reentrega o evento só a ele, depois do atraso")
+    void failedDeliveryIsRetriedForThatConsumerOnly() throws Exception {
+        var outbox = new MemoryOutbox("flaky", "recorder");
+        var received = new CopyOnWriteArrayList<DomainEvent>();
+        var retried = new CopyOnWriteArrayList<DomainEvent>();
+        var calls = new AtomicInteger();
+        DomainEventConsumer flaky = events -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("indisponível");
+            }
+            retried.addAll(events);
+        };
+        var consumers = new LinkedHashMap<String, DomainEventConsumer>();
+        consumers.put("flaky", flaky);
+        consumers.put("recorder", received::addAll);
+        var dispatcher = dispatcher(outbox, consumers, 8);
+
+        dispatcher.start();
+        outbox.append(List.of(event(1, "a")));
+        dispatcher.publish(List.of(event(1, "a")));
+        await(() -> outbox.rows.get(1L).attempts() == 1);
+
+        assertThat(sequences(received)).containsExactly(1L);
+        assertThat(outbox.rows.get(1L).pending()).containsExactly("flaky");
+
+        outbox.now += RETRY.toMillis() + 1;
+        dispatcher.requestSweep();
+        await(outbox.rows::isEmpty);
+        dispatcher.stop();
+
+        assertThat(sequences(received)).containsExactly(1L);
+        assertThat(sequences(retried)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Eventos posteriores do mesmo agregado esperam o evento que falhou")
+    void laterEventsOfAnAggregateWaitForTheFailedOne() throws Exception {
+        var outbox = new MemoryOutbox("flaky");
+        var received = new CopyOnWriteArrayList<DomainEvent>();
+        var calls = new AtomicInteger();
+        DomainEventConsumer flaky = events -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("indisponível");
+            }
+            received.addAll(events);
+        };
+        var dispatcher = dispatcher(outbox, Map.of("flaky", flaky), 8);
+
+        dispatcher.start();
+        outbox.append(List.of(event(1, "a")));
+        dispatcher.publish(List.of(event(1, "a")));
+        await(() -> outbox.rows.get(1L).attempts() == 1);
+        outbox.append(List.of(event(2, "a"), event(3, "b")));
+        dispatcher.publish(List.of(event(2, "a"), event(3, "b")));
+        await(() -> !outbox.rows.containsKey(3L) && outbox.rows.get(2L).leasedUntil() <= RETRY.toMillis());
+
+        assertThat(sequences(received)).containsExactly(3L);
+        assertThat(outbox.rows).containsOnlyKeys(1L, 2L);
+        assertThat(outbox.rows.get(2L).attempts()).isZero();
+
+        outbox.now += RETRY.toMillis() + 1;
+        dispatcher.requestSweep();
+        await(outbox.rows::isEmpty);
+        dispatcher.stop();
+
+        assertThat(sequences(received)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Eventos publicados com o despachante parado ficam no outbox")
+    void stoppedDispatcherLeavesEventsInOutbox() {
+        var outbox = new MemoryOutbox("recorder");
+        var received = new CopyOnWriteArrayList<DomainEvent>();
+        var dispatcher = dispatcher(outbox, Map.of("recorder", received::addAll), 8);
+
+        outbox.append(List.of(event(1, "a")));
+        dispatcher.publish(List.of(event(1, "a")));
+
+        assertThat(received).isEmpty();
+        assertThat(outbox.rows).containsKey(1L);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.config.security.JwtAuthFilter;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-14T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private MockHttpServletRequest request() {
+        var request = new MockHttpServletRequest("POST", "/tasklists");
+        request.addHeader(IdempotencyFilter.HEADER, "k-1");
+        request.setAttribute(JwtAuthFilter.USER_ATTRIBUTE, "u1");
+        request.setContent("{\"name\":\"Mercado\"}".getBytes());
+        return request;
+    }
+
+    private MockFilterChain created() {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                response.setContentType("application/json");
+                response.getWriter().write("{}");
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Falha ao registrar a resposta mantém a chave reservada e devolve 500")
+    void completeFailureKeepsReservation() throws Exception {
+        var store = new InMemoryIdempotencyStore(10, CLOCK) {
+            @Override
+            public synchronized void complete(String key, IdempotentResponse response, Instant expiresAt) {
+                throw new IllegalStateException("indisponível");
+            }
+        };
+        var filter = new IdempotencyFilter(store, Duration.ofMinutes(1), CLOCK, () -> null);
+
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, created());
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(store.find("u1:k-1")).hasValueSatisfying(r -> assertThat(r.completed()).isFalse());
+
+        var retry = new MockHttpServletResponse();
+        filter.doFilter(request(), retry, created());
+
+        assertThat(retry.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("Corpo em cache avisa o ReadListener de que já está disponível")
+    void readListenerIsNotified() throws Exception {
+        var store = new InMemoryIdempotencyStore(10, CLOCK);
+        var filter = new IdempotencyFilter(store, Duration.ofMinutes(1), CLOCK, () -> null);
+        List<String> calls = new ArrayList<>();
+        var chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                var in = request.getInputStream();
+                in.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        calls.add("data:" + new String(in.readAllBytes()));
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        calls.add("done");
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        calls.add("error");
+                    }
+                });
+            }
+        };
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertThat(calls).containsExactly("data:{\"name\":\"Mercado\"}", "done");
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-14T12:00:00Z");
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    private IdempotentResponse response(String fingerprint) {
+        return new IdempotentResponse(fingerprint, 200, "application/json", "{}".getBytes());
+    }
+
+    @Test
+    @DisplayName("Chave reservada não pode ser reservada de novo até ser liberada")
+    void reserveOnce() {
+        assertThat(store.reserve("k", "f", NOW.plusSeconds(60))).isTrue();
+        assertThat(store.reserve("k", "f", NOW.plusSeconds(60))).isFalse();
+        assertThat(store.find("k")).hasValueSatisfying(r -> assertThat(r.completed()).isFalse());
+
+        store.release("k");
+
+        assertThat(store.reserve("k", "f", NOW.plusSeconds(60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Resposta concluída é devolvida até expirar")
+    void completedUntilExpiry() {
+        store.reserve("k", "f", NOW.plusSeconds(60));
+        store.complete("k", response("f"), NOW.plusSeconds(60));
+        store.complete("old", response("g"), NOW);
+
+        assertThat(store.find("k")).hasValueSatisfying(r -> assertThat(r.status()).isEqualTo(200));
+        assertThat(store.find("old")).isEmpty();
+        assertThat(store.reserve("old", "g", NOW.plusSeconds(60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Loja limitada descarta a entrada concluída mais antiga")
+    void boundedEvictsEldest() {
+        store.complete("a", response("f"), NOW.plusSeconds(60));
+        store.complete("b", response("f"), NOW.plusSeconds(60));
+        store.reserve("c", "f", NOW.plusSeconds(60));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find("a")).isEmpty();
+        assertThat(store.find("c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Reservas em andamento nunca são descartadas")
+    void boundedKeepsInProgress() {
+        store.reserve("a", "f", NOW.plusSeconds(60));
+        store.reserve("b", "f", NOW.plusSeconds(60));
+        store.reserve("c", "f", NOW.plusSeconds(60));
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.reserve("a", "f", NOW.plusSeconds(60))).isFalse();
+
+        store.complete("c", response("f"), NOW.plusSeconds(60));
+        store.release("a");
+        store.complete("d", response("f"), NOW.plusSeconds(60));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find("c")).isEmpty();
+        assertThat(store.find("b")).hasValueSatisfying(r -> assertThat(r.completed()).isFalse());
+        assertThat(store.find("d")).isPresent();
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-14T12:00:00Z");
+
+    private JdbcTemplate jdbc;
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbc.execute("create table idempotency_keys (idempotency_key varchar(320) primary key, fingerprint varchar(64) not null, " +
+                     "status int not null, content_type varchar(255), body varbinary(1048576), expires_at timestamp not null)");
+        store = new JdbcIdempotencyStore(jdbc, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Reserva, conclusão e leitura compartilhadas pela tabela")
+    void reserveCompleteFind() {
+        assertThat(store.reserve("user1:k", "f", NOW.plusSeconds(60))).isTrue();
+        assertThat(store.reserve("user1:k", "f", NOW.plusSeconds(60))).isFalse();
+
+        store.complete("user1:k", new IdempotentResponse("f", 201, "application/json", "{\"id\":1}".getBytes()), NOW.plusSeconds(60));
+
+        assertThat(store.find("user1:k")).hasValueSatisfying(r -> {
+            assertThat(r.status()).isEqualTo(201);
+            assertThat(new String(r.body())).isEqualTo("{\"id\":1}");
+        });
+    }
+
+    @Test
+    @DisplayName("Chave expirada pode ser reutilizada e é removida na limpeza")
+    void expiredKeys() {
+        store.reserve("user1:old", "f", NOW.minusSeconds(1));
+        store.reserve("user1:other", "f", NOW.minusSeconds(1));
+
+        assertThat(store.find("user1:old")).isEmpty();
+        assertThat(store.reserve("user1:old", "g", NOW.plusSeconds(60))).isTrue();
+        assertThat(store.purgeExpired()).isEqualTo(1);
+        assertThat(jdbc.queryForObject("select count(*) from idempotency_keys", Integer.class)).isEqualTo(1);
+    }
+}
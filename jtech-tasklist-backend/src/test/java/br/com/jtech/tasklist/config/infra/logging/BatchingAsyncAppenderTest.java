@@ -0,0 +1,73 @@
+package br.com.jtech.tasklist.config.infra.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingAsyncAppenderTest {
+
+    /** Holds the writer thread on the first event so the queue can be filled deterministically. */
+    private static class GatedAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch received = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            events.add(event);
+            received.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sob pressão descarta apenas DEBUG e entrega o restante em ordem")
+    void dropsDebugUnderBackpressure() throws InterruptedException {
+        var context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        var sink = new GatedAppender();
+        sink.setContext(context);
+        sink.start();
+        var appender = new BatchingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("async");
+        appender.setQueueSize(8);
+        appender.setDiscardingThreshold(4);
+        appender.addAppender(sink);
+        appender.start();
+        var logger = context.getLogger("test");
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(appender);
+
+        logger.info("first");
+        assertThat(sink.received.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            logger.info("info {}", i);
+        }
+        for (int i = 0; i < 3; i++) {
+            logger.debug("debug {}", i);
+        }
+        logger.warn("warn");
+        sink.gate.countDown();
+        appender.stop();
+
+        assertThat(appender.getDroppedCount()).isEqualTo(2);
+        assertThat(sink.events).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("first", "info 0", "info 1", "info 2", "info 3", "debug 0", "warn");
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.ListId;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.ports.output.TaskListRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredInvocationInterceptorTest {
+
+    private static final UserId USER_1 = new UserId(new UUID(1, 1));
+    private static final ListId LIST_1 = new ListId(new UUID(2, 1));
+
+    @Mock
+    private TaskListRepositoryPort repository;
+
+    private SimpleMeterRegistry registry;
+    private TaskListRepositoryPort metered;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        var factory = new ProxyFactory(repository);
+        factory.addInterface(TaskListRepositoryPort.class);
+        factory.addAdvice(new MeteredInvocationInterceptor("TaskListRepositoryPort", () -> registry));
+        metered = (TaskListRepositoryPort) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Chamada com sucesso registra tempo e tamanho do resultado")
+    void recordsSuccess() {
+        when(repository.findAllByUserId(USER_1)).thenReturn(List.of(new TaskList(), new TaskList()));
+
+        metered.findAllByUserId(USER_1);
+        metered.findAllByUserId(USER_1);
+
+        var timer = registry.get(MeteredInvocationInterceptor.CALLS)
+                .tags("component", "TaskListRepositoryPort", "method", "findAllByUserId", "outcome", "success").timer();
+        var size = registry.get(MeteredInvocationInterceptor.RESULT_SIZE)
+                .tags("method", "findAllByUserId").summary();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(size.totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Chamada com erro registra contador por exceção")
+    void recordsErrors() {
+        when(repository.findById(LIST_1)).thenThrow(new IllegalArgumentException("boom"));
+
+        assertThatThrownBy(() -> metered.findById(LIST_1)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(registry.get(MeteredInvocationInterceptor.ERRORS)
+                .tags("method", "findById", "exception", "IllegalArgumentException").counter().count()).isEqualTo(1);
+        assertThat(registry.get(MeteredInvocationInterceptor.CALLS)
+                .tags("method", "findById", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardMapTest {
+
+    private ShardRoutingDataSource shards;
+
+    private static HikariDataSource database(String name) {
+        var dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        return dataSource;
+    }
+
+    @BeforeEach
+    void createShards() {
+        String run = UUID.randomUUID().toString();
+        List<HikariDataSource> databases = new ArrayList<>();
+        for (int shard = 0; shard < 2; shard++) {
+            var dataSource = database("map-" + shard + "-" + run);
+            var jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("create table users (id uuid primary key)");
+            jdbc.execute("create table task_lists (id uuid primary key, user_id uuid not null)");
+            jdbc.execute("create table tasks (id uuid primary key, user_id uuid not null, list_id uuid not null)");
+            jdbc.execute("create table archived_tasks (id uuid primary key, user_id uuid not null, list_id uuid not null)");
+            databases.add(dataSource);
+        }
+        var catalog = new JdbcTemplate(databases.get(0));
+        catalog.execute("create table shard_slots (slot integer primary key, shard integer not null)");
+        catalog.execute("create table shard_nodes (node varchar(36) primary key, node_id integer, seen_at timestamp not null)");
+        shards = new ShardRoutingDataSource(databases);
+    }
+
+    @AfterEach
+    void closeShards() {
+        shards.close();
+    }
+
+    private ShardMap map(int nodeId) {
+        return new ShardMap(shards, nodeId, Duration.ofMinutes(1));
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(shards.shard(shard));
+    }
+
+    private void insertUserWithList(int shard, UUID user, UUID list) {
+        jdbc(shard).update("insert into users (id) values (?)", user);
+        jdbc(shard).update("insert into task_lists (id, user_id) values (?, ?)", list, user);
+    }
+
+    @Test
+    @DisplayName("Shards vazios recebem os slots em rodízio")
+    void emptyShardsAreSeededRoundRobin() {
+        var map = map(0);
+        map.load();
+
+        assertThat(map.shardOf(10)).isZero();
+        assertThat(map.shardOf(11)).isEqualTo(1);
+        assertThat(map.otherNodes(Duration.ofMinutes(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("Banco único com dados vira o shard de todos os slots")
+    void existingDataKeepsEverySlotOnItsShard() {
+        UUID user = ShardKeys.newId(11);
+        insertUserWithList(0, user, ShardKeys.newId(11));
+
+        var map = map(0);
+        map.load();
+
+        assertThat(map.slotsPerShard()).containsExactly(ShardKeys.SLOTS, 0);
+    }
+
+    @Test
+    @DisplayName("Ids criados antes do sharding impedem a inicialização")
+    void idsOutsideTheOwnerSlotRefuseToSeed() {
+        UUID user = ShardKeys.newId(11);
+        insertUserWithList(0, user, ShardKeys.newId(12));
+
+        assertThatThrownBy(() -> map(0).load())
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("antes do sharding");
+        assertThat(jdbc(0).queryForObject("select count(*) from shard_slots", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Outra instância que carregou o mapa é vista pelas demais")
+    void nodesSeeEachOther() {
+        var first = map(1);
+        var second = map(2);
+        first.load();
+        second.load();
+
+        assertThat(first.otherNodes(Duration.ofMinutes(1))).isEqualTo(1);
+
+        second.leave();
+
+        assertThat(first.otherNodes(Duration.ofMinutes(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("Node id já usado por outra instância ativa impede a inicialização")
+    void duplicateNodeIdRefusesToStart() {
+        map(7).load();
+        var duplicate = map(7);
+
+        assertThatThrownBy(duplicate::load)
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("tasklist.node-id 7");
+        assertThat(jdbc(0).queryForObject("select count(*) from shard_nodes where node_id = 7", Integer.class)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,216 @@
+package br.com.jtech.tasklist.config.infra.sharding;
+
+import br.com.jtech.tasklist.StartTasklist;
+import br.com.jtech.tasklist.adapters.input.dtos.UserDto;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskList;
+import br.com.jtech.tasklist.application.core.domains.User;
+import br.com.jtech.tasklist.application.core.domains.UserId;
+import br.com.jtech.tasklist.application.core.services.TaskListService;
+import br.com.jtech.tasklist.application.core.services.TaskService;
+import br.com.jtech.tasklist.application.core.services.UserService;
+import br.com.jtech.tasklist.config.infra.exceptions.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two in-memory databases as shards; the default map puts even slots on shard 0 and odd slots
+ * on shard 1.
+ */
+@SpringBootTest(classes = StartTasklist.class, properties = {
+        "tasklist.sharding.enabled=true",
+        "tasklist.sharding.initialize-schema=true",
+        "tasklist.sharding.shards[0].jdbc-url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "tasklist.sharding.shards[0].username=sa",
+        "tasklist.sharding.shards[1].jdbc-url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1",
+        "tasklist.sharding.shards[1].username=sa"
+})
+@ActiveProfiles("test")
+class ShardingTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ShardRoutingDataSource shards;
+
+    @Autowired
+    private ShardRebalancer rebalancer;
+
+    @Autowired
+    private ShardMap map;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Task createTask(UserId userId, String title) {
+        TaskList list = taskListService.create(TaskList.builder().userId(userId).name("Lista " + title).build());
+        return taskService.create(Task.builder().userId(userId).listId(list.getId()).title(title).build());
+    }
+
+    private int count(int shard, String table, UserId userId) {
+        return new JdbcTemplate(shards.shard(shard)).queryForObject(
+                "select count(*) from " + table + " where user_id = ?", Integer.class, userId.value());
+    }
+
+    @Test
+    @DisplayName("Ids gerados carregam o slot informado")
+    void idsCarrySlot() {
+        UUID id = ShardKeys.newId(777);
+
+        assertThat(ShardKeys.slotOf(id)).isEqualTo(777);
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Dados do usuário ficam no shard do seu slot e são achados pelo id")
+    void rowsLiveOnOwnerShard() {
+        UserId even = new UserId(ShardKeys.newId(10));
+        UserId odd = new UserId(ShardKeys.newId(11));
+
+        Task evenTask = createTask(even, "Par");
+        Task oddTask = createTask(odd, "Ímpar");
+
+        assertThat(ShardKeys.slotOf(oddTask.getId().value())).isEqualTo(11);
+        assertThat(ShardKeys.slotOf(oddTask.getListId().value())).isEqualTo(11);
+        assertThat(count(0, "tasks", even)).isEqualTo(1);
+        assertThat(count(1, "tasks", even)).isZero();
+        assertThat(count(1, "tasks", odd)).isEqualTo(1);
+        assertThat(count(1, "task_lists", odd)).isEqualTo(1);
+        assertThat(taskService.getById(oddTask.getId(), odd)).get().extracting(Task::getTitle).isEqualTo("Ímpar");
+        assertThat(taskService.getById(evenTask.getId(), even)).get().extracting(Task::getTitle).isEqualTo("Par");
+        assertThat(taskService.getAll()).extracting(Task::getId).contains(evenTask.getId(), oddTask.getId());
+    }
+
+    @Test
+    @DisplayName("Transação não atravessa shards")
+    void transactionStaysOnOneShard() {
+        UserId even = new UserId(ShardKeys.newId(20));
+        UserId odd = new UserId(ShardKeys.newId(21));
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.getByUser(even);
+            taskService.getByUser(odd);
+        })).isInstanceOf(IllegalStateException.class).hasMessageContaining("mais de um shard");
+    }
+
+    @Test
+    @DisplayName("Login encontra o usuário em qualquer shard")
+    void loginFindsUserOnAnyShard() {
+        var user = userService.create(new UserDto("Ana", "ana.shard@test.com", "senha123"));
+
+        assertThat(userService.login("ana.shard@test.com", "senha123").getId()).isEqualTo(user.getId());
+        assertThat(userService.getById(user.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Cadastros concorrentes com o mesmo email criam um só usuário")
+    void concurrentSignUpsKeepEmailUnique() throws Exception {
+        String email = "corrida.shard@test.com";
+        List<Future<User>> signUps = new ArrayList<>();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                signUps.add(executor.submit(() -> userService.create(new UserDto("Ana", email, "senha123"))));
+            }
+        }
+
+        List<User> created = new ArrayList<>();
+        for (Future<User> signUp : signUps) {
+            try {
+                created.add(signUp.get());
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(BusinessException.class);
+            }
+        }
+        assertThat(created).hasSize(1);
+        int rows = 0;
+        for (int shard = 0; shard < shards.shardCount(); shard++) {
+            rows += new JdbcTemplate(shards.shard(shard)).queryForObject(
+                    "select count(*) from users where email = ?", Integer.class, email);
+        }
+        assertThat(rows).isEqualTo(1);
+        assertThat(ShardKeys.slotOf(created.get(0).getId().value())).isEqualTo(ShardKeys.slotOfEmail(email));
+        assertThat(userService.login(email, "senha123").getId()).isEqualTo(created.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Mover slot leva os dados ao novo shard sem interromper leituras")
+    void moveSlotRelocatesRows() {
+        UserId odd = new UserId(ShardKeys.newId(31));
+        Task task = createTask(odd, "Migrar");
+
+        rebalancer.moveSlot(31, 0);
+        try {
+            assertThat(map.shardOf(31)).isZero();
+            assertThat(count(0, "tasks", odd)).isEqualTo(1);
+            assertThat(count(0, "task_lists", odd)).isEqualTo(1);
+            assertThat(count(1, "tasks", odd)).isZero();
+            assertThat(count(1, "task_lists", odd)).isZero();
+            assertThat(taskService.getById(task.getId(), odd)).isPresent();
+            assertThat(taskService.getAll()).extracting(Task::getId).containsOnlyOnce(task.getId());
+
+            Task second = taskService.create(Task.builder().userId(odd).listId(task.getListId()).title("Depois").build());
+            assertThat(count(0, "tasks", odd)).isEqualTo(2);
+            assertThat(ShardKeys.slotOf(second.getId().value())).isEqualTo(31);
+        } finally {
+            rebalancer.moveSlot(31, 1);
+        }
+        assertThat(count(1, "tasks", odd)).isEqualTo(2);
+        assertThat(count(0, "tasks", odd)).isZero();
+    }
+
+    @Test
+    @DisplayName("Slot da metade alta do espaço de ids também é movido pelo intervalo do slot")
+    void moveHighSlot() {
+        UserId odd = new UserId(ShardKeys.newId(1001));
+        createTask(odd, "Alto");
+
+        rebalancer.moveSlot(1001, 0);
+        try {
+            assertThat(count(0, "tasks", odd)).isEqualTo(1);
+            assertThat(count(1, "tasks", odd)).isZero();
+        } finally {
+            rebalancer.moveSlot(1001, 1);
+        }
+        assertThat(count(1, "tasks", odd)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Mover slot é recusado enquanto outra instância está no ar")
+    void moveSlotRefusedWithOtherNodes() {
+        var catalog = new JdbcTemplate(shards.shard(0));
+        catalog.update("insert into shard_nodes (node, seen_at) values (?, ?)", "outro-no", Timestamp.from(Instant.now()));
+        try {
+            assertThatThrownBy(() -> rebalancer.moveSlot(41, 0))
+                    .isInstanceOf(IllegalStateException.class).hasMessageContaining("outra(s) instância(s)");
+            assertThat(map.shardOf(41)).isEqualTo(1);
+        } finally {
+            catalog.update("delete from shard_nodes where node = ?", "outro-no");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helpers to pin how many SQL statements a piece of code or an endpoint issues.
+ */
+public final class StatementAssertions {
+
+    private StatementAssertions() {
+    }
+
+    /** Runs {@code action} and fails if it prepared more than {@code max} statements. */
+    public static <T> T assertAtMostStatements(int max, Callable<T> action) throws Exception {
+        try (var scope = StatementCounter.open()) {
+            T result = action.call();
+            assertThat(scope.count()).as("SQL statements issued").isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+
+    /** Matches when the handler stayed within its {@link StatementBudget}. */
+    public static ResultMatcher withinStatementBudget() {
+        return result -> {
+            Integer count = statements(result);
+            Integer budget = (Integer) result.getRequest().getAttribute(StatementBudgetInterceptor.BUDGET_ATTRIBUTE);
+            assertThat(count).as("SQL statements issued by the handler").isNotNull().isLessThanOrEqualTo(budget);
+        };
+    }
+
+    /** Matches when the handler issued at most {@code max} statements. */
+    public static ResultMatcher atMostStatements(int max) {
+        return result -> assertThat(statements(result)).as("SQL statements issued by the handler")
+                .isNotNull().isLessThanOrEqualTo(max);
+    }
+
+    public static int statements(ResultActions actions) {
+        return statements(actions.andReturn());
+    }
+
+    private static Integer statements(MvcResult result) {
+        return (Integer) result.getRequest().getAttribute(StatementBudgetInterceptor.COUNT_ATTRIBUTE);
+    }
+}
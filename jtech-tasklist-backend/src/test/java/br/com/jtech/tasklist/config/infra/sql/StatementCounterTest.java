@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTest {
+
+    @Test
+    @DisplayName("Escopos aninhados contam as mesmas instruções")
+    void nestedScopesCountStatements() {
+        try (var outer = StatementCounter.open()) {
+            StatementCounter.record("select 1");
+            try (var inner = StatementCounter.open()) {
+                StatementCounter.record("select 2");
+                assertThat(inner.count()).isEqualTo(1);
+            }
+            StatementCounter.record("select 3");
+            assertThat(outer.count()).isEqualTo(3);
+        }
+        StatementCounter.record("select 4");
+    }
+
+    @Test
+    @DisplayName("Instrução repetida acima do limite indica N+1")
+    void repeatedStatementsAreReported() {
+        try (var scope = StatementCounter.open()) {
+            StatementCounter.record("select * from task_lists");
+            for (int i = 0; i < 5; i++) {
+                StatementCounter.record("select * from tasks where list_id=?");
+            }
+
+            assertThat(scope.repeated(5)).containsOnlyKeys("select * from tasks where list_id=?");
+            assertThat(scope.repeated(5)).containsEntry("select * from tasks where list_id=?", 5);
+        }
+    }
+}
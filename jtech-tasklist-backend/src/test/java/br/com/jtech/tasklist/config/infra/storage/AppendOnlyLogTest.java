@@ -0,0 +1,153 @@
+package br.com.jtech.tasklist.config.infra.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppendOnlyLogTest {
+
+    @TempDir
+    private Path dir;
+
+    private List<String> snapshots = new ArrayList<>();
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<String> recover(AppendOnlyLog log) {
+        List<String> records = new ArrayList<>();
+        snapshots = new ArrayList<>();
+        log.recover(s -> snapshots.add(new String(s, StandardCharsets.UTF_8)),
+                r -> records.add(new String(r, StandardCharsets.UTF_8)));
+        return records;
+    }
+
+    @Test
+    @DisplayName("Registros gravados são relidos na recuperação")
+    void replaysRecords() {
+        var log = new AppendOnlyLog(dir, 4096, false);
+        recover(log);
+        log.append(bytes("um"));
+        log.append(bytes("dois"));
+        log.close();
+
+        assertThat(recover(new AppendOnlyLog(dir, 4096, false))).containsExactly("um", "dois");
+        assertThat(snapshots).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Registro com CRC inválido encerra o log e é descartado")
+    void discardsCorruptTail() throws IOException {
+        var log = new AppendOnlyLog(dir, 4096, false);
+        recover(log);
+        log.append(bytes("inteiro"));
+        log.append(bytes("rasgado"));
+        log.close();
+        try (var file = new RandomAccessFile(dir.resolve("log-0.bin").toFile(), "rw")) {
+            file.seek(8 + "inteiro".length() + 8);
+            file.write('X');
+        }
+
+        var recovered = new AppendOnlyLog(dir, 4096, false);
+        assertThat(recover(recovered)).containsExactly("inteiro");
+        recovered.append(bytes("depois"));
+        recovered.close();
+
+        assertThat(recover(new AppendOnlyLog(dir, 4096, false))).containsExactly("inteiro", "depois");
+    }
+
+    @Test
+    @DisplayName("Snapshot substitui o log e a recuperação reaplica só a cauda")
+    void snapshotThenTail() throws IOException {
+        var log = new AppendOnlyLog(dir, 4096, false);
+        recover(log);
+        log.append(bytes("antes"));
+        log.snapshot(bytes("estado"));
+        log.append(bytes("cauda"));
+        log.close();
+
+        var recovered = new AppendOnlyLog(dir, 4096, false);
+        assertThat(recover(recovered)).containsExactly("cauda");
+        assertThat(snapshots).containsExactly("estado");
+        assertThat(recovered.generation()).isEqualTo(1);
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString())).containsExactlyInAnyOrder("snapshot-1.bin", "log-1.bin");
+        }
+    }
+
+    @Test
+    @DisplayName("Logs rotacionados sem snapshot são todos reaplicados, em ordem")
+    void rotatedLogsWithoutSnapshot() {
+        var log = new AppendOnlyLog(dir, 4096, false);
+        recover(log);
+        log.append(bytes("primeiro"));
+        log.rotate();
+        log.append(bytes("segundo"));
+        log.close();
+
+        var recovered = new AppendOnlyLog(dir, 4096, false);
+        assertThat(recover(recovered)).containsExactly("primeiro", "segundo");
+        assertThat(snapshots).isEmpty();
+        assertThat(recovered.generation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Snapshot gravado depois da rotação mantém o que foi anexado enquanto era escrito")
+    void snapshotWrittenAfterRotation() throws IOException {
+        var log = new AppendOnlyLog(dir, 4096, false);
+        recover(log);
+        log.append(bytes("antes"));
+        long generation = log.rotate();
+        log.append(bytes("durante"));
+        log.snapshot(generation, bytes("estado"));
+        log.append(bytes("depois"));
+        log.close();
+
+        assertThat(recover(new AppendOnlyLog(dir, 4096, false))).containsExactly("durante", "depois");
+        assertThat(snapshots).containsExactly("estado");
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString())).containsExactlyInAnyOrder("snapshot-1.bin", "log-1.bin");
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot corrompido impede a recuperação")
+    void corruptSnapshotFails() throws IOException {
+        var log = new AppendOnlyLog(dir, 4096, false);
+        recover(log);
+        log.snapshot(bytes("estado"));
+        log.close();
+        try (var file = new RandomAccessFile(dir.resolve("snapshot-1.bin").toFile(), "rw")) {
+            file.seek(8);
+            file.write('X');
+        }
+
+        assertThatThrownBy(() -> recover(new AppendOnlyLog(dir, 4096, false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("corrompido");
+    }
+
+    @Test
+    @DisplayName("Registro maior que o espaço livre é recusado")
+    void rejectsRecordThatDoesNotFit() {
+        var log = new AppendOnlyLog(dir, 32, false);
+        recover(log);
+
+        assertThat(log.fits(24)).isTrue();
+        assertThat(log.fits(25)).isFalse();
+        assertThatThrownBy(() -> log.append(new byte[25])).isInstanceOf(IllegalStateException.class);
+        log.close();
+    }
+}
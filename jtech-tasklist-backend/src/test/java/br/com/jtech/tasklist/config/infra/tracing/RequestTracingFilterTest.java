@@ -0,0 +1,96 @@
+package br.com.jtech.tasklist.config.infra.tracing;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTracingFilterTest {
+
+    private final TracingHandlerInterceptor handler = new TracingHandlerInterceptor();
+
+    private MockFilterChain chain(AtomicReference<RequestTrace> seen) {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    seen.set(RequestTrace.current());
+                    handler.preHandle(null, null, null);
+                    var trace = RequestTrace.current();
+                    if (trace != null) {
+                        trace.serviceEntered();
+                        trace.serviceEntered();
+                        trace.statementPrepared("select 1");
+                        trace.statementStarted();
+                        trace.statementFinished();
+                        trace.serviceExited();
+                        trace.serviceExited();
+                    }
+                    handler.beforeBodyWrite(null, null, null, null, null, null);
+                    response.getWriter().write("[]");
+                    handler.postHandle(null, null, null, null);
+                    handler.afterCompletion(null, null, null, null);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Requisição amostrada registra fases e envia Server-Timing")
+    void sampledRequestRecordsPhases() throws Exception {
+        var log = new SlowRequestLog(8);
+        var filter = new RequestTracingFilter(log, 1.0, true);
+        var response = new MockHttpServletResponse();
+        var seen = new AtomicReference<RequestTrace>();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/list/1"), response, chain(seen));
+
+        assertThat(seen.get()).isNotNull();
+        assertThat(RequestTrace.current()).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(response.getHeader(RequestTracingFilter.SERVER_TIMING))
+                .contains("filters;dur=", "service;dur=", "db;dur=", "serialization;dur=", "desc=\"1 sql\"");
+        var snapshot = log.slowest(1).get(0);
+        assertThat(snapshot.path()).isEqualTo("/tasks/list/1");
+        assertThat(snapshot.statementCount()).isEqualTo(1);
+        assertThat(snapshot.statements().get(0).sql()).isEqualTo("select 1");
+        assertThat(snapshot.phases()).containsOnlyKeys("filters", "controller", "service", "db", "serialization");
+    }
+
+    @Test
+    @DisplayName("Requisição não amostrada não é rastreada")
+    void unsampledRequestIsNotTraced() throws Exception {
+        var log = new SlowRequestLog(8);
+        var filter = new RequestTracingFilter(log, 0, false);
+        var response = new MockHttpServletResponse();
+        var seen = new AtomicReference<RequestTrace>();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks"), response, chain(seen));
+
+        assertThat(seen.get()).isNull();
+        assertThat(response.getHeader(RequestTracingFilter.SERVER_TIMING)).isNull();
+        assertThat(log.slowest(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Log retorna as requisições mais lentas da janela recente")
+    void logKeepsSlowestOfRecentWindow() {
+        var log = new SlowRequestLog(3);
+        for (int ms : new int[]{50, 10, 30, 20, 40}) {
+            log.record(new RequestTrace.Snapshot(null, "GET", "/" + ms, 200, ms, Map.of(), 0, List.of()));
+        }
+
+        assertThat(log.slowest(2)).extracting(RequestTrace.Snapshot::path).containsExactly("/40", "/30");
+    }
+}